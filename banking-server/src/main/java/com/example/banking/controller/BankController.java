@@ -1,19 +1,22 @@
 package com.example.banking.controller;
 
 import com.example.banking.dto.*;
+import com.example.banking.history.TransactionHistoryStore;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.util.List;
 
 @Slf4j
 @RestController
+@RequiredArgsConstructor
 @RequestMapping("/api/bank")
 public class BankController {
 
+    private final TransactionHistoryStore historyStore;
+
     @GetMapping("/accounts")
     public ResponseEntity<BankResponse<List<AccountDto>>> getAccounts() {
         log.info("[Banking] GET /api/bank/accounts - 계좌목록조회 요청");
@@ -75,10 +78,12 @@ public class BankController {
     public ResponseEntity<BankResponse<?>> getTransactions(
             @PathVariable String accountNo,
             @RequestParam(required = false) String fromDate,
-            @RequestParam(required = false) String toDate) {
+            @RequestParam(required = false) String toDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
 
-        log.info("[Banking] GET /api/bank/accounts/{}/transactions - 거래내역조회 요청 (from={}, to={})",
-                accountNo, fromDate, toDate);
+        log.info("[Banking] GET /api/bank/accounts/{}/transactions - 거래내역조회 요청 (from={}, to={}, cursor={}, size={})",
+                accountNo, fromDate, toDate, cursor, size);
 
         // 존재하지 않는 계좌
         if ("999-999-999".equals(accountNo)) {
@@ -86,36 +91,14 @@ public class BankController {
             return ResponseEntity.ok(BankResponse.error("E001", "계좌를 찾을 수 없습니다"));
         }
 
-        String baseDate = fromDate != null ? fromDate : LocalDate.now().minusMonths(1)
-                .format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-
-        List<TransactionDto> transactions = List.of(
-                TransactionDto.builder()
-                        .transactionId("TR001")
-                        .transactionDate(baseDate)
-                        .description("급여입금")
-                        .transactionType("DEPOSIT")
-                        .amount(3_500_000L)
-                        .balanceAfter(5_000_000L)
-                        .build(),
-                TransactionDto.builder()
-                        .transactionId("TR002")
-                        .transactionDate(baseDate)
-                        .description("카드대금")
-                        .transactionType("WITHDRAWAL")
-                        .amount(450_000L)
-                        .balanceAfter(4_550_000L)
-                        .build(),
-                TransactionDto.builder()
-                        .transactionId("TR003")
-                        .transactionDate(baseDate)
-                        .description("공과금납부")
-                        .transactionType("WITHDRAWAL")
-                        .amount(120_000L)
-                        .balanceAfter(4_430_000L)
-                        .build()
-        );
-        log.info("[Banking] 거래내역조회 응답: {} 건", transactions.size());
-        return ResponseEntity.ok(BankResponse.success(transactions));
+        TransactionHistoryStore.TransactionPage page;
+        try {
+            page = historyStore.find(accountNo, fromDate, toDate, cursor, size);
+        } catch (IllegalArgumentException e) {
+            log.warn("[Banking] 거래내역조회 실패 - BAD_REQUEST: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(BankResponse.error("BAD_REQUEST", e.getMessage()));
+        }
+        log.info("[Banking] 거래내역조회 응답: {} 건 (next={})", page.items().size(), page.nextCursor());
+        return ResponseEntity.ok(BankResponse.page(page.items(), page.nextCursor()));
     }
 }
@@ -1,5 +1,6 @@
 package com.example.banking.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -20,6 +21,11 @@ public class BankResponse<T> {
 
     private T data;
 
+    /** 다음 페이지 커서 (페이지 조회에서 마지막 페이지가 아닐 때만) */
+    @JsonProperty("next_cursor")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+
     public static <T> BankResponse<T> success(T data) {
         return BankResponse.<T>builder()
                 .resultCode("0000")
@@ -28,6 +34,15 @@ public class BankResponse<T> {
                 .build();
     }
 
+    public static <T> BankResponse<T> page(T data, String nextCursor) {
+        return BankResponse.<T>builder()
+                .resultCode("0000")
+                .resultMsg("성공")
+                .data(data)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
     public static <T> BankResponse<T> error(String code, String message) {
         return BankResponse.<T>builder()
                 .resultCode(code)
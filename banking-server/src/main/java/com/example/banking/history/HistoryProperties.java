@@ -0,0 +1,43 @@
+package com.example.banking.history;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * banking.history 설정: 계좌별 합성 거래내역.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "banking.history")
+public class HistoryProperties {
+
+    /** 같은 seed + 계좌번호 + 건수 + 기간이면 같은 거래내역 */
+    private long seed = 20240101L;
+
+    /** 계좌당 기본 거래 건수 */
+    private int size = 1000;
+
+    /** 계좌번호별 거래 건수 (기본 건수 대신 사용) */
+    private Map<String, Integer> sizes = new HashMap<>();
+
+    /** 거래내역 기간 (일) */
+    private int days = 365;
+
+    /** 거래내역 마지막 날짜 (기동일과 무관하게 재현되도록 고정) */
+    private LocalDate endDate = LocalDate.of(2024, 12, 31);
+
+    /** size 를 보낸 페이지 조회의 최대 페이지 크기 */
+    private int maxPageSize = 10_000;
+
+    /** 메모리에 유지하는 계좌 수 (초과 시 가장 오래 안 쓴 계좌부터 버리고 필요하면 다시 생성) */
+    private int maxCachedAccounts = 16;
+
+    public int sizeOf(String accountNo) {
+        return sizes.getOrDefault(accountNo, size);
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.banking.history;
+
+import com.example.banking.dto.TransactionDto;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 계좌 하나의 합성 거래내역. 날짜 오름차순으로 정렬된 컬럼 배열로 보관한다.
+ * <p>
+ * 수백만 건도 행당 약 20바이트로 유지하고, 날짜 구간은 날짜 컬럼의 이진 탐색으로 찾는다.
+ * 응답용 {@link TransactionDto} 는 요청된 페이지만큼만 만든다.
+ */
+final class TransactionHistory {
+
+    private static final String[] DEPOSITS = {"급여입금", "이자입금", "타행입금", "환불입금", "용돈입금"};
+    private static final String[] WITHDRAWALS = {"카드대금", "공과금납부", "통신비", "보험료", "이체출금", "ATM출금", "관리비"};
+    private static final long INITIAL_BALANCE = 1_000_000L;
+
+    private final int[] dates;
+    private final long[] amounts;
+    private final long[] balances;
+    private final boolean[] deposits;
+    private final byte[] descriptions;
+
+    private TransactionHistory(int size) {
+        this.dates = new int[size];
+        this.amounts = new long[size];
+        this.balances = new long[size];
+        this.deposits = new boolean[size];
+        this.descriptions = new byte[size];
+    }
+
+    /**
+     * endDate 까지 days 일 동안 size 건을 고르게 배치한다. 금액과 적요는 seed 와 계좌번호로 정해진다.
+     */
+    static TransactionHistory generate(String accountNo, int size, LocalDate endDate, int days, long seed) {
+        TransactionHistory history = new TransactionHistory(size);
+        int[] dayCodes = new int[days];
+        LocalDate day = endDate.minusDays(days - 1L);
+        for (int i = 0; i < days; i++, day = day.plusDays(1)) {
+            dayCodes[i] = dateCode(day);
+        }
+        SplittableRandom random = new SplittableRandom(seed * 31 + accountNo.hashCode());
+        long balance = INITIAL_BALANCE;
+        for (int i = 0; i < size; i++) {
+            history.dates[i] = dayCodes[(int) ((long) i * days / size)];
+            // 1천원 ~ 5백만원 로그 균등, 100원 단위
+            long amount = Math.round(1_000 * Math.pow(5_000, random.nextDouble()) / 100) * 100;
+            boolean deposit = random.nextDouble() < 0.35 || amount > balance;
+            balance += deposit ? amount : -amount;
+            history.amounts[i] = amount;
+            history.balances[i] = balance;
+            history.deposits[i] = deposit;
+            history.descriptions[i] = (byte) random.nextInt(deposit ? DEPOSITS.length : WITHDRAWALS.length);
+        }
+        return history;
+    }
+
+    static int dateCode(LocalDate date) {
+        return date.getYear() * 10_000 + date.getMonthValue() * 100 + date.getDayOfMonth();
+    }
+
+    int size() {
+        return dates.length;
+    }
+
+    /**
+     * @return dateCode 이상인 첫 행 (없으면 size)
+     */
+    int lowerBound(int dateCode) {
+        int low = 0;
+        int high = dates.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (dates[mid] < dateCode) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    List<TransactionDto> rows(int from, int to) {
+        List<TransactionDto> rows = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            rows.add(row(i));
+        }
+        return rows;
+    }
+
+    TransactionDto row(int index) {
+        return TransactionDto.builder()
+                .transactionId(String.format("TR%010d", index + 1))
+                .transactionDate(Integer.toString(dates[index]))
+                .description(deposits[index] ? DEPOSITS[descriptions[index]] : WITHDRAWALS[descriptions[index]])
+                .transactionType(deposits[index] ? "DEPOSIT" : "WITHDRAWAL")
+                .amount(amounts[index])
+                .balanceAfter(balances[index])
+                .build();
+    }
+}
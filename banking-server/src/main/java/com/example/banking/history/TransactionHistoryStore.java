@@ -0,0 +1,126 @@
+package com.example.banking.history;
+
+import com.example.banking.dto.TransactionDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 계좌별 합성 거래내역 조회. 거래내역은 처음 조회할 때 만들고 최근 사용한 계좌 몇 개만 메모리에 둔다.
+ * <p>
+ * 페이지는 커서 기반이다. 커서는 다음 페이지 첫 행 위치를 담은 불투명 문자열이며,
+ * 같은 계좌/기간 조건과 함께 보내야 한다. 마지막 페이지에서는 nextCursor 가 없다.
+ * cursor 와 size 를 모두 보내지 않으면 기존처럼 기간 전체를 한 번에 준다.
+ */
+@Slf4j
+@Component
+public class TransactionHistoryStore {
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final HistoryProperties properties;
+    private final LocalDate endDate;
+    private final Map<String, TransactionHistory> histories;
+
+    public TransactionHistoryStore(HistoryProperties properties) {
+        if (properties.getSize() <= 0 || properties.getDays() <= 0 || properties.getEndDate() == null
+                || properties.getMaxPageSize() <= 0 || properties.getMaxCachedAccounts() < 1) {
+            throw new IllegalArgumentException("banking.history 설정이 올바르지 않습니다: " + properties);
+        }
+        this.properties = properties;
+        this.endDate = properties.getEndDate();
+        int maxCachedAccounts = properties.getMaxCachedAccounts();
+        // 생성 중에는 다른 계좌 조회도 기다린다 (Mock 서버라 단순함을 택함)
+        this.histories = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, TransactionHistory> eldest) {
+                return size() > maxCachedAccounts;
+            }
+        });
+    }
+
+    public LocalDate endDate() {
+        return endDate;
+    }
+
+    /**
+     * @param fromDate yyyyMMdd (없으면 마지막 날짜의 한 달 전)
+     * @param toDate   yyyyMMdd, 해당 일 포함 (없으면 마지막 날짜)
+     * @param cursor   이전 페이지의 nextCursor (없으면 첫 페이지)
+     * @param size     페이지 크기 (cursor 도 없으면 기간 전체, cursor 만 있으면 최대 크기)
+     * @throws IllegalArgumentException 날짜, 커서, 페이지 크기가 올바르지 않은 경우
+     */
+    public TransactionPage find(String accountNo, String fromDate, String toDate, String cursor, Integer size) {
+        int from = fromDate != null ? parseDate("fromDate", fromDate) : TransactionHistory.dateCode(endDate.minusMonths(1));
+        int to = toDate != null ? parseDate("toDate", toDate) : TransactionHistory.dateCode(endDate);
+        boolean unpaged = size == null && cursor == null;
+        int pageSize = size != null ? size : properties.getMaxPageSize();
+        if (pageSize <= 0 || pageSize > properties.getMaxPageSize()) {
+            throw new IllegalArgumentException("size 는 1~" + properties.getMaxPageSize() + " 이어야 합니다");
+        }
+
+        TransactionHistory history = history(accountNo);
+        int start = history.lowerBound(from);
+        // yyyyMMdd 정수 비교이므로 to + 1 은 to 다음 날 이후 첫 행
+        int end = Math.max(start, history.lowerBound(to + 1));
+        if (unpaged) {
+            return new TransactionPage(history.rows(start, end), null);
+        }
+        if (cursor != null) {
+            int position = decodeCursor(cursor);
+            if (position < start || position > end) {
+                throw new IllegalArgumentException("조회 조건에 맞지 않는 cursor 입니다");
+            }
+            start = position;
+        }
+        int pageEnd = (int) Math.min(end, (long) start + pageSize);
+        return new TransactionPage(history.rows(start, pageEnd), pageEnd < end ? encodeCursor(pageEnd) : null);
+    }
+
+    TransactionHistory history(String accountNo) {
+        return histories.computeIfAbsent(accountNo, key -> {
+            long startNanos = System.nanoTime();
+            TransactionHistory history = TransactionHistory.generate(key, properties.sizeOf(key), endDate,
+                    properties.getDays(), properties.getSeed());
+            log.info("[Banking] 거래내역 생성: account={}, {} 건, {} ms", key, history.size(),
+                    (System.nanoTime() - startNanos) / 1_000_000);
+            return history;
+        });
+    }
+
+    private static int parseDate(String name, String value) {
+        try {
+            return TransactionHistory.dateCode(LocalDate.parse(value, DATE_FORMAT));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(name + " 는 yyyyMMdd 형식이어야 합니다: " + value);
+        }
+    }
+
+    private static String encodeCursor(int position) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Integer.toString(position).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static int decodeCursor(String cursor) {
+        try {
+            return Integer.parseInt(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("유효하지 않은 cursor 입니다: " + cursor);
+        }
+    }
+
+    /**
+     * @param nextCursor 다음 페이지 커서 (마지막 페이지면 null)
+     */
+    public record TransactionPage(List<TransactionDto> items, String nextCursor) {
+    }
+}
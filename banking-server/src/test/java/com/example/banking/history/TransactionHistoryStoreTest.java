@@ -0,0 +1,118 @@
+package com.example.banking.history;
+
+import com.example.banking.dto.TransactionDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("합성 거래내역 조회/페이지 테스트")
+class TransactionHistoryStoreTest {
+
+    private static HistoryProperties properties(long seed) {
+        HistoryProperties properties = new HistoryProperties();
+        properties.setSeed(seed);
+        properties.setEndDate(LocalDate.of(2024, 12, 31));
+        properties.setSizes(Map.of("110-001-000000", 1_000_000));
+        return properties;
+    }
+
+    private static List<TransactionDto> all(TransactionHistoryStore store, String accountNo, String from, String to, int size) {
+        List<TransactionDto> rows = new ArrayList<>();
+        String cursor = null;
+        do {
+            TransactionHistoryStore.TransactionPage page = store.find(accountNo, from, to, cursor, size);
+            assertTrue(page.items().size() <= size);
+            rows.addAll(page.items());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        return rows;
+    }
+
+    @Test
+    @DisplayName("같은 seed 와 계좌번호는 같은 거래내역을, 다른 seed 는 다른 거래내역을 만든다")
+    void deterministic() {
+        List<TransactionDto> first = all(new TransactionHistoryStore(properties(1)), "110-234-567890", "20240101", "20241231", 500);
+        List<TransactionDto> again = all(new TransactionHistoryStore(properties(1)), "110-234-567890", "20240101", "20241231", 500);
+        List<TransactionDto> otherSeed = all(new TransactionHistoryStore(properties(2)), "110-234-567890", "20240101", "20241231", 500);
+
+        assertEquals(1000, first.size());
+        assertEquals(first, again);
+        assertNotEquals(first, otherSeed);
+        for (TransactionDto row : first) {
+            assertTrue(row.getAmount() > 0 && row.getBalanceAfter() >= 0, row.toString());
+        }
+    }
+
+    @Test
+    @DisplayName("커서를 따라가면 기간 안의 거래를 빠짐없이 날짜순으로 한 번씩 받는다")
+    void cursorPagination() {
+        TransactionHistoryStore store = new TransactionHistoryStore(properties(1));
+
+        List<TransactionDto> rows = all(store, "110-001-000000", "20240301", "20240331", 7_000);
+
+        assertEquals(rows.size(), rows.stream().map(TransactionDto::getTransactionId).distinct().count());
+        assertEquals("20240301", rows.get(0).getTransactionDate());
+        assertEquals("20240331", rows.get(rows.size() - 1).getTransactionDate());
+        for (int i = 1; i < rows.size(); i++) {
+            assertTrue(rows.get(i - 1).getTransactionDate().compareTo(rows.get(i).getTransactionDate()) <= 0);
+        }
+        // 1백만 건 / 365일, 31일
+        assertEquals(1_000_000.0 * 31 / 365, rows.size(), 31);
+        assertTrue(store.find("110-001-000000", "20240301", "20240301", null, 10).nextCursor() != null);
+    }
+
+    @Test
+    @DisplayName("기간 밖이거나 빈 기간은 빈 페이지를, 잘못된 날짜/커서/크기는 IllegalArgumentException 을 돌려준다")
+    void invalidRequests() {
+        TransactionHistoryStore store = new TransactionHistoryStore(properties(1));
+        String cursor = store.find("110-234-567890", "20240101", "20241231", null, 10).nextCursor();
+
+        assertTrue(store.find("110-234-567890", "20230101", "20230131", null, 10).items().isEmpty());
+        assertTrue(store.find("110-234-567890", "20240201", "20240101", null, 10).items().isEmpty());
+        assertNull(store.find("110-234-567890", "20240201", "20240101", null, 10).nextCursor());
+        assertThrows(IllegalArgumentException.class, () -> store.find("110-234-567890", "2024-01-01", null, null, 10));
+        assertThrows(IllegalArgumentException.class, () -> store.find("110-234-567890", null, null, "!!", 10));
+        assertThrows(IllegalArgumentException.class, () -> store.find("110-234-567890", "20241201", "20241231", cursor, 10));
+        assertThrows(IllegalArgumentException.class, () -> store.find("110-234-567890", null, null, null, 0));
+        assertThrows(IllegalArgumentException.class, () -> store.find("110-234-567890", null, null, null, 10_001));
+    }
+
+    @Test
+    @DisplayName("cursor/size 없이 조회하면 기간 전체를 커서 없이 주고, 날짜가 없으면 마지막 날짜까지 한 달 구간을 쓴다")
+    void unpagedDefaultRange() {
+        TransactionHistoryStore store = new TransactionHistoryStore(properties(1));
+
+        TransactionHistoryStore.TransactionPage month = store.find("110-234-567890", null, null, null, null);
+        TransactionHistoryStore.TransactionPage year = store.find("110-234-567890", "20240101", "20241231", null, null);
+
+        assertFalse(month.items().isEmpty());
+        assertNull(month.nextCursor());
+        assertTrue(month.items().get(0).getTransactionDate().compareTo("20241130") >= 0);
+        assertEquals(1000, year.items().size());
+        assertNull(year.nextCursor());
+    }
+
+    @Test
+    @DisplayName("기본 마지막 날짜는 기동일이 아니라 고정된 2024-12-31 이다")
+    void fixedDefaultEndDate() {
+        assertEquals(LocalDate.of(2024, 12, 31), new TransactionHistoryStore(new HistoryProperties()).endDate());
+    }
+
+    @Test
+    @DisplayName("잘못된 설정(유지 계좌 수 0 등)은 기동 시 IllegalArgumentException 을 던진다")
+    void invalidProperties() {
+        HistoryProperties noCache = properties(1L);
+        noCache.setMaxCachedAccounts(0);
+        HistoryProperties noPage = properties(1L);
+        noPage.setMaxPageSize(0);
+
+        assertThrows(IllegalArgumentException.class, () -> new TransactionHistoryStore(noCache));
+        assertThrows(IllegalArgumentException.class, () -> new TransactionHistoryStore(noPage));
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.mock.fault;
+
+import lombok.Data;
+
+/**
+ * 시간대별 성능 저하 구간. 프로파일 적용 시각 기준으로 start 부터 duration 동안 적용하고,
+ * period 가 있으면 그 주기로 반복한다 (단위: ms).
+ */
+@Data
+public class Brownout {
+
+    private long start;
+    private long duration;
+    private long period;
+
+    /** 구간 안에서 샘플링한 지연에 곱하는 배수 */
+    private double latencyMultiplier = 1.0;
+
+    /** 구간 안에서 평시 오류율 대신 사용 (없으면 평시 오류율 유지) */
+    private ErrorRates errors;
+
+    public boolean activeAt(long elapsedMillis) {
+        if (elapsedMillis < start) {
+            return false;
+        }
+        long offset = elapsedMillis - start;
+        if (period > 0) {
+            offset %= period;
+        }
+        return offset < duration;
+    }
+
+    void validate(String rule) {
+        if (start < 0 || duration <= 0 || period < 0 || latencyMultiplier < 0) {
+            throw new IllegalArgumentException(rule + ": brownout 구간 설정이 올바르지 않습니다");
+        }
+        if (period > 0 && period < duration) {
+            throw new IllegalArgumentException(rule + ": brownout period 가 duration 보다 짧습니다");
+        }
+        if (errors != null) {
+            errors.validate(rule + " brownout");
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.mock.fault;
+
+import lombok.Data;
+
+/**
+ * 장애 종류별 주입 확률 (0~1, 합계 1 이하).
+ */
+@Data
+public class ErrorRates {
+
+    private double serverError;
+    private double businessError;
+    private double connectionReset;
+    private double slowBody;
+
+    /**
+     * @param r [0, 1) 난수
+     */
+    public Fault pick(double r) {
+        if ((r -= serverError) < 0) {
+            return Fault.SERVER_ERROR;
+        }
+        if ((r -= businessError) < 0) {
+            return Fault.BUSINESS_ERROR;
+        }
+        if ((r -= connectionReset) < 0) {
+            return Fault.CONNECTION_RESET;
+        }
+        if (r - slowBody < 0) {
+            return Fault.SLOW_BODY;
+        }
+        return Fault.NONE;
+    }
+
+    void validate(String rule) {
+        if (serverError < 0 || businessError < 0 || connectionReset < 0 || slowBody < 0) {
+            throw new IllegalArgumentException(rule + ": 오류율은 0 이상이어야 합니다");
+        }
+        if (serverError + businessError + connectionReset + slowBody > 1.0) {
+            throw new IllegalArgumentException(rule + ": 오류율 합계가 1 을 넘습니다");
+        }
+    }
+}
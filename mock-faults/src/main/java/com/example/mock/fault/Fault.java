@@ -0,0 +1,22 @@
+package com.example.mock.fault;
+
+/**
+ * 요청 하나에 주입하는 장애 종류.
+ */
+public enum Fault {
+
+    /** 장애 없이 정상 처리 (지연만 적용) */
+    NONE,
+
+    /** 5xx 응답 */
+    SERVER_ERROR,
+
+    /** HTTP 200 + 기관 봉투의 오류코드 */
+    BUSINESS_ERROR,
+
+    /** 헤더와 본문 일부만 보내고 커넥션을 끊음 */
+    CONNECTION_RESET,
+
+    /** 정상 본문을 조금씩 천천히 전송 */
+    SLOW_BODY
+}
@@ -0,0 +1,65 @@
+package com.example.mock.fault;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * 실행 중 장애 프로파일 조회/교체.
+ */
+@RestController
+@RequestMapping(FaultAdminController.PATH)
+public class FaultAdminController {
+
+    public static final String PATH = "/admin/fault-profile";
+
+    private final FaultInjector injector;
+    private final FaultProfileLoader loader;
+
+    public FaultAdminController(FaultInjector injector, FaultProfileLoader loader) {
+        this.injector = injector;
+        this.loader = loader;
+    }
+
+    @GetMapping
+    public FaultStatus status() {
+        return new FaultStatus(injector.profile(), injector.activeMillis(), injector.injectedCounts());
+    }
+
+    /**
+     * 요청 본문의 JSON 프로파일을 적용한다.
+     */
+    @PutMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    public FaultStatus activate(@RequestBody byte[] profile) {
+        injector.activate(loader.read(profile));
+        return status();
+    }
+
+    /**
+     * 프리셋(classpath:fault-profiles/{name}.json)을 적용한다.
+     */
+    @PostMapping("/presets/{name}")
+    public FaultStatus activatePreset(@PathVariable String name) {
+        injector.activate(loader.load(name));
+        return status();
+    }
+
+    @DeleteMapping
+    public FaultStatus clear() {
+        injector.clear();
+        return status();
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> invalidProfile(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+    }
+
+    /**
+     * @param activeMillis 프로파일 적용 후 경과 시간 (brownout 일정 기준)
+     */
+    public record FaultStatus(FaultProfile profile, long activeMillis, Map<Fault, Long> injected) {
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.mock.fault;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.util.StringUtils;
+
+/**
+ * Mock 서버에 장애 주입 필터와 관리 엔드포인트를 등록한다.
+ * 의존성만 추가하면 적용되며, 프로파일은 mock.fault.profile 또는 관리 엔드포인트로 지정한다.
+ */
+@Slf4j
+@AutoConfiguration(after = JacksonAutoConfiguration.class)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@EnableConfigurationProperties(FaultProperties.class)
+public class FaultInjectionAutoConfiguration {
+
+    @Bean
+    public FaultProfileLoader faultProfileLoader(ResourceLoader resourceLoader, ObjectMapper objectMapper) {
+        return new FaultProfileLoader(resourceLoader, objectMapper);
+    }
+
+    @Bean
+    public FaultInjector faultInjector(FaultProperties properties, FaultProfileLoader loader) {
+        FaultInjector injector = new FaultInjector();
+        if (StringUtils.hasText(properties.getProfile())) {
+            FaultProfile profile = loader.load(properties.getProfile());
+            injector.activate(profile);
+            log.info("[Fault] 장애 프로파일 적용: {} (규칙 {}개)", profile.getName(), profile.getRules().size());
+        }
+        return injector;
+    }
+
+    @Bean
+    public FilterRegistrationBean<FaultInjectionFilter> faultInjectionFilter(
+            FaultInjector injector, FaultProperties properties, ObjectMapper objectMapper) {
+        FilterRegistrationBean<FaultInjectionFilter> registration = new FilterRegistrationBean<>(
+                new FaultInjectionFilter(injector, properties.getEnvelope(), objectMapper));
+        // 인코딩 필터 다음, 나머지 필터보다 먼저 (지연이 서버 전체 처리시간에 포함되도록)
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+
+    @Bean
+    public FaultAdminController faultAdminController(FaultInjector injector, FaultProfileLoader loader) {
+        return new FaultAdminController(injector, loader);
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.mock.fault;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 적용 중인 프로파일에 따라 컨트롤러 앞에서 지연과 장애를 주입한다.
+ * 관리 엔드포인트({@link FaultAdminController#PATH})는 대상에서 제외한다.
+ */
+@Slf4j
+public class FaultInjectionFilter extends OncePerRequestFilter {
+
+    private final FaultInjector injector;
+    private final FaultProperties.Envelope envelope;
+    private final ObjectMapper objectMapper;
+
+    public FaultInjectionFilter(FaultInjector injector, FaultProperties.Envelope envelope, ObjectMapper objectMapper) {
+        this.injector = injector;
+        this.envelope = envelope;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith(FaultAdminController.PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        FaultInjector.Injection injection = injector.decide(request.getMethod(), request.getRequestURI());
+        if (injection == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        if (injection.delayMillis() > 0 && !sleep(injection.delayMillis())) {
+            return;
+        }
+        FaultRule rule = injection.rule();
+        switch (injection.fault()) {
+            case SERVER_ERROR -> {
+                log.debug("[Fault] {} {} - {} 응답", request.getMethod(), request.getRequestURI(), rule.getServerErrorStatus());
+                response.sendError(rule.getServerErrorStatus());
+            }
+            case BUSINESS_ERROR -> businessError(request, response, rule.getBusinessError());
+            case CONNECTION_RESET -> reset(request, response);
+            case SLOW_BODY -> slowBody(request, response, chain, rule.getSlowBody());
+            case NONE -> chain.doFilter(request, response);
+        }
+    }
+
+    private void businessError(HttpServletRequest request, HttpServletResponse response,
+                               FaultRule.BusinessError error) throws IOException {
+        log.debug("[Fault] {} {} - 비즈니스 에러 {}", request.getMethod(), request.getRequestURI(), error.getCode());
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put(envelope.getCodeField(), error.getCode());
+        body.put(envelope.getMessageField(), error.getMessage());
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(bytes.length);
+        response.getOutputStream().write(bytes);
+    }
+
+    /**
+     * 헤더와 본문 앞부분만 보내고 커넥션을 닫는다. 클라이언트는 Content-Length 를 다 받기 전에 EOF 를 만난다.
+     */
+    private void reset(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        log.debug("[Fault] {} {} - 커넥션 끊김", request.getMethod(), request.getRequestURI());
+        byte[] partial = ("{\"" + envelope.getCodeField() + "\":").getBytes(StandardCharsets.UTF_8);
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setHeader(HttpHeaders.CONNECTION, "close");
+        response.setContentLength(partial.length * 16);
+        response.getOutputStream().write(partial);
+        response.flushBuffer();
+    }
+
+    /**
+     * 컨트롤러 응답을 모두 받아 둔 뒤 chunkBytes 씩 interval 간격으로 흘려보낸다.
+     */
+    private void slowBody(HttpServletRequest request, HttpServletResponse response, FilterChain chain,
+                          FaultRule.SlowBody slowBody) throws ServletException, IOException {
+        ContentCachingResponseWrapper buffered = new ContentCachingResponseWrapper(response);
+        chain.doFilter(request, buffered);
+        byte[] body = buffered.getContentAsByteArray();
+        log.debug("[Fault] {} {} - 느린 본문 {} bytes", request.getMethod(), request.getRequestURI(), body.length);
+        response.setContentLength(body.length);
+        ServletOutputStream out = response.getOutputStream();
+        for (int offset = 0; offset < body.length; offset += slowBody.getChunkBytes()) {
+            if (offset > 0 && !sleep(slowBody.getInterval())) {
+                return;
+            }
+            out.write(body, offset, Math.min(slowBody.getChunkBytes(), body.length - offset));
+            out.flush();
+        }
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.mock.fault;
+
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 현재 적용 중인 프로파일을 들고 요청별 지연/장애를 결정한다.
+ * <p>
+ * 프로파일은 실행 중에 교체할 수 있고, brownout 일정은 교체 시각부터 다시 센다.
+ */
+public class FaultInjector {
+
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+    private final AtomicReference<Active> active = new AtomicReference<>();
+    private final Map<Fault, LongAdder> injected = new EnumMap<>(Fault.class);
+
+    public FaultInjector() {
+        for (Fault fault : Fault.values()) {
+            injected.put(fault, new LongAdder());
+        }
+    }
+
+    /**
+     * 프로파일을 검증한 뒤 적용하고 주입 통계를 초기화한다.
+     *
+     * @throws IllegalArgumentException 프로파일 설정이 올바르지 않은 경우
+     */
+    public void activate(FaultProfile profile) {
+        profile.validate();
+        injected.values().forEach(LongAdder::reset);
+        active.set(new Active(profile, System.nanoTime()));
+    }
+
+    public void clear() {
+        active.set(null);
+    }
+
+    public FaultProfile profile() {
+        Active current = active.get();
+        return current != null ? current.profile() : null;
+    }
+
+    /**
+     * 프로파일 적용 후 경과 시간 (ms). 적용된 프로파일이 없으면 0.
+     */
+    public long activeMillis() {
+        Active current = active.get();
+        return current != null ? TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - current.since()) : 0;
+    }
+
+    /**
+     * 주입 종류별 건수 (적용된 규칙과 일치한 요청 기준, NONE 은 지연만 적용된 요청).
+     */
+    public Map<Fault, Long> injectedCounts() {
+        Map<Fault, Long> counts = new EnumMap<>(Fault.class);
+        injected.forEach((fault, count) -> counts.put(fault, count.sum()));
+        return counts;
+    }
+
+    /**
+     * @return 일치하는 규칙이 없으면 null
+     */
+    public Injection decide(String method, String path) {
+        Active current = active.get();
+        if (current == null) {
+            return null;
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - current.since());
+        Injection injection = decide(current.profile(), method, path, elapsedMillis, ThreadLocalRandom.current());
+        if (injection != null) {
+            injected.get(injection.fault()).increment();
+        }
+        return injection;
+    }
+
+    Injection decide(FaultProfile profile, String method, String path, long elapsedMillis, Random random) {
+        FaultRule rule = profile.match(method, path, pathMatcher);
+        if (rule == null) {
+            return null;
+        }
+        double latencyMultiplier = 1.0;
+        ErrorRates errors = rule.getErrors();
+        for (Brownout brownout : rule.getBrownouts()) {
+            if (brownout.activeAt(elapsedMillis)) {
+                latencyMultiplier = brownout.getLatencyMultiplier();
+                if (brownout.getErrors() != null) {
+                    errors = brownout.getErrors();
+                }
+                break;
+            }
+        }
+        long delayMillis = rule.getLatency() != null
+                ? Math.round(rule.getLatency().sample(random) * latencyMultiplier)
+                : 0;
+        Fault fault = errors != null ? errors.pick(random.nextDouble()) : Fault.NONE;
+        return new Injection(rule, delayMillis, fault);
+    }
+
+    /**
+     * 요청 하나에 적용할 지연과 장애.
+     */
+    public record Injection(FaultRule rule, long delayMillis, Fault fault) {
+    }
+
+    private record Active(FaultProfile profile, long since) {
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.mock.fault;
+
+import lombok.Data;
+import org.springframework.util.PathMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 서버 하나의 지연/장애 주입 프로파일. 요청마다 처음 일치하는 규칙 하나만 적용한다.
+ */
+@Data
+public class FaultProfile {
+
+    private String name;
+    private String description;
+    private List<FaultRule> rules = new ArrayList<>();
+
+    public FaultRule match(String method, String path, PathMatcher pathMatcher) {
+        for (FaultRule rule : rules) {
+            if (rule.matches(method, path, pathMatcher)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    public void validate() {
+        if (rules == null || rules.contains(null)) {
+            throw new IllegalArgumentException("rules 가 필요합니다");
+        }
+        rules.forEach(FaultRule::validate);
+    }
+}
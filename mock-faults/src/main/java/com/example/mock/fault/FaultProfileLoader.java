@@ -0,0 +1,58 @@
+package com.example.mock.fault;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.regex.Pattern;
+
+/**
+ * JSON 프로파일을 읽는다. 알 수 없는 필드는 오타로 보고 거부한다.
+ */
+public class FaultProfileLoader {
+
+    static final String PRESET_LOCATION = "classpath:fault-profiles/";
+
+    private static final Pattern PRESET_NAME = Pattern.compile("[A-Za-z0-9_-]+");
+
+    private final ResourceLoader resourceLoader;
+    private final ObjectReader reader;
+
+    public FaultProfileLoader(ResourceLoader resourceLoader, ObjectMapper objectMapper) {
+        this.resourceLoader = resourceLoader;
+        this.reader = objectMapper.readerFor(FaultProfile.class)
+                .with(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    /**
+     * @param profile 프리셋 이름 또는 리소스 위치 (classpath:, file:)
+     * @throws IllegalArgumentException 프로파일이 없거나 읽을 수 없는 경우
+     */
+    public FaultProfile load(String profile) {
+        String location = PRESET_NAME.matcher(profile).matches() ? PRESET_LOCATION + profile + ".json" : profile;
+        Resource resource = resourceLoader.getResource(location);
+        if (!resource.exists()) {
+            throw new IllegalArgumentException("장애 프로파일을 찾을 수 없습니다: " + location);
+        }
+        try (InputStream in = resource.getInputStream()) {
+            return reader.readValue(in);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("장애 프로파일을 읽을 수 없습니다: " + location + " (" + e.getMessage() + ")", e);
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException JSON 이 올바르지 않은 경우
+     */
+    public FaultProfile read(byte[] json) {
+        try {
+            return reader.readValue(json);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("장애 프로파일 JSON 이 올바르지 않습니다 (" + e.getMessage() + ")", e);
+        }
+    }
+}
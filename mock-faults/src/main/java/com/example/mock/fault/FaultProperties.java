@@ -0,0 +1,29 @@
+package com.example.mock.fault;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * mock.fault 설정.
+ */
+@Data
+@ConfigurationProperties(prefix = "mock.fault")
+public class FaultProperties {
+
+    /**
+     * 기동 시 적용할 프로파일: 프리셋 이름(classpath:fault-profiles/{이름}.json) 또는 classpath:/file: 위치.
+     * 비어 있으면 장애를 주입하지 않는다.
+     */
+    private String profile;
+
+    private Envelope envelope = new Envelope();
+
+    /**
+     * 비즈니스 에러 응답에 쓰는 기관 봉투 필드명.
+     */
+    @Data
+    public static class Envelope {
+        private String codeField = "code";
+        private String messageField = "message";
+    }
+}
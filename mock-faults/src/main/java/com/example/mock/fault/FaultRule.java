@@ -0,0 +1,80 @@
+package com.example.mock.fault;
+
+import lombok.Data;
+import org.springframework.util.PathMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 엔드포인트 하나(또는 경로 패턴)에 대한 지연/장애 설정.
+ */
+@Data
+public class FaultRule {
+
+    /** HTTP 메서드 (없으면 전체) */
+    private String method;
+
+    /** Ant 스타일 경로 패턴 (예: /api/bank/**) */
+    private String path;
+
+    /** 응답 지연 분포 (없으면 지연 없음) */
+    private LatencySpec latency;
+
+    /** 평시 장애 주입 확률 (없으면 장애 없음) */
+    private ErrorRates errors;
+
+    private int serverErrorStatus = 503;
+    private BusinessError businessError = new BusinessError();
+    private SlowBody slowBody = new SlowBody();
+    private List<Brownout> brownouts = new ArrayList<>();
+
+    public boolean matches(String method, String path, PathMatcher pathMatcher) {
+        return (this.method == null || this.method.equalsIgnoreCase(method)) && pathMatcher.match(this.path, path);
+    }
+
+    void validate() {
+        if (path == null || path.isBlank()) {
+            throw new IllegalArgumentException("규칙에 path 가 필요합니다");
+        }
+        String rule = (method != null ? method + " " : "") + path;
+        if (latency != null) {
+            latency.validate(rule);
+        }
+        if (errors != null) {
+            errors.validate(rule);
+        }
+        if (serverErrorStatus < 500 || serverErrorStatus > 599) {
+            throw new IllegalArgumentException(rule + ": serverErrorStatus 는 5xx 여야 합니다");
+        }
+        // 기본값이 있는 항목은 생략할 수는 있어도 null 로 지울 수는 없다
+        if (businessError == null) {
+            throw new IllegalArgumentException(rule + ": businessError 는 null 일 수 없습니다");
+        }
+        if (slowBody == null || slowBody.getChunkBytes() <= 0 || slowBody.getInterval() < 0) {
+            throw new IllegalArgumentException(rule + ": slowBody 설정이 올바르지 않습니다");
+        }
+        if (brownouts == null || brownouts.contains(null)) {
+            throw new IllegalArgumentException(rule + ": brownouts 설정이 올바르지 않습니다");
+        }
+        brownouts.forEach(brownout -> brownout.validate(rule));
+    }
+
+    /**
+     * 비즈니스 에러 응답의 오류코드/메시지. 봉투 필드명은 서버 설정(mock.fault.envelope)을 따른다.
+     */
+    @Data
+    public static class BusinessError {
+        private String code = "SYS001";
+        private String message = "시스템 장애가 발생했습니다";
+    }
+
+    /**
+     * 느린 본문 전송: chunkBytes 씩 interval(ms) 간격으로 보낸다.
+     */
+    @Data
+    public static class SlowBody {
+        private int chunkBytes = 64;
+        private long interval = 100;
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.mock.fault;
+
+import lombok.Data;
+
+import java.util.Random;
+
+/**
+ * 응답 지연 분포 설정. 사용하는 필드는 {@link LatencyType} 참고 (단위: ms).
+ */
+@Data
+public class LatencySpec {
+
+    private LatencyType type = LatencyType.FIXED;
+    private long value;
+    private long min;
+    private long max;
+    private long median;
+    private double sigma = 1.0;
+    private double stallProbability;
+    private long stallMin;
+    private long stallMax;
+
+    public long sample(Random random) {
+        return switch (type) {
+            case FIXED -> value;
+            case UNIFORM -> uniform(random, min, max);
+            case LOG_NORMAL -> {
+                long sampled = Math.round(median * Math.exp(sigma * random.nextGaussian()));
+                yield max > 0 ? Math.min(sampled, max) : sampled;
+            }
+            case BIMODAL -> random.nextDouble() < stallProbability
+                    ? uniform(random, stallMin, stallMax)
+                    : uniform(random, min, max);
+        };
+    }
+
+    void validate(String rule) {
+        if (type == null) {
+            throw new IllegalArgumentException(rule + ": latency.type 이 필요합니다");
+        }
+        if (value < 0 || min < 0 || max < 0 || median < 0 || sigma < 0 || stallMin < 0 || stallMax < 0) {
+            throw new IllegalArgumentException(rule + ": latency 값은 0 이상이어야 합니다");
+        }
+        if ((type == LatencyType.UNIFORM || type == LatencyType.BIMODAL) && min > max) {
+            throw new IllegalArgumentException(rule + ": latency.min 이 max 보다 큽니다");
+        }
+        if (type == LatencyType.BIMODAL && (stallMin > stallMax || stallProbability < 0 || stallProbability > 1)) {
+            throw new IllegalArgumentException(rule + ": latency.stall 설정이 올바르지 않습니다");
+        }
+    }
+
+    private static long uniform(Random random, long min, long max) {
+        return max > min ? min + (long) (random.nextDouble() * (max - min + 1)) : min;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.mock.fault;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * 응답 지연 분포.
+ */
+public enum LatencyType {
+
+    /** 항상 value(ms) */
+    @JsonProperty("fixed")
+    FIXED,
+
+    /** min~max(ms) 균등 분포 */
+    @JsonProperty("uniform")
+    UNIFORM,
+
+    /** 중앙값 median(ms), 꼬리 두께 sigma 의 로그정규 분포 (max 로 상한) */
+    @JsonProperty("log-normal")
+    LOG_NORMAL,
+
+    /** 평소에는 min~max, stallProbability 확률로 stallMin~stallMax 멈춤 */
+    @JsonProperty("bimodal")
+    BIMODAL
+}
@@ -0,0 +1,157 @@
+package com.example.mock.fault;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("장애 주입 프로파일 테스트")
+class FaultInjectorTest {
+
+    private final FaultProfileLoader loader = new FaultProfileLoader(new DefaultResourceLoader(), new ObjectMapper());
+    private final FaultInjector injector = new FaultInjector();
+
+    private FaultProfile profile(String json) {
+        return loader.read(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static LatencySpec latency(String json) throws Exception {
+        return new ObjectMapper().readValue(json, LatencySpec.class);
+    }
+
+    private static long[] samples(LatencySpec spec, int count) {
+        Random random = new Random(42);
+        long[] samples = new long[count];
+        for (int i = 0; i < count; i++) {
+            samples[i] = spec.sample(random);
+        }
+        Arrays.sort(samples);
+        return samples;
+    }
+
+    @Test
+    @DisplayName("지연 분포별로 설정한 범위와 꼬리 형태로 샘플링한다")
+    void latencyDistributions() throws Exception {
+        assertEquals(25, samples(latency("{\"type\":\"fixed\",\"value\":25}"), 100)[99]);
+
+        long[] uniform = samples(latency("{\"type\":\"uniform\",\"min\":10,\"max\":20}"), 10_000);
+        assertEquals(10, uniform[0]);
+        assertEquals(20, uniform[9_999]);
+
+        // 중앙값은 median 근처, p99 는 중앙값의 몇 배, 상한은 max
+        long[] logNormal = samples(latency("{\"type\":\"log-normal\",\"median\":20,\"sigma\":1.0,\"max\":500}"), 10_000);
+        assertTrue(Math.abs(logNormal[5_000] - 20) <= 2, "p50=" + logNormal[5_000]);
+        assertTrue(logNormal[9_900] > 150, "p99=" + logNormal[9_900]);
+        assertEquals(500, logNormal[9_999]);
+
+        // 약 5% 만 멈춤 구간
+        long[] bimodal = samples(latency("{\"type\":\"bimodal\",\"min\":10,\"max\":20,"
+                + "\"stallProbability\":0.05,\"stallMin\":1000,\"stallMax\":2000}"), 10_000);
+        long stalls = Arrays.stream(bimodal).filter(sample -> sample >= 1000).count();
+        assertTrue(stalls > 400 && stalls < 600, "stalls=" + stalls);
+        assertEquals(20, bimodal[9_400]);
+    }
+
+    @Test
+    @DisplayName("오류율에 맞춰 장애 종류를 고르고 나머지는 정상 처리한다")
+    void errorRates() {
+        FaultProfile profile = profile("""
+                {"rules": [{"path": "/api/**",
+                  "errors": {"serverError": 0.1, "businessError": 0.05, "connectionReset": 0.02, "slowBody": 0.03}}]}
+                """);
+        Random random = new Random(7);
+        Map<Fault, Integer> counts = new EnumMap<>(Fault.class);
+        for (int i = 0; i < 100_000; i++) {
+            counts.merge(injector.decide(profile, "GET", "/api/bank/accounts", 0, random).fault(), 1, Integer::sum);
+        }
+
+        assertEquals(10_000, counts.get(Fault.SERVER_ERROR), 500);
+        assertEquals(5_000, counts.get(Fault.BUSINESS_ERROR), 400);
+        assertEquals(2_000, counts.get(Fault.CONNECTION_RESET), 250);
+        assertEquals(3_000, counts.get(Fault.SLOW_BODY), 300);
+        assertEquals(80_000, counts.get(Fault.NONE), 600);
+    }
+
+    @Test
+    @DisplayName("메서드와 경로 패턴으로 처음 일치하는 규칙만 적용한다")
+    void ruleMatching() {
+        FaultProfile profile = profile("""
+                {"rules": [
+                  {"method": "POST", "path": "/api/bank/transfer", "latency": {"type": "fixed", "value": 300}},
+                  {"path": "/api/bank/accounts/*/transactions", "latency": {"type": "fixed", "value": 200}},
+                  {"path": "/api/bank/**", "latency": {"type": "fixed", "value": 100}}
+                ]}
+                """);
+        Random random = new Random();
+
+        assertEquals(300, injector.decide(profile, "POST", "/api/bank/transfer", 0, random).delayMillis());
+        assertEquals(100, injector.decide(profile, "GET", "/api/bank/transfer", 0, random).delayMillis());
+        assertEquals(200, injector.decide(profile, "GET", "/api/bank/accounts/110-234/transactions", 0, random).delayMillis());
+        assertEquals(100, injector.decide(profile, "GET", "/api/bank/accounts", 0, random).delayMillis());
+        assertNull(injector.decide(profile, "GET", "/api/card/cards", 0, random));
+    }
+
+    @Test
+    @DisplayName("brownout 구간에서는 지연 배수와 구간 오류율을 적용하고 주기적으로 반복한다")
+    void brownoutSchedule() {
+        FaultProfile profile = profile("""
+                {"rules": [{"path": "/api/**",
+                  "latency": {"type": "fixed", "value": 10},
+                  "brownouts": [{"start": 1000, "duration": 500, "period": 2000, "latencyMultiplier": 5,
+                                 "errors": {"serverError": 1.0}}]}]}
+                """);
+        Random random = new Random();
+
+        for (long elapsed : new long[]{0, 999, 1500, 2999, 3500}) {
+            FaultInjector.Injection injection = injector.decide(profile, "GET", "/api/bank/accounts", elapsed, random);
+            assertEquals(10, injection.delayMillis(), "elapsed=" + elapsed);
+            assertEquals(Fault.NONE, injection.fault(), "elapsed=" + elapsed);
+        }
+        for (long elapsed : new long[]{1000, 1499, 3000, 5200}) {
+            FaultInjector.Injection injection = injector.decide(profile, "GET", "/api/bank/accounts", elapsed, random);
+            assertEquals(50, injection.delayMillis(), "elapsed=" + elapsed);
+            assertEquals(Fault.SERVER_ERROR, injection.fault(), "elapsed=" + elapsed);
+        }
+    }
+
+    @Test
+    @DisplayName("잘못된 프로파일은 적용하지 않고 IllegalArgumentException 을 던진다")
+    void invalidProfile() {
+        assertThrows(IllegalArgumentException.class, () -> profile("{\"rules\": [{\"path\": \"/api/**\", \"latncy\": {}}]}"));
+        assertThrows(IllegalArgumentException.class, () -> injector.activate(profile(
+                "{\"rules\": [{\"path\": \"/api/**\", \"errors\": {\"serverError\": 0.8, \"slowBody\": 0.5}}]}")));
+        assertThrows(IllegalArgumentException.class, () -> injector.activate(profile(
+                "{\"rules\": [{\"path\": \"/api/**\", \"latency\": {\"type\": \"uniform\", \"min\": 20, \"max\": 10}}]}")));
+        assertThrows(IllegalArgumentException.class, () -> injector.activate(profile(
+                "{\"rules\": [{\"path\": \"/api/**\", \"slowBody\": null}]}")));
+        assertThrows(IllegalArgumentException.class, () -> injector.activate(profile(
+                "{\"rules\": [{\"path\": \"/api/**\", \"businessError\": null, \"brownouts\": [null]}]}")));
+        assertThrows(IllegalArgumentException.class, () -> injector.activate(profile("{\"rules\": [null]}")));
+        assertThrows(IllegalArgumentException.class, () -> loader.load("missing"));
+
+        assertNull(injector.profile());
+    }
+
+    @Test
+    @DisplayName("공용 프리셋과 서버별 프리셋은 모두 읽히고 검증을 통과한다")
+    void presets() {
+        for (String preset : new String[]{"flaky", "brownout",
+                "file:../banking-server/src/main/resources/fault-profiles/realistic.json",
+                "file:../card-server/src/main/resources/fault-profiles/realistic.json",
+                "file:../insurance-server/src/main/resources/fault-profiles/realistic.json",
+                "file:../giro-server/src/main/resources/fault-profiles/realistic.json"}) {
+            FaultProfile profile = loader.load(preset);
+
+            injector.activate(profile);
+            assertFalse(profile.getRules().isEmpty(), preset);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.mydata.client.core;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+
+/**
+ * 응답 봉투 파싱 + 응답 매핑. 목록 크기, 매핑 적용 여부, 기관별 봉투 형태별로 측정한다.
+ */
+@State(Scope.Benchmark)
+public class EnvelopeParserBenchmark extends BenchmarkDefaults {
+
+    @Param({"1", "100", "10000", "100000"})
+    int listSize;
+
+    @Param({"true", "false"})
+    boolean mapping;
+
+    @Param({"BANK", "CARD", "INSURANCE", "GIRO"})
+    Institution institution;
+
+    private byte[] response;
+    private EnvelopeParser parser;
+    private EnvelopeParser.DataReader<Map<String, Object>> reader;
+
+    @Setup
+    public void setUp() {
+        response = institution.response(listSize);
+        parser = new EnvelopeParser(institution.properties(), new ObjectMapper());
+        reader = parser.mapReader(mapping ? Institution.RESPONSE_MAPPING : Map.of());
+    }
+
+    @Benchmark
+    public Map<String, Object> parse() {
+        return parser.parse(response, reader);
+    }
+}
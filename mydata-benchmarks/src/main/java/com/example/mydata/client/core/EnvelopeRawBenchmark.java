@@ -0,0 +1,44 @@
+package com.example.mydata.client.core;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+
+/**
+ * 응답 매핑이 없는 거래의 데이터 영역 JSON 만들기. Map 으로 파싱 후 다시 직렬화하는 경우와 원본 바이트를 잘라내는 경우를 비교한다.
+ */
+@State(Scope.Benchmark)
+public class EnvelopeRawBenchmark extends BenchmarkDefaults {
+
+    @Param({"1", "100", "10000", "100000"})
+    int listSize;
+
+    private byte[] response;
+    private ObjectMapper objectMapper;
+    private EnvelopeParser parser;
+    private EnvelopeParser.DataReader<Map<String, Object>> reader;
+
+    @Setup
+    public void setUp() {
+        response = Institution.BANK.response(listSize);
+        objectMapper = new ObjectMapper();
+        parser = new EnvelopeParser(Institution.BANK.properties(), objectMapper);
+        reader = parser.mapReader(Map.of());
+    }
+
+    @Benchmark
+    public byte[] parseAndSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(parser.parse(response, reader));
+    }
+
+    @Benchmark
+    public byte[] parseRaw() {
+        return parser.parseRaw(response);
+    }
+}
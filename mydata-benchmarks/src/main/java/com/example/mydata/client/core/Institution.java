@@ -0,0 +1,68 @@
+package com.example.mydata.client.core;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * 기관별 응답 봉투 형태와 벤치마크용 응답 생성기.
+ * 필드명은 application.yml 의 기관별 설정과 같다.
+ */
+public enum Institution {
+
+    BANK("result_code", "0000", "result_msg", "data"),
+    CARD("status", "SUCCESS", "message", "payload"),
+    INSURANCE("code", "00", "msg", "result"),
+    GIRO("rsp_cd", "000", "rsp_msg", "rsp_data");
+
+    /** 지로청구서목록조회의 응답 매핑 (목록 항목 필드 6개 모두 변환) */
+    static final Map<String, String> RESPONSE_MAPPING = Map.of(
+            "bill_no", "billNumber",
+            "bill_nm", "billName",
+            "pay_amt", "paymentAmount",
+            "due_dt", "dueDate",
+            "pay_st", "paymentStatus",
+            "org_nm", "organizationName");
+
+    private final String successCodeField;
+    private final String successCodeValue;
+    private final String errorMessageField;
+    private final String dataField;
+
+    Institution(String successCodeField, String successCodeValue, String errorMessageField, String dataField) {
+        this.successCodeField = successCodeField;
+        this.successCodeValue = successCodeValue;
+        this.errorMessageField = errorMessageField;
+        this.dataField = dataField;
+    }
+
+    SystemProperties properties() {
+        SystemProperties properties = new SystemProperties();
+        properties.setBaseUrl("http://localhost:8080");
+        properties.setSuccessCodeField(successCodeField);
+        properties.setSuccessCodeValue(successCodeValue);
+        properties.setErrorMessageField(errorMessageField);
+        properties.setDataField(dataField);
+        return properties;
+    }
+
+    /**
+     * 성공 응답 본문 (UTF-8). 데이터 영역은 한글 텍스트가 섞인 목록이다.
+     */
+    byte[] response(int listSize) {
+        StringBuilder json = new StringBuilder(listSize * 160 + 128);
+        json.append("{\"").append(successCodeField).append("\":\"").append(successCodeValue)
+                .append("\",\"").append(errorMessageField).append("\":\"성공\",\"")
+                .append(dataField).append("\":[");
+        for (int i = 0; i < listSize; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"bill_no\":\"GR-2024-").append(i)
+                    .append("\",\"bill_nm\":\"").append(i % 2 == 0 ? "전기요금" : "수도요금")
+                    .append("\",\"pay_amt\":").append(10_000 + i)
+                    .append(",\"due_dt\":\"2024-12-31\",\"pay_st\":\"UNPAID\",\"org_nm\":\"한국전력공사 서울본부\"}");
+        }
+        json.append("]}");
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.mydata.client.core;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * MessageClient.request 전체 경로 (URL 조립 → 격벽/서킷 브레이커 → 전송 → 파싱/매핑).
+ * 전송은 고정 응답을 즉시 돌려주므로 네트워크를 제외한 클라이언트 자체 비용만 잰다.
+ */
+@State(Scope.Benchmark)
+public class MessageClientBenchmark extends BenchmarkDefaults {
+
+    @Param({"1", "100", "10000", "100000"})
+    int listSize;
+
+    @Param({"true", "false"})
+    boolean mapping;
+
+    @Param({"BANK", "GIRO"})
+    Institution institution;
+
+    private MessageClient client;
+
+    @Setup
+    public void setUp() {
+        byte[] response = institution.response(listSize);
+        SystemProperties properties = institution.properties();
+        MessageSpecProperties spec = new MessageSpecProperties();
+        spec.setTransactionCode("지로청구서목록조회");
+        spec.setMethod("GET");
+        spec.setPath("/api/giro/bills");
+        spec.setQueryParams(Map.of("cust_id", "custId"));
+        if (mapping) {
+            spec.setResponseMapping(Institution.RESPONSE_MAPPING);
+        }
+        properties.setMessages(Map.of("bill-list", spec));
+        GenericHttpClient httpClient = new GenericHttpClient(
+                (url, method, body) -> CompletableFuture.completedFuture(response));
+        client = new MessageClient(httpClient, properties, new ObjectMapper()) {
+        };
+    }
+
+    @TearDown
+    public void tearDown() {
+        client.close();
+    }
+
+    @Benchmark
+    public Map<String, Object> request() {
+        return client.request("지로청구서목록조회", Map.of("custId", "CUST001"));
+    }
+}
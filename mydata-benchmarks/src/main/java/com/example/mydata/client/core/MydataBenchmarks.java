@@ -0,0 +1,26 @@
+package com.example.mydata.client.core;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 벤치마크 실행기. JMH 명령행 옵션을 그대로 받고, 연산당 할당량(gc.alloc.rate.norm)을 함께 보고하도록 GC 프로파일러를 붙인다.
+ * <pre>
+ * java -jar mydata-benchmarks/target/benchmarks.jar EnvelopeParser -p listSize=10000 -p institution=GIRO
+ * </pre>
+ */
+public final class MydataBenchmarks {
+
+    private MydataBenchmarks() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        new Runner(new OptionsBuilder()
+                .parent(commandLine)
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
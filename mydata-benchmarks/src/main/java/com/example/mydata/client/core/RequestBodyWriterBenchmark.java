@@ -0,0 +1,45 @@
+package com.example.mydata.client.core;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 요청 본문 조립 (지로납부: bodyFields 매핑, 이체: 파라미터 전체).
+ */
+@State(Scope.Benchmark)
+public class RequestBodyWriterBenchmark extends BenchmarkDefaults {
+
+    private RequestBodyWriter giroPayment;
+    private RequestBodyWriter transfer;
+    private Map<String, Object> giroParams;
+    private Map<String, Object> transferParams;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        LinkedHashMap<String, String> bodyFields = new LinkedHashMap<>();
+        bodyFields.put("bill_no", "billNo");
+        bodyFields.put("pay_amt", "amount");
+        giroPayment = new RequestBodyWriter(bodyFields, objectMapper);
+        transfer = new RequestBodyWriter(Map.of(), objectMapper);
+        giroParams = Map.of("billNo", "GR-2024-001", "amount", 125_000);
+        transferParams = Map.of("fromAccount", "110-234-567890", "toAccount", "220-345-678901",
+                "amount", 50_000, "memo", "월세 이체");
+    }
+
+    @Benchmark
+    public byte[] giroPayment() {
+        return giroPayment.write(giroParams);
+    }
+
+    @Benchmark
+    public byte[] transfer() {
+        return transfer.write(transferParams);
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.mydata.client.core;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * URL 조립 (계좌거래내역조회: 경로변수 1개 + 쿼리 파라미터 3개, 한글 값 인코딩 포함).
+ */
+@State(Scope.Benchmark)
+public class UrlTemplateBenchmark extends BenchmarkDefaults {
+
+    private UrlTemplate template;
+    private Map<String, Object> params;
+
+    @Setup
+    public void setUp() {
+        MessageSpecProperties spec = new MessageSpecProperties();
+        spec.setTransactionCode("계좌거래내역조회");
+        spec.setPath("/api/bank/accounts/{accountNo}/transactions");
+        spec.setPathVariables(List.of("accountNo"));
+        LinkedHashMap<String, String> queryParams = new LinkedHashMap<>();
+        queryParams.put("fromDate", "fromDate");
+        queryParams.put("toDate", "toDate");
+        queryParams.put("memo", "memo");
+        spec.setQueryParams(queryParams);
+        template = UrlTemplate.compile("http://localhost:8081", spec);
+        params = Map.of("accountNo", "110-234-567890", "fromDate", "20240101", "toDate", "20241231",
+                "memo", "급여 입금");
+    }
+
+    @Benchmark
+    public String expand() {
+        return template.expand(params);
+    }
+}
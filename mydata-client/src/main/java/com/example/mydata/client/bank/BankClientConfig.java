@@ -1,7 +1,7 @@
 package com.example.mydata.client.bank;
 
 import com.example.mydata.client.config.ExternalSystemsProperties;
-import com.example.mydata.client.core.GenericHttpClient;
+import com.example.mydata.client.config.HttpClientFactory;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -10,9 +10,10 @@ import org.springframework.context.annotation.Configuration;
 public class BankClientConfig {
 
     @Bean
-    public BankMessageClient bankMessageClient(GenericHttpClient httpClient,
+    public BankMessageClient bankMessageClient(HttpClientFactory httpClientFactory,
                                                 ExternalSystemsProperties properties,
                                                 ObjectMapper objectMapper) {
-        return new BankMessageClient(httpClient, properties.getBank(), objectMapper);
+        return new BankMessageClient(httpClientFactory.create("bank", properties.getBank()),
+                properties.getBank(), objectMapper);
     }
 }
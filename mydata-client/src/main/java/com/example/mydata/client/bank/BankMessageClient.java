@@ -10,4 +10,9 @@ public class BankMessageClient extends MessageClient {
     public BankMessageClient(GenericHttpClient httpClient, SystemProperties properties, ObjectMapper objectMapper) {
         super(httpClient, properties, objectMapper);
     }
+
+    @Override
+    public String systemName() {
+        return "bank";
+    }
 }
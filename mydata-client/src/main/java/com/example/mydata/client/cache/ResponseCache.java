@@ -0,0 +1,252 @@
+package com.example.mydata.client.cache;
+
+import com.example.mydata.client.core.CacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import lombok.Getter;
+import org.springframework.http.HttpMethod;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 조회 거래 하나의 응답 본문 캐시.
+ * <p>
+ * 거래코드마다 별도 인스턴스를 두고 조립된 URL 을 키로 쓰므로, 실제 키는 거래코드 + URL 이다.
+ * 크기 한도를 넘으면 W-TinyLFU(Caffeine) 정책으로 자주 쓰이지 않는 항목부터 내보낸다.
+ * 본문은 파싱 전 원문(UTF-8 바이트) 그대로 저장하고, 성공 응답만 저장하는 것은 호출자 책임이다.
+ * <p>
+ * softTtl 이 지난 항목은 그대로 반환하면서 갱신을 요청하고(stale-while-revalidate),
+ * earlyRefreshBeta 가 설정되면 만료 전에도 XFetch 확률로 갱신을 요청한다.
+ * 갱신 요청은 키마다 한 번만 나가며, 요청받은 호출자가 {@link #refreshed} 또는 {@link #refreshAbandoned}로 끝내야 한다.
+ * <p>
+ * 무효화할 때마다 epoch 가 올라간다. 조회 전에 {@link #epoch()} 를 받아 두고 {@link #put} 에 넘기면,
+ * 조회 중에 무효화된 경우(예: 이체 후 evictAll) 무효화 전 응답을 다시 저장하지 않는다.
+ */
+public class ResponseCache {
+
+    @Getter
+    private final String system;
+    @Getter
+    private final String transactionCode;
+    private final Cache<String, Entry> cache;
+    private final Ticker ticker;
+    private final long softTtlNanos;
+    /** 조기 갱신 확률 계산의 기준 만료 시점 (softTtl 이 있으면 softTtl, 없으면 ttl) */
+    private final long refreshAtNanos;
+    private final double earlyRefreshBeta;
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final AtomicLong epoch = new AtomicLong();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder earlyRefreshes = new LongAdder();
+    private final LongAdder refreshFailures = new LongAdder();
+
+    public ResponseCache(String system, String transactionCode, CacheProperties properties) {
+        this(system, transactionCode, properties, Ticker.systemTicker());
+    }
+
+    ResponseCache(String system, String transactionCode, CacheProperties properties, Ticker ticker) {
+        this.system = system;
+        this.transactionCode = transactionCode;
+        this.ticker = ticker;
+        long ttlNanos = TimeUnit.MILLISECONDS.toNanos(properties.getTtl());
+        long softTtl = TimeUnit.MILLISECONDS.toNanos(properties.getSoftTtl());
+        this.softTtlNanos = softTtl > 0 && softTtl < ttlNanos ? softTtl : 0;
+        this.refreshAtNanos = softTtlNanos > 0 ? softTtlNanos : ttlNanos;
+        this.earlyRefreshBeta = Math.max(properties.getEarlyRefreshBeta(), 0);
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofNanos(ttlNanos))
+                .ticker(ticker)
+                .recordStats();
+        if (properties.getMaxWeight() > 0) {
+            // 점유 메모리 근사치 (URL 은 UTF-16, 본문은 바이트 그대로)
+            builder.maximumWeight(properties.getMaxWeight())
+                    .<String, Entry>weigher((url, entry) -> url.length() * 2 + entry.body.length);
+        } else {
+            builder.maximumSize(properties.getMaxEntries());
+        }
+        this.cache = builder.build();
+    }
+
+    /**
+     * 설정이 있고 조회(GET) 거래이면 캐시를, 아니면 null 을 반환한다.
+     */
+    public static ResponseCache of(String system, String transactionCode, CacheProperties properties,
+                                   HttpMethod method) {
+        if (properties == null || properties.getTtl() <= 0 || method != HttpMethod.GET) {
+            return null;
+        }
+        return new ResponseCache(system, transactionCode, properties);
+    }
+
+    /**
+     * 백그라운드 갱신을 요청할 수 있는 캐시인지 여부
+     */
+    public boolean isRefreshing() {
+        return softTtlNanos > 0 || earlyRefreshBeta > 0;
+    }
+
+    /**
+     * 보관 중인 응답 (없거나 hard TTL 로 만료되었으면 null)
+     */
+    public Hit get(String url) {
+        Entry entry = cache.getIfPresent(url);
+        if (entry == null) {
+            return null;
+        }
+        long age = ticker.read() - entry.writtenAt;
+        boolean stale = softTtlNanos > 0 && age >= softTtlNanos;
+        boolean early = !stale && earlyRefreshBeta > 0 && shouldRefreshEarly(age, entry.fetchNanos);
+        if (stale) {
+            staleHits.increment();
+        }
+        boolean refresh = (stale || early) && refreshing.add(url);
+        if (refresh && early) {
+            earlyRefreshes.increment();
+        }
+        return new Hit(entry, refresh);
+    }
+
+    /**
+     * XFetch: age - 조회소요시간 * beta * ln(rand) 가 만료 시점을 넘으면 갱신한다.
+     * 조회가 오래 걸리는 항목일수록, 만료가 가까울수록 일찍 갱신될 확률이 높다.
+     */
+    private boolean shouldRefreshEarly(long age, long fetchNanos) {
+        double random = ThreadLocalRandom.current().nextDouble();
+        return age - fetchNanos * earlyRefreshBeta * Math.log(random) >= refreshAtNanos;
+    }
+
+    /**
+     * 무효화 횟수. 조회를 시작하기 전에 읽어 {@link #put} 에 넘긴다.
+     */
+    public long epoch() {
+        return epoch.get();
+    }
+
+    /**
+     * 조회 결과를 저장한다. 조회를 시작한 뒤 무효화가 있었으면 저장하지 않는다.
+     *
+     * @param fetchNanos 외부 조회에 걸린 시간 (조기 갱신 확률 계산용)
+     * @param epoch      조회 시작 전에 읽은 {@link #epoch()}
+     */
+    public void put(String url, byte[] responseBody, long fetchNanos, long epoch) {
+        if (this.epoch.get() != epoch) {
+            return;
+        }
+        Entry entry = new Entry(responseBody, ticker.read(), fetchNanos);
+        cache.put(url, entry);
+        // 확인과 저장 사이에 무효화가 끼어들었으면 방금 저장한 항목을 되돌린다
+        if (this.epoch.get() != epoch) {
+            cache.asMap().remove(url, entry);
+        }
+    }
+
+    /**
+     * 갱신한 응답으로 교체한다. 그 사이 무효화되었거나 다른 응답으로 바뀐 항목은 건드리지 않는다.
+     */
+    public void refreshed(String url, Hit hit, byte[] responseBody, long fetchNanos) {
+        try {
+            Entry fresh = new Entry(responseBody, ticker.read(), fetchNanos);
+            cache.asMap().computeIfPresent(url, (key, current) -> current == hit.entry ? fresh : current);
+        } finally {
+            refreshing.remove(url);
+        }
+    }
+
+    /**
+     * 갱신이 실패했거나 실행되지 못했음을 알린다. 기존 응답은 hard TTL 까지 계속 쓴다.
+     */
+    public void refreshAbandoned(String url) {
+        refreshFailures.increment();
+        refreshing.remove(url);
+    }
+
+    public void evict(String url) {
+        epoch.incrementAndGet();
+        cache.invalidate(url);
+    }
+
+    public void evictAll() {
+        epoch.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    public double getHitRatio() {
+        return cache.stats().hitRate();
+    }
+
+    public long getHits() {
+        return cache.stats().hitCount();
+    }
+
+    public long getMisses() {
+        return cache.stats().missCount();
+    }
+
+    /**
+     * 크기 한도 또는 만료로 내보낸 항목 수 (명시적 무효화는 제외)
+     */
+    public long getEvictions() {
+        return cache.stats().evictionCount();
+    }
+
+    public long getSize() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * softTtl 이 지난 항목을 반환한 횟수
+     */
+    public long getStaleHits() {
+        return staleHits.sum();
+    }
+
+    /**
+     * 만료 전에 확률적으로 시작한 갱신 횟수
+     */
+    public long getEarlyRefreshes() {
+        return earlyRefreshes.sum();
+    }
+
+    /**
+     * 실패했거나 실행기가 가득 차 건너뛴 갱신 횟수
+     */
+    public long getRefreshFailures() {
+        return refreshFailures.sum();
+    }
+
+    /**
+     * 정리되지 않은 만료/축출 작업을 즉시 수행한다.
+     */
+    void cleanUp() {
+        cache.cleanUp();
+    }
+
+    /**
+     * 캐시 조회 결과. {@link #isRefresh()}가 true 이면 이 호출자가 갱신을 맡는다.
+     */
+    public static final class Hit {
+
+        private final Entry entry;
+        @Getter
+        private final boolean refresh;
+
+        private Hit(Entry entry, boolean refresh) {
+            this.entry = entry;
+            this.refresh = refresh;
+        }
+
+        public byte[] getBody() {
+            return entry.body;
+        }
+    }
+
+    private record Entry(byte[] body, long writtenAt, long fetchNanos) {
+    }
+}
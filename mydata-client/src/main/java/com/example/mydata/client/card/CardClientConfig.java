@@ -1,7 +1,7 @@
 package com.example.mydata.client.card;
 
 import com.example.mydata.client.config.ExternalSystemsProperties;
-import com.example.mydata.client.core.GenericHttpClient;
+import com.example.mydata.client.config.HttpClientFactory;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -10,9 +10,10 @@ import org.springframework.context.annotation.Configuration;
 public class CardClientConfig {
 
     @Bean
-    public CardMessageClient cardMessageClient(GenericHttpClient httpClient,
+    public CardMessageClient cardMessageClient(HttpClientFactory httpClientFactory,
                                                 ExternalSystemsProperties properties,
                                                 ObjectMapper objectMapper) {
-        return new CardMessageClient(httpClient, properties.getCard(), objectMapper);
+        return new CardMessageClient(httpClientFactory.create("card", properties.getCard()),
+                properties.getCard(), objectMapper);
     }
 }
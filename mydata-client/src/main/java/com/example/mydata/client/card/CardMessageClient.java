@@ -10,4 +10,9 @@ public class CardMessageClient extends MessageClient {
     public CardMessageClient(GenericHttpClient httpClient, SystemProperties properties, ObjectMapper objectMapper) {
         super(httpClient, properties, objectMapper);
     }
+
+    @Override
+    public String systemName() {
+        return "card";
+    }
 }
@@ -0,0 +1,164 @@
+package com.example.mydata.client.config;
+
+import com.example.mydata.client.core.GenericHttpClient;
+import com.example.mydata.client.core.PoolProperties;
+import com.example.mydata.client.core.SystemProperties;
+import com.example.mydata.client.core.TransportType;
+import com.example.mydata.client.transport.ApacheAsyncTransport;
+import com.example.mydata.client.transport.ApacheClassicTransport;
+import com.example.mydata.client.transport.JdkHttpTransport;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.config.TlsConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 외부 시스템별 GenericHttpClient 생성기.
+ * <p>
+ * 시스템마다 SystemProperties 의 전송 방식, 타임아웃, 풀 설정으로 별도 커넥션 풀을 만든다.
+ * 한 기관이 느려져도 다른 기관의 커넥션을 점유하지 못하도록 격리하기 위함이다.
+ */
+@Slf4j
+@Component
+public class HttpClientFactory implements DisposableBean {
+
+    private final List<Closeable> clients = new ArrayList<>();
+
+    public synchronized GenericHttpClient create(String systemName, SystemProperties properties) {
+        PoolProperties pool = properties.getPool();
+        TransportType transport = properties.getTransport();
+        log.info("[{}] HTTP 커넥션 풀 생성: transport={}, http2={}, compression={}, maxTotal={}, maxPerRoute={}, connectTimeout={}ms, readTimeout={}ms",
+                systemName, transport, properties.isHttp2(), properties.isCompression(), pool.getMaxTotal(), pool.getMaxPerRoute(),
+                properties.getConnectTimeout(), properties.getReadTimeout());
+        if (transport == TransportType.APACHE_CLASSIC && properties.isHttp2()) {
+            log.warn("[{}] apache-classic 전송은 HTTP/2 를 지원하지 않아 http2 설정을 무시합니다", systemName);
+        }
+
+        ConnectionConfig connectionConfig = connectionConfig(properties);
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(pool.getAcquireTimeout()))
+                .setResponseTimeout(Timeout.ofMilliseconds(properties.getReadTimeout()))
+                .build();
+
+        return switch (transport) {
+            case APACHE_CLASSIC -> {
+                CloseableHttpClient httpClient = createHttpClient(pool, connectionConfig, requestConfig,
+                        properties.isCompression());
+                clients.add(httpClient);
+                RestClient restClient = RestClient.builder()
+                        .requestFactory(new HttpComponentsClientHttpRequestFactory(httpClient))
+                        .build();
+                yield new GenericHttpClient(new ApacheClassicTransport(restClient),
+                        new ApacheAsyncTransport(createAsyncClient(pool, connectionConfig, requestConfig, false),
+                                properties.isCompression()));
+            }
+            case APACHE_ASYNC -> new GenericHttpClient(new ApacheAsyncTransport(
+                    createAsyncClient(pool, connectionConfig, requestConfig, properties.isHttp2()),
+                    properties.isCompression()));
+            case JDK -> new GenericHttpClient(new JdkHttpTransport(createJdkClient(properties),
+                    Duration.ofMillis(properties.getReadTimeout()), properties.isCompression()));
+        };
+    }
+
+    private ConnectionConfig connectionConfig(SystemProperties properties) {
+        PoolProperties pool = properties.getPool();
+        ConnectionConfig.Builder builder = ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(properties.getConnectTimeout()))
+                .setSocketTimeout(Timeout.ofMilliseconds(properties.getReadTimeout()))
+                .setValidateAfterInactivity(TimeValue.ofMilliseconds(pool.getValidateAfterInactivity()));
+        if (pool.getTimeToLive() > 0) {
+            builder.setTimeToLive(TimeValue.ofMilliseconds(pool.getTimeToLive()));
+        }
+        return builder.build();
+    }
+
+    /**
+     * classic 클라이언트는 compression 이 켜지면 Accept-Encoding 을 보내고 응답을 스트림으로 풀어 읽는다.
+     */
+    private CloseableHttpClient createHttpClient(PoolProperties pool, ConnectionConfig connectionConfig,
+                                                 RequestConfig requestConfig, boolean compression) {
+        HttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(pool.getMaxTotal())
+                .setMaxConnPerRoute(pool.getMaxPerRoute())
+                .setDefaultConnectionConfig(connectionConfig)
+                .build();
+
+        HttpClientBuilder builder = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(pool.getIdleEvictionTime()));
+        if (!compression) {
+            builder.disableContentCompression();
+        }
+        return builder.build();
+    }
+
+    private CloseableHttpAsyncClient createAsyncClient(PoolProperties pool, ConnectionConfig connectionConfig,
+                                                       RequestConfig requestConfig, boolean http2) {
+        PoolingAsyncClientConnectionManagerBuilder connectionManager = PoolingAsyncClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(pool.getMaxTotal())
+                .setMaxConnPerRoute(pool.getMaxPerRoute())
+                .setDefaultConnectionConfig(connectionConfig);
+        if (http2) {
+            // 평문 URL 은 업그레이드 없이 HTTP/2 preface 로 시작한다 (h2c prior knowledge)
+            connectionManager.setDefaultTlsConfig(TlsConfig.custom()
+                    .setVersionPolicy(HttpVersionPolicy.FORCE_HTTP_2)
+                    .build());
+        }
+
+        CloseableHttpAsyncClient asyncClient = HttpAsyncClients.custom()
+                .setConnectionManager(connectionManager.build())
+                .setDefaultRequestConfig(requestConfig)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(pool.getIdleEvictionTime()))
+                .build();
+        asyncClient.start();
+        clients.add(asyncClient);
+        return asyncClient;
+    }
+
+    /**
+     * JDK HttpClient 는 커넥션 풀 크기를 설정할 수 없다. HTTP/2 에서는 호스트당 커넥션 하나에 요청을 다중화한다.
+     */
+    private HttpClient createJdkClient(SystemProperties properties) {
+        return HttpClient.newBuilder()
+                .version(properties.isHttp2() ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(properties.getConnectTimeout()))
+                .build();
+    }
+
+    @Override
+    public synchronized void destroy() {
+        for (Closeable client : clients) {
+            try {
+                client.close();
+            } catch (IOException e) {
+                log.warn("HTTP 클라이언트 종료 실패", e);
+            }
+        }
+        clients.clear();
+    }
+}
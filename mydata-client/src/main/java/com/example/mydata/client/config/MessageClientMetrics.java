@@ -0,0 +1,151 @@
+package com.example.mydata.client.config;
+
+import com.example.mydata.client.cache.ResponseCache;
+import com.example.mydata.client.core.MessageClient;
+import com.example.mydata.client.resilience.AdaptiveLimiter;
+import com.example.mydata.client.resilience.Bulkhead;
+import com.example.mydata.client.resilience.CircuitBreaker;
+import com.example.mydata.client.resilience.Hedge;
+import com.example.mydata.client.resilience.Retry;
+import com.example.mydata.client.resilience.SingleFlight;
+import com.example.mydata.client.resilience.TokenBudget;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * MessageClient 의 복원력(resilience) 구성요소와 응답 캐시 상태를 Micrometer 지표로 노출한다.
+ * 값은 각 구성요소의 카운터를 조회 시점에 읽는다.
+ */
+@Component
+public class MessageClientMetrics implements MeterBinder {
+
+    private final List<MessageClient> messageClients;
+
+    public MessageClientMetrics(List<MessageClient> messageClients) {
+        this.messageClients = messageClients;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (MessageClient client : messageClients) {
+            for (Bulkhead bulkhead : client.bulkheads()) {
+                bindBulkhead(registry, client.systemName(), bulkhead);
+            }
+            if (client.limiter() != null) {
+                bindLimiter(registry, client.systemName(), client.limiter());
+            }
+            for (CircuitBreaker circuitBreaker : client.circuitBreakers()) {
+                bindCircuitBreaker(registry, circuitBreaker);
+            }
+            for (Retry retry : client.retries()) {
+                bindRetry(registry, retry);
+            }
+            bindBudget(registry, "retry", client.systemName(), client.retryBudget());
+            for (Hedge hedge : client.hedges()) {
+                bindHedge(registry, hedge);
+            }
+            bindBudget(registry, "hedge", client.systemName(), client.hedgeBudget());
+            for (ResponseCache cache : client.caches()) {
+                bindCache(registry, cache);
+            }
+            for (SingleFlight singleFlight : client.singleFlights()) {
+                bindSingleFlight(registry, singleFlight);
+            }
+        }
+    }
+
+    private void bindCircuitBreaker(MeterRegistry registry, CircuitBreaker circuitBreaker) {
+        Tags tags = Tags.of("system", circuitBreaker.getSystem(), "transaction", circuitBreaker.getTransactionCode());
+        // 0: CLOSED, 1: OPEN, 2: HALF_OPEN
+        Gauge.builder("mydata.circuit.state", circuitBreaker, cb -> cb.getState().ordinal())
+                .tags(tags).register(registry);
+        FunctionCounter.builder("mydata.circuit.not.permitted", circuitBreaker, CircuitBreaker::getNotPermitted)
+                .tags(tags).register(registry);
+        circuitBreaker.addListener((cb, from, to) -> registry.counter("mydata.circuit.transitions",
+                tags.and("from", from.name(), "to", to.name())).increment());
+    }
+
+    private void bindRetry(MeterRegistry registry, Retry retry) {
+        Tags tags = Tags.of("system", retry.getSystem(), "transaction", retry.getTransactionCode());
+        FunctionCounter.builder("mydata.retry.attempts", retry, Retry::getRetries)
+                .tags(tags).register(registry);
+        FunctionCounter.builder("mydata.retry.budget.exhausted", retry, Retry::getBudgetExhausted)
+                .tags(tags).register(registry);
+    }
+
+    private void bindHedge(MeterRegistry registry, Hedge hedge) {
+        Tags tags = Tags.of("system", hedge.getSystem(), "transaction", hedge.getTransactionCode());
+        Gauge.builder("mydata.hedge.delay", hedge, Hedge::getDelayMillis)
+                .tags(tags).baseUnit("milliseconds").register(registry);
+        FunctionCounter.builder("mydata.hedge.sent", hedge, Hedge::getHedges)
+                .tags(tags).register(registry);
+        FunctionCounter.builder("mydata.hedge.wins", hedge, Hedge::getHedgeWins)
+                .tags(tags).register(registry);
+    }
+
+    private void bindCache(MeterRegistry registry, ResponseCache cache) {
+        Tags tags = Tags.of("system", cache.getSystem(), "transaction", cache.getTransactionCode());
+        Gauge.builder("mydata.cache.hit.ratio", cache, ResponseCache::getHitRatio)
+                .tags(tags).register(registry);
+        Gauge.builder("mydata.cache.size", cache, ResponseCache::getSize)
+                .tags(tags).register(registry);
+        FunctionCounter.builder("mydata.cache.hits", cache, ResponseCache::getHits)
+                .tags(tags).register(registry);
+        FunctionCounter.builder("mydata.cache.misses", cache, ResponseCache::getMisses)
+                .tags(tags).register(registry);
+        FunctionCounter.builder("mydata.cache.evictions", cache, ResponseCache::getEvictions)
+                .tags(tags).register(registry);
+        if (cache.isRefreshing()) {
+            FunctionCounter.builder("mydata.cache.stale.hits", cache, ResponseCache::getStaleHits)
+                    .tags(tags).register(registry);
+            FunctionCounter.builder("mydata.cache.early.refreshes", cache, ResponseCache::getEarlyRefreshes)
+                    .tags(tags).register(registry);
+            FunctionCounter.builder("mydata.cache.refresh.failures", cache, ResponseCache::getRefreshFailures)
+                    .tags(tags).register(registry);
+        }
+    }
+
+    private void bindSingleFlight(MeterRegistry registry, SingleFlight singleFlight) {
+        Tags tags = Tags.of("system", singleFlight.getSystem(), "transaction", singleFlight.getTransactionCode());
+        FunctionCounter.builder("mydata.coalesce.coalesced", singleFlight, SingleFlight::getCoalesced)
+                .tags(tags).register(registry);
+        Gauge.builder("mydata.coalesce.in.flight", singleFlight, SingleFlight::getInFlight)
+                .tags(tags).register(registry);
+    }
+
+    private void bindBudget(MeterRegistry registry, String type, String system, TokenBudget budget) {
+        Tags tags = Tags.of("system", system);
+        Gauge.builder("mydata." + type + ".budget.tokens", budget, TokenBudget::getTokens)
+                .tags(tags).register(registry);
+    }
+
+    private void bindLimiter(MeterRegistry registry, String system, AdaptiveLimiter limiter) {
+        Tags tags = Tags.of("system", system);
+        Gauge.builder("mydata.limiter.limit", limiter, AdaptiveLimiter::getLimit)
+                .tags(tags).register(registry);
+        Gauge.builder("mydata.limiter.in.flight", limiter, AdaptiveLimiter::getInFlight)
+                .tags(tags).register(registry);
+        FunctionCounter.builder("mydata.limiter.rejected", limiter, AdaptiveLimiter::getRejected)
+                .tags(tags).register(registry);
+    }
+
+    private void bindBulkhead(MeterRegistry registry, String system, Bulkhead bulkhead) {
+        Tags tags = Tags.of("system", system, "bulkhead", bulkhead.getName());
+        Gauge.builder("mydata.bulkhead.max", bulkhead, Bulkhead::getMaxConcurrentCalls)
+                .tags(tags).register(registry);
+        Gauge.builder("mydata.bulkhead.in.flight", bulkhead, Bulkhead::getInFlight)
+                .tags(tags).register(registry);
+        Gauge.builder("mydata.bulkhead.queued", bulkhead, Bulkhead::getQueued)
+                .tags(tags).register(registry);
+        FunctionCounter.builder("mydata.bulkhead.rejected", bulkhead, Bulkhead::getRejected)
+                .tags(tags).register(registry);
+        FunctionCounter.builder("mydata.bulkhead.timed.out", bulkhead, Bulkhead::getTimedOut)
+                .tags(tags).register(registry);
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.mydata.client.core;
+
+import lombok.Data;
+
+/**
+ * 동시 호출 제한(격벽) 설정 (시간 단위: ms).
+ * maxConcurrentCalls 가 0 이하이면 제한하지 않는다.
+ */
+@Data
+public class BulkheadProperties {
+
+    private int maxConcurrentCalls = 0;
+
+    /**
+     * 허용량 초과 시 대기할 수 있는 호출 수 (초과하면 즉시 BULKHEAD_FULL)
+     */
+    private int maxQueueSize = 0;
+
+    /**
+     * 대기열에서 기다릴 수 있는 최대 시간 (초과하면 BULKHEAD_TIMEOUT)
+     */
+    private int maxWaitTime = 0;
+}
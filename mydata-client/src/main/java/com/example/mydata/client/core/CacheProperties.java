@@ -0,0 +1,34 @@
+package com.example.mydata.client.core;
+
+import lombok.Data;
+
+/**
+ * 조회 거래 응답 캐시 설정 (시간 단위: ms).
+ * 키는 거래코드 + 조립된 URL 이며, 성공 응답만 저장한다.
+ */
+@Data
+public class CacheProperties {
+
+    /**
+     * 응답 보관 시간 (hard TTL, 0 이하이면 캐시하지 않음)
+     */
+    private long ttl = 0;
+
+    /**
+     * 이 시간이 지난 응답은 stale 로 보고 그대로 반환하면서 백그라운드에서 한 번 갱신한다
+     * (0 이하이거나 ttl 이상이면 사용하지 않음)
+     */
+    private long softTtl = 0;
+
+    /**
+     * 만료 전 확률적 조기 갱신(XFetch) 강도. 클수록 일찍 갱신한다 (0 이하이면 사용하지 않음, 보통 1.0)
+     */
+    private double earlyRefreshBeta = 0;
+
+    private long maxEntries = 1000;
+
+    /**
+     * 응답 본문 크기 합계 한도 (바이트, 0 이하이면 maxEntries 로 제한)
+     */
+    private long maxWeight = 0;
+}
@@ -0,0 +1,15 @@
+package com.example.mydata.client.core;
+
+import lombok.Data;
+
+/**
+ * 캐시 백그라운드 갱신 실행기 설정 (시스템별).
+ * 대기열이 가득 차면 갱신을 건너뛰고 기존 응답을 계속 쓴다.
+ */
+@Data
+public class CacheRefreshProperties {
+
+    private int threads = 2;
+
+    private int queueSize = 50;
+}
@@ -0,0 +1,44 @@
+package com.example.mydata.client.core;
+
+import lombok.Data;
+
+/**
+ * 서킷 브레이커 설정 (시간 단위: ms).
+ * 거래코드별로 최근 호출의 실패율을 보고, 임계치를 넘으면 일정 시간 호출을 차단한다.
+ */
+@Data
+public class CircuitBreakerProperties {
+
+    public enum WindowType {
+        /** 최근 windowSize 건 */
+        COUNT,
+        /** 최근 windowSize 초 */
+        TIME
+    }
+
+    private boolean enabled = false;
+
+    private WindowType windowType = WindowType.COUNT;
+
+    private int windowSize = 50;
+
+    /**
+     * 실패율을 판단하기 위한 창 내 최소 호출 수
+     */
+    private int minimumCalls = 20;
+
+    /**
+     * 차단을 시작하는 실패율 (%)
+     */
+    private int failureRateThreshold = 50;
+
+    /**
+     * 차단(OPEN) 상태를 유지하는 시간. 이후 일부 호출로 회복 여부를 확인한다 (HALF_OPEN)
+     */
+    private int waitDurationInOpenState = 10000;
+
+    /**
+     * HALF_OPEN 상태에서 허용하는 확인 호출 수. 모두 성공하면 CLOSED 로 돌아간다
+     */
+    private int permittedCallsInHalfOpenState = 3;
+}
@@ -0,0 +1,130 @@
+package com.example.mydata.client.core;
+
+import com.example.mydata.client.cache.ResponseCache;
+import com.example.mydata.client.resilience.Bulkhead;
+import com.example.mydata.client.resilience.CircuitBreaker;
+import com.example.mydata.client.resilience.Hedge;
+import com.example.mydata.client.resilience.Retry;
+import com.example.mydata.client.resilience.SingleFlight;
+import com.example.mydata.client.resilience.TokenBudget;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.springframework.http.HttpMethod;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 기동 시점에 한 번 컴파일된 거래 명세.
+ * 호출마다 반복되던 HTTP 메서드 해석과 URL 조립 준비를 미리 끝내 둔다.
+ */
+@Getter
+class CompiledMessageSpec {
+
+    private final MessageSpecProperties spec;
+    private final HttpMethod method;
+    private final UrlTemplate urlTemplate;
+    private final EnvelopeParser.DataReader<Map<String, Object>> mapReader;
+    /** 응답 매핑이 없어 데이터 영역 원본 바이트를 그대로 쓸 수 있는지 (MessageClient.requestRaw) */
+    private final boolean rawPassThrough;
+    /** 거래 전용 또는 시스템 공유 격벽 (제한이 없으면 null) */
+    private final Bulkhead bulkhead;
+    /** 거래코드별 서킷 브레이커 (비활성화된 경우 null) */
+    private final CircuitBreaker circuitBreaker;
+    /** 재시도 (설정되지 않았거나 재시도할 수 없는 메서드면 null) */
+    private final Retry retry;
+    /** 헤지 (설정되지 않았거나 멱등하지 않은 메서드면 null) */
+    private final Hedge hedge;
+    /** 응답 캐시 (설정되지 않았거나 조회 거래가 아니면 null) */
+    private final ResponseCache cache;
+    /** 동시 호출 합치기 (설정되지 않았거나 멱등하지 않은 메서드면 null) */
+    private final SingleFlight singleFlight;
+    /** 요청 본문 작성기 (본문이 없는 메서드면 null) */
+    private final RequestBodyWriter bodyWriter;
+    /** 커서 기반 페이지 설정 (설정되지 않았으면 null) */
+    private final PaginationProperties pagination;
+    @Getter(AccessLevel.NONE)
+    private final String cursorQueryKey;
+    @Getter(AccessLevel.NONE)
+    private final String sizeQuery;
+    @Getter(AccessLevel.NONE)
+    private final EnvelopeParser envelopeParser;
+    @Getter(AccessLevel.NONE)
+    private final Map<JavaType, EnvelopeParser.DataReader<?>> typedReaders = new ConcurrentHashMap<>();
+
+    CompiledMessageSpec(String systemName, String transactionCode, SystemProperties system,
+                        MessageSpecProperties spec, EnvelopeParser envelopeParser, ObjectMapper objectMapper,
+                        Bulkhead systemBulkhead, TokenBudget retryBudget, TokenBudget hedgeBudget) {
+        this.spec = spec;
+        this.envelopeParser = envelopeParser;
+        this.method = HttpMethod.valueOf(spec.getMethod().toUpperCase());
+        this.urlTemplate = UrlTemplate.compile(system.getBaseUrl(), spec);
+        this.mapReader = envelopeParser.mapReader(spec.getResponseMapping());
+        this.rawPassThrough = spec.getResponseMapping() == null || spec.getResponseMapping().isEmpty();
+        this.bulkhead = spec.getBulkhead() != null ? Bulkhead.of(transactionCode, spec.getBulkhead()) : systemBulkhead;
+        this.circuitBreaker = CircuitBreaker.of(systemName, transactionCode,
+                spec.getCircuitBreaker() != null ? spec.getCircuitBreaker() : system.getCircuitBreaker());
+        this.retry = Retry.of(systemName, transactionCode, spec.getRetry(), method, retryBudget);
+        this.hedge = Hedge.of(systemName, transactionCode, spec.getHedge(), method, hedgeBudget);
+        this.cache = ResponseCache.of(systemName, transactionCode, spec.getCache(), method);
+        this.singleFlight = SingleFlight.of(systemName, transactionCode, spec.isCoalesce(), method);
+        this.bodyWriter = hasRequestBody() ? new RequestBodyWriter(spec.getBodyFields(), objectMapper) : null;
+        this.pagination = spec.getPagination();
+        if (pagination != null) {
+            if (method != HttpMethod.GET || isBlank(pagination.getCursorField()) || isBlank(pagination.getCursorParam())
+                    || pagination.getPageSize() <= 0 || pagination.getMaxPages() <= 0) {
+                throw new IllegalArgumentException("페이지 설정이 올바르지 않음 (GET, cursorField, cursorParam, pageSize, maxPages 필요): "
+                        + transactionCode);
+            }
+            this.cursorQueryKey = URLEncoder.encode(pagination.getCursorParam(), StandardCharsets.UTF_8) + "=";
+            this.sizeQuery = isBlank(pagination.getSizeParam()) ? null
+                    : URLEncoder.encode(pagination.getSizeParam(), StandardCharsets.UTF_8) + "=" + pagination.getPageSize();
+        } else {
+            this.cursorQueryKey = null;
+            this.sizeQuery = null;
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    boolean hasRequestBody() {
+        return method == HttpMethod.POST || method == HttpMethod.PUT;
+    }
+
+    /**
+     * 조립된 URL 에 페이지 크기와 커서 쿼리 파라미터를 붙인다.
+     *
+     * @param cursor 다음 페이지 커서 (첫 페이지면 null)
+     */
+    String pageUrl(String url, String cursor) {
+        if (sizeQuery == null && cursor == null) {
+            return url;
+        }
+        StringBuilder sb = new StringBuilder(url);
+        char separator = url.indexOf('?') < 0 ? '?' : '&';
+        if (sizeQuery != null) {
+            sb.append(separator).append(sizeQuery);
+            separator = '&';
+        }
+        if (cursor != null) {
+            sb.append(separator).append(cursorQueryKey).append(URLEncoder.encode(cursor, StandardCharsets.UTF_8));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 바인딩 타입별 DataReader (거래 명세당 타입별로 한 번만 생성해 재사용).
+     */
+    @SuppressWarnings("unchecked")
+    <T> EnvelopeParser.DataReader<T> typedReader(JavaType type) {
+        return (EnvelopeParser.DataReader<T>) typedReaders.computeIfAbsent(type, t ->
+                envelopeParser.typedReader(t, spec.getResponseMapping(), t.isTypeOrSubTypeOf(List.class) ? List.of() : null));
+    }
+}
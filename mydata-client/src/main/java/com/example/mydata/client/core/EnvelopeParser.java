@@ -0,0 +1,355 @@
+package com.example.mydata.client.core;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * 외부 시스템 응답 봉투(envelope)를 토큰 스트림으로 한 번만 읽는 파서.
+ * <p>
+ * 성공코드는 읽는 즉시 판별하고, 요청되지 않은 필드는 건너뛴다.
+ * 데이터 영역은 {@link DataReader}가 파서에서 직접 읽는다.
+ */
+class EnvelopeParser {
+
+    private static final String UNKNOWN_ERROR = "알 수 없는 오류";
+    private static final byte[] ITEMS_PREFIX = "{\"items\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] VALUE_PREFIX = "{\"value\":".getBytes(StandardCharsets.UTF_8);
+
+    private final SystemProperties properties;
+    private final ObjectMapper objectMapper;
+
+    EnvelopeParser(SystemProperties properties, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 데이터 영역을 읽는 전략. 파서는 데이터 값의 첫 토큰에 위치한다.
+     */
+    interface DataReader<T> {
+
+        T read(JsonParser parser) throws IOException;
+
+        /** 데이터 영역이 없거나 null 인 경우의 결과 */
+        T empty();
+    }
+
+    /**
+     * 응답 본문을 파싱해 데이터 영역을 반환한다.
+     * 본문 바이트를 파서가 직접 읽으므로 본문 전체가 문자열로 만들어지지 않는다.
+     *
+     * @throws ExternalSystemException 성공코드가 아니거나(외부 코드 그대로) 파싱에 실패한 경우(PARSE_ERROR)
+     */
+    <T> T parse(byte[] responseBody, DataReader<T> dataReader) {
+        return parsePage(responseBody, dataReader, null).data();
+    }
+
+    /**
+     * 커서 기반 페이지 응답을 파싱해 데이터 영역과 다음 페이지 커서를 반환한다.
+     *
+     * @param cursorField 다음 페이지 커서를 담은 봉투 필드 (값이 없거나 null/빈 문자열이면 마지막 페이지)
+     * @throws ExternalSystemException 성공코드가 아니거나(외부 코드 그대로) 파싱에 실패한 경우(PARSE_ERROR)
+     */
+    <T> Page<T> parsePage(byte[] responseBody, DataReader<T> dataReader, String cursorField) {
+        if (responseBody == null || responseBody.length == 0) {
+            throw new ExternalSystemException("PARSE_ERROR", "응답 파싱 실패: 빈 응답");
+        }
+        try (JsonParser parser = objectMapper.createParser(responseBody)) {
+            return parse(parser, dataReader, cursorField);
+        } catch (IOException e) {
+            throw new ExternalSystemException("PARSE_ERROR", "응답 파싱 실패: " + e.getMessage(), e);
+        }
+    }
+
+    private <T> Page<T> parse(JsonParser parser, DataReader<T> dataReader, String cursorField) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new ExternalSystemException("PARSE_ERROR", "응답 파싱 실패: JSON 객체가 아닙니다");
+        }
+
+        String successCodeField = properties.getSuccessCodeField();
+        String errorMessageField = properties.getErrorMessageField();
+        String dataField = properties.getDataField();
+
+        String code = null;
+        boolean codeSeen = false;
+        boolean failed = false;
+        String errorMessage = null;
+        boolean errorMessageSeen = false;
+        T data = null;
+        boolean dataSeen = false;
+        String cursor = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken token = parser.nextToken();
+
+            if (name.equals(successCodeField)) {
+                code = readText(parser, token);
+                codeSeen = true;
+                if (!properties.getSuccessCodeValue().equals(code)) {
+                    failed = true;
+                    if (errorMessageSeen) {
+                        break;
+                    }
+                }
+            } else if (name.equals(errorMessageField)) {
+                errorMessage = readText(parser, token);
+                errorMessageSeen = true;
+                if (failed) {
+                    break;
+                }
+            } else if (!failed && name.equals(dataField)) {
+                data = token == JsonToken.VALUE_NULL ? null : dataReader.read(parser);
+                dataSeen = data != null;
+            } else if (!failed && name.equals(cursorField)) {
+                cursor = token == JsonToken.VALUE_NULL ? null : readText(parser, token);
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        // 응답코드 확인 (성공코드 필드가 없으면 "null" 코드로 실패 처리)
+        if (failed || !codeSeen) {
+            throw new ExternalSystemException(String.valueOf(code),
+                    errorMessageSeen ? errorMessage : UNKNOWN_ERROR);
+        }
+        return new Page<>(dataSeen ? data : dataReader.empty(), cursor == null || cursor.isEmpty() ? null : cursor);
+    }
+
+    private String readText(JsonParser parser, JsonToken token) throws IOException {
+        if (token.isScalarValue()) {
+            return parser.getText();
+        }
+        return String.valueOf(objectMapper.readValue(parser, Object.class));
+    }
+
+    /**
+     * 데이터 영역을 객체로 만들지 않고 원본 JSON 바이트를 잘라 반환한다 (응답 매핑이 없는 거래 전용).
+     * <p>
+     * 봉투는 {@link #parse} 와 같이 토큰 스트림으로 검증하고(데이터 영역도 토큰 단위로 건너뛰며 문법 검사),
+     * 데이터 값의 바이트 범위만 복사한다. 결과는 {@link #mapReader} 결과를 직렬화한 것과 같은 구조다:
+     * 객체는 그대로, 배열은 {@code {"items":...}}, 기타 값은 {@code {"value":...}}, 없으면 {@code {}}.
+     * 값 안의 공백과 숫자 표기는 외부 응답 그대로 유지된다.
+     *
+     * @throws ExternalSystemException 성공코드가 아니거나(외부 코드 그대로) 파싱에 실패한 경우(PARSE_ERROR)
+     */
+    byte[] parseRaw(byte[] responseBody) {
+        Span span = parse(responseBody, SPAN);
+        if (span == null) {
+            return new byte[]{'{', '}'};
+        }
+        int length = span.end() - span.start();
+        if (span.token() == JsonToken.START_OBJECT) {
+            return Arrays.copyOfRange(responseBody, span.start(), span.end());
+        }
+        byte[] prefix = span.token() == JsonToken.START_ARRAY ? ITEMS_PREFIX : VALUE_PREFIX;
+        byte[] result = Arrays.copyOf(prefix, prefix.length + length + 1);
+        System.arraycopy(responseBody, span.start(), result, prefix.length, length);
+        result[result.length - 1] = '}';
+        return result;
+    }
+
+    /**
+     * 데이터 값의 본문 내 바이트 범위 [start, end) 와 첫 토큰.
+     */
+    private record Span(int start, int end, JsonToken token) {
+    }
+
+    /**
+     * 데이터 값을 건너뛰며 바이트 범위만 기록하는 DataReader. 본문은 UTF-8 바이트 배열에서 읽으므로 오프셋이 곧 배열 인덱스다.
+     */
+    private static final DataReader<Span> SPAN = new DataReader<>() {
+        @Override
+        public Span read(JsonParser parser) throws IOException {
+            JsonToken token = parser.currentToken();
+            long start = parser.currentTokenLocation().getByteOffset();
+            if (token.isStructStart()) {
+                parser.skipChildren();
+            } else {
+                // 문자열은 지연 디코딩되므로 끝 따옴표까지 읽어야 현재 위치가 값의 끝이 된다
+                parser.finishToken();
+            }
+            return new Span((int) start, (int) parser.currentLocation().getByteOffset(), token);
+        }
+
+        @Override
+        public Span empty() {
+            return null;
+        }
+    };
+
+    /**
+     * 데이터 영역(목록)의 항목을 하나씩 읽는 페이지 파싱.
+     * <p>
+     * 먼저 봉투를 한 번 훑어 성공코드와 다음 커서를 확인하고(데이터 영역은 건너뜀),
+     * 항목은 반환된 반복자가 요청할 때마다 본문을 다시 읽는 파서에서 하나씩 바인딩한다.
+     * 목록 전체가 객체로 만들어지지 않으며, 성공코드가 데이터 뒤에 오는 봉투라도 실패 응답의 항목은 내보내지 않는다.
+     *
+     * @param itemReader      항목 바인딩 타입의 reader
+     * @param responseMapping 항목 객체의 외부 필드명 → 내부 필드명
+     * @param cursorField     다음 페이지 커서 필드 (없으면 null)
+     * @throws ExternalSystemException 성공코드가 아니거나 파싱에 실패한 경우 (항목을 읽다 실패하면 반복자가 PARSE_ERROR 를 던짐)
+     */
+    <T> Page<Iterator<T>> parseItems(byte[] responseBody, ObjectReader itemReader,
+                                     Map<String, String> responseMapping, String cursorField) {
+        Page<Boolean> envelope = parsePage(responseBody, SKIP_DATA, cursorField);
+        Iterator<T> items = envelope.data()
+                ? new ItemIterator<>(responseBody, itemReader, responseMapping)
+                : Collections.emptyIterator();
+        return new Page<>(items, envelope.nextCursor());
+    }
+
+    /**
+     * 데이터 영역이 있는지만 확인하고 건너뛰는 DataReader.
+     */
+    private static final DataReader<Boolean> SKIP_DATA = new DataReader<>() {
+        @Override
+        public Boolean read(JsonParser parser) throws IOException {
+            parser.skipChildren();
+            return Boolean.TRUE;
+        }
+
+        @Override
+        public Boolean empty() {
+            return Boolean.FALSE;
+        }
+    };
+
+    /**
+     * 데이터 영역 배열의 항목을 하나씩 바인딩하는 반복자. 본문 바이트에서 파서를 새로 열어 배열 시작까지 이동한다.
+     */
+    private final class ItemIterator<T> implements Iterator<T> {
+
+        private final ObjectReader itemReader;
+        private final JsonParser parser;
+        private boolean hasNext;
+
+        ItemIterator(byte[] responseBody, ObjectReader itemReader, Map<String, String> responseMapping) {
+            this.itemReader = itemReader;
+            try {
+                JsonParser raw = objectMapper.createParser(responseBody);
+                raw.nextToken();
+                while (raw.nextToken() == JsonToken.FIELD_NAME) {
+                    String name = raw.currentName();
+                    JsonToken token = raw.nextToken();
+                    if (name.equals(properties.getDataField())) {
+                        if (token != JsonToken.START_ARRAY) {
+                            throw new ExternalSystemException("PARSE_ERROR", "응답 파싱 실패: 데이터 영역이 목록이 아닙니다");
+                        }
+                        break;
+                    }
+                    raw.skipChildren();
+                }
+                this.parser = ResponseMappingParser.wrap(raw, responseMapping);
+                advance();
+            } catch (IOException e) {
+                throw new ExternalSystemException("PARSE_ERROR", "응답 파싱 실패: " + e.getMessage(), e);
+            }
+        }
+
+        private void advance() throws IOException {
+            hasNext = parser.nextToken() != JsonToken.END_ARRAY;
+            if (!hasNext) {
+                parser.close();
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return hasNext;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext) {
+                throw new NoSuchElementException();
+            }
+            try {
+                T item = itemReader.readValue(parser);
+                advance();
+                return item;
+            } catch (IOException e) {
+                hasNext = false;
+                throw new ExternalSystemException("PARSE_ERROR", "응답 파싱 실패: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * 봉투 파싱 결과.
+     *
+     * @param nextCursor 다음 페이지 커서 (페이지 파싱이 아니거나 마지막 페이지면 null)
+     */
+    record Page<T>(T data, String nextCursor) {
+    }
+
+    /**
+     * 기존 Map 형태의 결과를 만드는 DataReader.
+     * <ul>
+     *     <li>객체: 최상위 키에 매핑 적용</li>
+     *     <li>배열: 각 항목(객체)에 매핑 적용 후 {@code items} 로 감쌈</li>
+     *     <li>기타 값: {@code value} 로 감쌈</li>
+     * </ul>
+     */
+    DataReader<Map<String, Object>> mapReader(Map<String, String> responseMapping) {
+        return new DataReader<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Map<String, Object> read(JsonParser parser) throws IOException {
+                JsonToken token = parser.currentToken();
+                Object data = objectMapper.readValue(ResponseMappingParser.wrap(parser, responseMapping), Object.class);
+                if (token == JsonToken.START_OBJECT) {
+                    return (Map<String, Object>) data;
+                }
+                Map<String, Object> result = new LinkedHashMap<>();
+                if (data instanceof List) {
+                    result.put("items", data);
+                } else {
+                    result.put("value", data);
+                }
+                return result;
+            }
+
+            @Override
+            public Map<String, Object> empty() {
+                return new LinkedHashMap<>();
+            }
+        };
+    }
+
+    /**
+     * 데이터 영역을 지정한 타입(record/DTO)으로 바로 바인딩하는 DataReader.
+     * 중간 Map 없이 매핑된 필드명으로 역직렬화하며, 외부 시스템이 추가한 필드는 무시한다.
+     *
+     * @param emptyValue 데이터 영역이 없을 때의 결과
+     */
+    <T> DataReader<T> typedReader(JavaType type, Map<String, String> responseMapping, T emptyValue) {
+        ObjectReader reader = objectMapper.readerFor(type)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        return new DataReader<>() {
+            @Override
+            public T read(JsonParser parser) throws IOException {
+                return reader.readValue(ResponseMappingParser.wrap(parser, responseMapping));
+            }
+
+            @Override
+            public T empty() {
+                return emptyValue;
+            }
+        };
+    }
+}
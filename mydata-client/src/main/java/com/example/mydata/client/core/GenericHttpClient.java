@@ -1,65 +1,77 @@
 package com.example.mydata.client.core;
 
+import com.example.mydata.client.transport.ApacheAsyncTransport;
+import com.example.mydata.client.transport.ApacheClassicTransport;
+import com.example.mydata.client.transport.HttpTransport;
+import com.example.mydata.client.transport.ResponseBodies;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
 import org.springframework.http.HttpMethod;
-import org.springframework.http.MediaType;
-import org.springframework.stereotype.Component;
-import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.HttpServerErrorException;
-import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClient;
 
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 외부 시스템 하나에 대한 HTTP 송수신기.
+ * 시스템마다 별도 인스턴스(별도 커넥션 풀)를 사용한다. 생성은 HttpClientFactory 참고.
+ * <p>
+ * 실제 송수신은 {@link HttpTransport}가 맡으며, 동기/비동기 호출에 서로 다른 전송을 쓸 수 있다.
+ * 응답 본문은 문자열로 만들지 않고 UTF-8 바이트 그대로 반환한다. DEBUG 로그에는 본문 앞부분만 남긴다.
+ */
 @Slf4j
-@Component
 public class GenericHttpClient {
 
-    private final RestClient restClient;
+    private final HttpTransport transport;
+    private final HttpTransport asyncTransport;
 
     public GenericHttpClient(RestClient restClient) {
-        this.restClient = restClient;
+        this(new ApacheClassicTransport(restClient), null);
+    }
+
+    public GenericHttpClient(RestClient restClient, CloseableHttpAsyncClient asyncClient) {
+        this(new ApacheClassicTransport(restClient), new ApacheAsyncTransport(asyncClient));
     }
 
-    public String execute(String url, HttpMethod method, Object body) {
-        log.debug("HTTP Request: {} {} body={}", method, url, body);
+    /**
+     * 동기/비동기 호출에 같은 전송을 쓴다.
+     */
+    public GenericHttpClient(HttpTransport transport) {
+        this(transport, transport);
+    }
 
-        try {
-            RestClient.RequestBodySpec requestSpec = restClient.method(method)
-                    .uri(url)
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .accept(MediaType.APPLICATION_JSON);
+    public GenericHttpClient(HttpTransport transport, HttpTransport asyncTransport) {
+        this.transport = transport;
+        this.asyncTransport = asyncTransport;
+    }
 
-            if (body != null) {
-                requestSpec.body(body);
-            }
+    /**
+     * @param body 직렬화된 JSON 본문 (없으면 null)
+     */
+    public byte[] execute(String url, HttpMethod method, byte[] body) {
+        log.debug("HTTP Request: {} {} bodySize={}", method, url, body != null ? body.length : 0);
+        byte[] responseBody = transport.execute(url, method, body);
+        if (log.isDebugEnabled()) {
+            log.debug("HTTP Response: body={}", ResponseBodies.preview(responseBody));
+        }
+        return responseBody;
+    }
 
-            String responseBody = requestSpec.retrieve().body(String.class);
-            log.debug("HTTP Response: body={}", responseBody);
-            return responseBody;
-        } catch (HttpClientErrorException e) {
-            int statusCode = e.getStatusCode().value();
-            String errorCode;
-            String errorMsg;
-            if (statusCode == 404) {
-                errorCode = "NOT_FOUND";
-                errorMsg = "외부 시스템 리소스를 찾을 수 없습니다";
-            } else if (statusCode == 400) {
-                errorCode = "BAD_REQUEST";
-                errorMsg = "외부 시스템 요청이 잘못되었습니다";
-            } else {
-                errorCode = "HTTP_" + statusCode;
-                errorMsg = "외부 시스템 클라이언트 오류";
-            }
-            log.error("HTTP Client Error: {} {} - {}", statusCode, e.getStatusText(), e.getResponseBodyAsString());
-            throw new ExternalSystemException(errorCode,
-                    errorMsg + " (" + statusCode + ")", e);
-        } catch (HttpServerErrorException e) {
-            int statusCode = e.getStatusCode().value();
-            log.error("HTTP Server Error: {} {} - {}", statusCode, e.getStatusText(), e.getResponseBodyAsString());
-            throw new ExternalSystemException("SERVER_ERROR",
-                    "외부 시스템 서버 오류 (" + statusCode + ")", e);
-        } catch (ResourceAccessException e) {
-            throw new ExternalSystemException("CONNECTION_ERROR",
-                    "외부 시스템 연결 실패: " + e.getMessage(), e);
+    /**
+     * 논블로킹 I/O로 요청을 보내고 응답 본문을 비동기로 반환한다.
+     * 호출 스레드는 응답을 기다리지 않으며, 실패는 동기 호출과 같은 {@link ExternalSystemException}으로 완료된다.
+     * 반환된 future 를 취소하면 진행 중인 HTTP 교환도 취소된다.
+     *
+     * @param body 직렬화된 JSON 본문 (없으면 null)
+     */
+    public CompletableFuture<byte[]> executeAsync(String url, HttpMethod method, byte[] body) {
+        if (asyncTransport == null) {
+            return CompletableFuture.failedFuture(new IllegalStateException("비동기 HTTP 클라이언트가 설정되지 않았습니다"));
+        }
+        log.debug("HTTP Async Request: {} {} bodySize={}", method, url, body != null ? body.length : 0);
+        CompletableFuture<byte[]> result = asyncTransport.executeAsync(url, method, body);
+        if (log.isDebugEnabled()) {
+            result.thenAccept(responseBody -> log.debug("HTTP Async Response: body={}", ResponseBodies.preview(responseBody)));
         }
+        return result;
     }
 }
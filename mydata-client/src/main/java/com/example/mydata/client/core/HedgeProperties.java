@@ -0,0 +1,34 @@
+package com.example.mydata.client.core;
+
+import lombok.Data;
+
+/**
+ * 거래별 헤지(hedged request) 설정 (시간 단위: ms).
+ * 첫 요청이 지연 기준(최근 응답시간의 percentile) 안에 응답하지 않으면 같은 요청을 한 번 더 보내고 먼저 온 응답을 쓴다.
+ */
+@Data
+public class HedgeProperties {
+
+    private boolean enabled = false;
+
+    /**
+     * 헤지 지연 기준으로 쓸 응답시간 백분위
+     */
+    private double percentile = 95;
+
+    /**
+     * 표본이 minSamples 보다 적을 때 쓰는 지연
+     */
+    private int initialDelay = 100;
+
+    private int minDelay = 10;
+
+    private int maxDelay = 1000;
+
+    private int minSamples = 20;
+
+    /**
+     * 백분위를 계산할 최근 응답시간 표본 수
+     */
+    private int sampleWindow = 500;
+}
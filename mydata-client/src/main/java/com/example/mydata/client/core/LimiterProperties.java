@@ -0,0 +1,53 @@
+package com.example.mydata.client.core;
+
+import lombok.Data;
+
+/**
+ * 적응형 동시성 한도 설정 (시간 단위: ms).
+ * 왕복 지연시간을 관찰해 허용 동시 호출 수를 minLimit ~ maxLimit 사이에서 자동 조정한다.
+ */
+@Data
+public class LimiterProperties {
+
+    public enum Algorithm {
+        /** 한도 포화 시 +1, 실패/지연 초과 시 backoffRatio 배 */
+        AIMD,
+        /** 장기 평균 대비 현재 지연시간 비율(gradient)로 조정 */
+        GRADIENT
+    }
+
+    private boolean enabled = false;
+
+    private Algorithm algorithm = Algorithm.GRADIENT;
+
+    private int initialLimit = 20;
+
+    private int minLimit = 1;
+
+    private int maxLimit = 200;
+
+    /**
+     * 실패 시 한도 감소 비율
+     */
+    private double backoffRatio = 0.9;
+
+    /**
+     * AIMD: 이 시간을 넘는 응답은 실패로 보고 한도를 줄인다 (0 이하이면 사용 안 함)
+     */
+    private int latencyThreshold = 0;
+
+    /**
+     * GRADIENT: 장기 평균 대비 허용 지연 배수
+     */
+    private double tolerance = 1.5;
+
+    /**
+     * GRADIENT: 새 한도 반영 비율 (0~1)
+     */
+    private double smoothing = 0.2;
+
+    /**
+     * GRADIENT: 장기 평균 지연시간을 구하는 표본 수
+     */
+    private int longWindow = 600;
+}
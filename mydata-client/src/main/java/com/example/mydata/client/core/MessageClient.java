@@ -1,44 +1,227 @@
 package com.example.mydata.client.core;
 
+import com.example.mydata.client.cache.ResponseCache;
+import com.example.mydata.client.resilience.AdaptiveLimiter;
+import com.example.mydata.client.resilience.Bulkhead;
+import com.example.mydata.client.resilience.CircuitBreaker;
+import com.example.mydata.client.resilience.Hedge;
+import com.example.mydata.client.resilience.Retry;
+import com.example.mydata.client.resilience.SingleFlight;
+import com.example.mydata.client.resilience.TokenBudget;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpMethod;
 
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 @Slf4j
-public abstract class MessageClient {
+public abstract class MessageClient implements AutoCloseable {
 
     protected final GenericHttpClient httpClient;
     protected final SystemProperties properties;
     protected final ObjectMapper objectMapper;
-    private final Map<String, MessageSpecProperties> transactionCodeMap;
+    private final EnvelopeParser envelopeParser;
+    private final Bulkhead bulkhead;
+    private final AdaptiveLimiter limiter;
+    private final TokenBudget retryBudget;
+    private final TokenBudget hedgeBudget;
+    private final Map<String, CompiledMessageSpec> transactionCodeMap;
+    /** 캐시 백그라운드 갱신 실행기 (갱신을 쓰는 캐시가 없으면 null) */
+    private final ThreadPoolExecutor refreshExecutor;
 
     protected MessageClient(GenericHttpClient httpClient, SystemProperties properties, ObjectMapper objectMapper) {
         this.httpClient = httpClient;
         this.properties = properties;
         this.objectMapper = objectMapper;
+        this.envelopeParser = new EnvelopeParser(properties, objectMapper);
+        this.bulkhead = Bulkhead.of(systemName(), properties.getBulkhead());
+        this.limiter = AdaptiveLimiter.of(systemName(), properties.getLimiter());
+        this.retryBudget = new TokenBudget(systemName(), properties.getRetryBudget());
+        this.hedgeBudget = new TokenBudget(systemName(), properties.getHedgeBudget());
         this.transactionCodeMap = buildTransactionCodeMap(properties);
+        this.refreshExecutor = caches().stream().anyMatch(ResponseCache::isRefreshing)
+                ? createRefreshExecutor(properties.getCacheRefresh()) : null;
     }
 
-    private Map<String, MessageSpecProperties> buildTransactionCodeMap(SystemProperties props) {
-        Map<String, MessageSpecProperties> map = new LinkedHashMap<>();
+    private ThreadPoolExecutor createRefreshExecutor(CacheRefreshProperties props) {
+        int threads = Math.max(props.getThreads(), 1);
+        AtomicInteger sequence = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(props.getQueueSize(), 1)), runnable -> {
+                    Thread thread = new Thread(runnable, systemName() + "-cache-refresh-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * 캐시 갱신 실행기를 정리한다 (진행 중인 갱신은 중단).
+     */
+    @Override
+    public void close() {
+        if (refreshExecutor != null) {
+            refreshExecutor.shutdownNow();
+        }
+    }
+
+    private Map<String, CompiledMessageSpec> buildTransactionCodeMap(SystemProperties props) {
+        Map<String, CompiledMessageSpec> map = new LinkedHashMap<>();
         for (Map.Entry<String, MessageSpecProperties> entry : props.getMessages().entrySet()) {
             String key = entry.getValue().getTransactionCode();
             if (key == null || key.isBlank()) {
                 key = entry.getKey();
             }
-            map.put(key, entry.getValue());
+            map.put(key, new CompiledMessageSpec(systemName(), key, props, entry.getValue(), envelopeParser,
+                    objectMapper, bulkhead, retryBudget, hedgeBudget));
         }
         return map;
     }
 
+    /**
+     * 외부 시스템 이름 (로그/지표 태그용)
+     */
+    public String systemName() {
+        return getClass().getSimpleName();
+    }
+
+    /**
+     * 이 클라이언트가 사용하는 격벽 목록 (시스템 공유 격벽 + 거래 전용 격벽)
+     */
+    public List<Bulkhead> bulkheads() {
+        List<Bulkhead> result = new ArrayList<>();
+        if (bulkhead != null) {
+            result.add(bulkhead);
+        }
+        transactionCodeMap.values().stream()
+                .map(CompiledMessageSpec::getBulkhead)
+                .filter(Objects::nonNull)
+                .filter(b -> b != bulkhead)
+                .forEach(result::add);
+        return result;
+    }
+
+    /**
+     * 거래코드별 서킷 브레이커 목록
+     */
+    public List<CircuitBreaker> circuitBreakers() {
+        return transactionCodeMap.values().stream()
+                .map(CompiledMessageSpec::getCircuitBreaker)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * 재시도가 설정된 거래별 Retry 목록
+     */
+    public List<Retry> retries() {
+        return transactionCodeMap.values().stream()
+                .map(CompiledMessageSpec::getRetry)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * 시스템 전체 재시도 예산
+     */
+    public TokenBudget retryBudget() {
+        return retryBudget;
+    }
+
+    /**
+     * 헤지가 설정된 거래별 Hedge 목록
+     */
+    public List<Hedge> hedges() {
+        return transactionCodeMap.values().stream()
+                .map(CompiledMessageSpec::getHedge)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * 시스템 전체 헤지 예산
+     */
+    public TokenBudget hedgeBudget() {
+        return hedgeBudget;
+    }
+
+    /**
+     * 응답 캐시가 설정된 거래별 캐시 목록
+     */
+    public List<ResponseCache> caches() {
+        return transactionCodeMap.values().stream()
+                .map(CompiledMessageSpec::getCache)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * 동시 호출 합치기가 설정된 거래별 SingleFlight 목록
+     */
+    public List<SingleFlight> singleFlights() {
+        return transactionCodeMap.values().stream()
+                .map(CompiledMessageSpec::getSingleFlight)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * 파라미터로 조립한 URL 에 해당하는 캐시 항목을 무효화한다 (캐시가 없는 거래면 무시).
+     * 진행 중인 합쳐진 호출은 URL 과 무관하게 모두 떼어내, 이후 호출이 무효화 전에 시작된 호출에 합류하지 않게 한다.
+     */
+    public void evict(String transactionCode, Map<String, Object> params) {
+        CompiledMessageSpec compiled = getCompiledSpec(transactionCode);
+        if (compiled.getSingleFlight() != null) {
+            compiled.getSingleFlight().detachAll();
+        }
+        if (compiled.getCache() != null) {
+            compiled.getCache().evict(compiled.getUrlTemplate().expand(params));
+        }
+    }
+
+    /**
+     * 거래의 캐시 항목을 모두 무효화하고 진행 중인 합쳐진 호출을 떼어낸다 (둘 다 없는 거래면 무시).
+     */
+    public void evictAll(String transactionCode) {
+        CompiledMessageSpec compiled = getCompiledSpec(transactionCode);
+        if (compiled.getSingleFlight() != null) {
+            compiled.getSingleFlight().detachAll();
+        }
+        if (compiled.getCache() != null) {
+            compiled.getCache().evictAll();
+        }
+    }
+
+    /**
+     * 이 시스템의 적응형 동시성 한도 (비활성화된 경우 null)
+     */
+    public AdaptiveLimiter limiter() {
+        return limiter;
+    }
+
     /**
      * 거래코드와 파라미터로 외부 시스템에 메시지를 전송하고 응답을 반환한다.
      *
@@ -46,125 +229,319 @@ public abstract class MessageClient {
      * @param params          요청 파라미터
      * @return 응답 데이터 (data/payload 영역)
      */
-    @SuppressWarnings("unchecked")
     public Map<String, Object> request(String transactionCode, Map<String, Object> params) {
-        MessageSpecProperties spec = transactionCodeMap.get(transactionCode);
-        if (spec == null) {
-            throw new IllegalArgumentException("등록되지 않은 거래코드: " + transactionCode);
-        }
-
-        // 1. URL 조립
-        String url = buildUrl(spec, params);
+        CompiledMessageSpec compiled = getCompiledSpec(transactionCode);
+        return request(compiled, params, compiled.getMapReader());
+    }
 
-        // 2. Request Body 조립 (POST/PUT)
-        Object body = null;
-        HttpMethod method = HttpMethod.valueOf(spec.getMethod().toUpperCase());
-        if (method == HttpMethod.POST || method == HttpMethod.PUT) {
-            body = buildBody(spec, params);
-        }
+    /**
+     * 응답 데이터 영역을 지정한 타입(record/DTO)으로 바로 바인딩해 반환한다.
+     * responseMapping 이 설정된 거래는 매핑된 필드명 기준으로 바인딩한다.
+     *
+     * @param type 데이터 영역이 객체인 경우의 바인딩 타입
+     * @return 바인딩 결과 (데이터 영역이 없으면 null)
+     */
+    public <T> T request(String transactionCode, Map<String, Object> params, Class<T> type) {
+        return request(transactionCode, params, objectMapper.constructType(type));
+    }
 
-        // 3. HTTP 실행
-        String responseBody = httpClient.execute(url, method, body);
+    /**
+     * 데이터 영역이 목록인 거래의 각 항목을 지정한 타입으로 바인딩해 반환한다.
+     *
+     * @return 바인딩된 목록 (데이터 영역이 없으면 빈 목록)
+     */
+    public <T> List<T> requestList(String transactionCode, Map<String, Object> params, Class<T> itemType) {
+        return request(transactionCode, params,
+                objectMapper.getTypeFactory().constructCollectionType(List.class, itemType));
+    }
 
-        // 4. 응답 파싱
-        return parseResponse(responseBody, spec.getResponseMapping());
+    /**
+     * 응답 데이터 영역을 지정한 JavaType 으로 바인딩해 반환한다.
+     */
+    public <T> T request(String transactionCode, Map<String, Object> params, JavaType type) {
+        CompiledMessageSpec compiled = getCompiledSpec(transactionCode);
+        return request(compiled, params, compiled.typedReader(type));
     }
 
-    private String buildUrl(MessageSpecProperties spec, Map<String, Object> params) {
-        String url = properties.getBaseUrl() + spec.getPath();
+    /**
+     * 응답 데이터 영역을 {@link #request(String, Map)} 결과를 직렬화한 것과 같은 JSON(UTF-8) 바이트로 반환한다.
+     * responseMapping 이 없는 거래는 Map 을 만들지 않고 외부 응답에서 데이터 영역 바이트를 그대로 잘라내며,
+     * 매핑이 있는 거래는 필드명이 바뀌므로 Map 으로 읽은 뒤 직렬화한다. 캐시, 재시도 등 호출 경로는 request 와 같다.
+     *
+     * @return 데이터 영역 JSON
+     */
+    public byte[] requestRaw(String transactionCode, Map<String, Object> params) {
+        CompiledMessageSpec compiled = getCompiledSpec(transactionCode);
+        if (compiled.isRawPassThrough()) {
+            return request(compiled, params, envelopeParser::parseRaw);
+        }
+        Map<String, Object> data = request(compiled, params, compiled.getMapReader());
+        try {
+            return objectMapper.writeValueAsBytes(data);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답 데이터 직렬화 실패: " + e.getMessage(), e);
+        }
+    }
 
-        // Path variable 치환
-        for (String pathVar : spec.getPathVariables()) {
-            Object value = params.get(pathVar);
-            if (value == null) {
-                throw new IllegalArgumentException("필수 경로변수 누락: " + pathVar);
-            }
-            url = url.replace("{" + pathVar + "}", String.valueOf(value));
-        }
-
-        // Query parameter 조립
-        if (!spec.getQueryParams().isEmpty()) {
-            StringBuilder sb = new StringBuilder(url);
-            boolean first = true;
-            for (Map.Entry<String, String> entry : spec.getQueryParams().entrySet()) {
-                Object value = params.get(entry.getValue());
-                if (value != null) {
-                    sb.append(first ? "?" : "&");
-                    sb.append(URLEncoder.encode(entry.getKey(), StandardCharsets.UTF_8));
-                    sb.append("=");
-                    sb.append(URLEncoder.encode(String.valueOf(value), StandardCharsets.UTF_8));
-                    first = false;
+    /**
+     * 거래코드와 파라미터로 외부 시스템에 메시지를 비동기로 전송한다.
+     * 논블로킹 I/O로 처리되어 응답 대기 중 호출 스레드를 점유하지 않으며,
+     * 오류는 동기 호출과 같은 예외(ExternalSystemException, IllegalArgumentException)로 future 를 완료시킨다.
+     *
+     * @param transactionCode 거래코드
+     * @param params          요청 파라미터
+     * @return 응답 데이터 (data/payload 영역)
+     */
+    public CompletableFuture<Map<String, Object>> requestAsync(String transactionCode, Map<String, Object> params) {
+        CompiledMessageSpec compiled;
+        String url;
+        byte[] body = null;
+        try {
+            compiled = getCompiledSpec(transactionCode);
+            url = compiled.getUrlTemplate().expand(params);
+            ResponseCache.Hit hit = compiled.getCache() != null ? compiled.getCache().get(url) : null;
+            if (hit != null) {
+                if (hit.isRefresh()) {
+                    refreshInBackground(compiled, url, hit);
                 }
+                return CompletableFuture.completedFuture(envelopeParser.parse(hit.getBody(), compiled.getMapReader()));
             }
-            url = sb.toString();
+            if (compiled.hasRequestBody()) {
+                body = compiled.getBodyWriter().write(params);
+            }
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
         }
 
-        return url;
+        byte[] requestBody = body;
+        long epoch = compiled.getCache() != null ? compiled.getCache().epoch() : 0;
+        long start = System.nanoTime();
+        SingleFlight singleFlight = compiled.getSingleFlight();
+        CompletableFuture<byte[]> exchange = singleFlight != null
+                ? singleFlight.executeAsync(flightKey(url, body), () -> executeAsync(compiled, url, requestBody))
+                : executeAsync(compiled, url, requestBody);
+        CompletableFuture<Map<String, Object>> result = exchange.thenApply(responseBody -> {
+            Map<String, Object> data = envelopeParser.parse(responseBody, compiled.getMapReader());
+            if (compiled.getCache() != null) {
+                compiled.getCache().put(url, responseBody, System.nanoTime() - start, epoch);
+            }
+            return data;
+        });
+        // 호출자가 취소하거나 타임아웃(orTimeout)으로 끝내면 진행 중인 HTTP 교환도 취소
+        result.whenComplete((r, e) -> {
+            if (e != null) {
+                exchange.cancel(false);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 데이터 영역이 목록인 조회 거래의 항목을 순서대로 읽는 Stream 을 반환한다.
+     * pagination 이 설정된 거래는 커서를 따라 모든 페이지를 읽고, 없으면 단일 응답을 한 페이지로 본다.
+     * <p>
+     * 페이지는 항목을 소비하는 만큼만 요청하며, 현재 페이지를 소비하는 동안 다음 페이지를 비동기 전송으로 미리 받는다.
+     * 항목은 꺼낼 때 응답 본문에서 하나씩 바인딩하므로 메모리에는 현재 페이지 본문과 다음 페이지 하나만 유지한다.
+     * 중간에 멈추면 {@link Stream#close()} 로 받는 중인 요청을 취소해야 한다 (try-with-resources 권장).
+     * 페이지 요청 실패는 항목을 읽는 시점에 ExternalSystemException 으로 던져진다. 응답 캐시와 동시 호출 합치기는 쓰지 않는다.
+     *
+     * @param transactionCode 조회 거래코드
+     * @return 각 항목(응답 매핑 적용)의 Map
+     * @throws IllegalArgumentException 등록되지 않은 거래코드, 경로변수 누락
+     */
+    public Stream<Map<String, Object>> stream(String transactionCode, Map<String, Object> params) {
+        return stream(transactionCode, params,
+                objectMapper.getTypeFactory().constructMapType(LinkedHashMap.class, String.class, Object.class));
+    }
+
+    /**
+     * 각 항목을 지정한 타입(record/DTO)으로 바인딩하는 {@link #stream(String, Map)}.
+     */
+    public <T> Stream<T> stream(String transactionCode, Map<String, Object> params, Class<T> itemType) {
+        return stream(transactionCode, params, objectMapper.constructType(itemType));
     }
 
-    private Map<String, Object> buildBody(MessageSpecProperties spec, Map<String, Object> params) {
-        if (spec.getBodyFields().isEmpty()) {
-            return new LinkedHashMap<>(params);
+    private <T> Stream<T> stream(String transactionCode, Map<String, Object> params, JavaType itemType) {
+        CompiledMessageSpec compiled = getCompiledSpec(transactionCode);
+        PaginationProperties pagination = compiled.getPagination();
+        String cursorField = pagination != null ? pagination.getCursorField() : null;
+        String url = compiled.getUrlTemplate().expand(params);
+        ObjectReader itemReader = objectMapper.readerFor(itemType)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        PageIterator<T> pages = new PageIterator<>(
+                cursor -> executeAsync(compiled, compiled.pageUrl(url, cursor), null),
+                body -> envelopeParser.parseItems(body, itemReader, compiled.getSpec().getResponseMapping(), cursorField),
+                pagination != null ? pagination.getMaxPages() : 1);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(pages, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(pages::close);
+    }
+
+    private CompiledMessageSpec getCompiledSpec(String transactionCode) {
+        CompiledMessageSpec compiled = transactionCodeMap.get(transactionCode);
+        if (compiled == null) {
+            throw new IllegalArgumentException("등록되지 않은 거래코드: " + transactionCode);
         }
-        Map<String, Object> body = new LinkedHashMap<>();
-        for (Map.Entry<String, String> entry : spec.getBodyFields().entrySet()) {
-            Object value = params.get(entry.getValue());
-            if (value != null) {
-                body.put(entry.getKey(), value);
+        return compiled;
+    }
+
+    private <T> T request(CompiledMessageSpec compiled, Map<String, Object> params,
+                          EnvelopeParser.DataReader<T> dataReader) {
+        return request(compiled, params, responseBody -> envelopeParser.parse(responseBody, dataReader));
+    }
+
+    /**
+     * @param responseParser 성공코드를 확인하고 결과를 만드는 응답 본문 파서
+     */
+    private <T> T request(CompiledMessageSpec compiled, Map<String, Object> params,
+                          Function<byte[], T> responseParser) {
+        // 1. URL 조립 (기동 시 컴파일된 템플릿 사용)
+        String url = compiled.getUrlTemplate().expand(params);
+
+        ResponseCache cache = compiled.getCache();
+        ResponseCache.Hit hit = cache != null ? cache.get(url) : null;
+        if (hit != null) {
+            if (hit.isRefresh()) {
+                refreshInBackground(compiled, url, hit);
             }
+            return responseParser.apply(hit.getBody());
+        }
+
+        // 2. Request Body 조립 (POST/PUT)
+        byte[] body = null;
+        if (compiled.hasRequestBody()) {
+            body = compiled.getBodyWriter().write(params);
+        }
+
+        // 3. HTTP 실행 (같은 요청이 진행 중이면 합류)
+        long epoch = cache != null ? cache.epoch() : 0;
+        long start = System.nanoTime();
+        byte[] responseBody = fetch(compiled, url, body);
+
+        // 4. 응답 파싱 (토큰 스트림 1회 통과, 매핑은 파싱 중 적용)
+        T result = responseParser.apply(responseBody);
+        // 파싱이 성공한(성공코드인) 응답만 캐시에 남는다
+        if (cache != null) {
+            cache.put(url, responseBody, System.nanoTime() - start, epoch);
         }
-        return body;
+        return result;
     }
 
-    @SuppressWarnings("unchecked")
-    private Map<String, Object> parseResponse(String responseBody, Map<String, String> responseMapping) {
+    /**
+     * 캐시 항목을 호출 스레드와 무관하게 갱신한다. 실행기가 가득 차면 갱신을 건너뛰고 기존 응답을 계속 쓴다.
+     */
+    private void refreshInBackground(CompiledMessageSpec compiled, String url, ResponseCache.Hit hit) {
+        ResponseCache cache = compiled.getCache();
+        if (refreshExecutor == null) {
+            cache.refreshAbandoned(url);
+            return;
+        }
         try {
-            Map<String, Object> fullResponse = objectMapper.readValue(responseBody,
-                    objectMapper.getTypeFactory().constructMapType(LinkedHashMap.class, String.class, Object.class));
-
-            // 응답코드 확인
-            Object codeValue = fullResponse.get(properties.getSuccessCodeField());
-            if (!properties.getSuccessCodeValue().equals(String.valueOf(codeValue))) {
-                String errorMsg = String.valueOf(
-                        fullResponse.getOrDefault(properties.getErrorMessageField(), "알 수 없는 오류"));
-                throw new ExternalSystemException(String.valueOf(codeValue), errorMsg);
-            }
+            refreshExecutor.execute(() -> {
+                try {
+                    long start = System.nanoTime();
+                    byte[] responseBody = fetch(compiled, url, null);
+                    // 성공코드인 응답만 반영
+                    envelopeParser.parse(responseBody, compiled.getMapReader());
+                    cache.refreshed(url, hit, responseBody, System.nanoTime() - start);
+                } catch (RuntimeException e) {
+                    log.debug("캐시 갱신 실패: {}/{} {} - {}", systemName(), cache.getTransactionCode(), url, e.getMessage());
+                    cache.refreshAbandoned(url);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            cache.refreshAbandoned(url);
+        }
+    }
 
-            // 데이터 영역 추출
-            Object data = fullResponse.get(properties.getDataField());
-            if (data instanceof Map) {
-                return applyMapping((Map<String, Object>) data, responseMapping);
-            } else if (data instanceof List) {
-                List<Object> mappedItems = ((List<Object>) data).stream()
-                        .map(item -> item instanceof Map
-                                ? (Object) applyMapping((Map<String, Object>) item, responseMapping)
-                                : item)
-                        .collect(Collectors.toList());
-                Map<String, Object> result = new LinkedHashMap<>();
-                result.put("items", mappedItems);
-                return result;
-            } else if (data == null) {
-                return new LinkedHashMap<>();
-            }
+    private byte[] fetch(CompiledMessageSpec compiled, String url, byte[] body) {
+        SingleFlight singleFlight = compiled.getSingleFlight();
+        return singleFlight != null
+                ? singleFlight.execute(flightKey(url, body), () -> execute(compiled, url, body))
+                : execute(compiled, url, body);
+    }
 
-            Map<String, Object> result = new LinkedHashMap<>();
-            result.put("value", data);
-            return result;
+    private byte[] execute(CompiledMessageSpec compiled, String url, byte[] body) {
+        // 헤지 거래는 두 시도를 동시에 진행해야 하므로 비동기 전송으로 보내고 결과를 기다린다
+        if (compiled.getHedge() != null) {
+            return await(executeAsync(compiled, url, body));
+        }
 
-        } catch (JsonProcessingException e) {
-            throw new ExternalSystemException("PARSE_ERROR", "응답 파싱 실패: " + e.getMessage(), e);
+        // 재시도 → 서킷 브레이커 → 격벽 → 적응형 한도 → HTTP 순서로 감싼다
+        Supplier<byte[]> call = () -> httpClient.execute(url, compiled.getMethod(), body);
+        if (limiter != null) {
+            Supplier<byte[]> inner = call;
+            call = () -> limiter.execute(inner);
+        }
+        Bulkhead bulkhead = compiled.getBulkhead();
+        if (bulkhead != null) {
+            Supplier<byte[]> inner = call;
+            call = () -> bulkhead.execute(inner);
+        }
+        CircuitBreaker circuitBreaker = compiled.getCircuitBreaker();
+        if (circuitBreaker != null) {
+            Supplier<byte[]> inner = call;
+            call = () -> circuitBreaker.execute(inner);
+        }
+        Retry retry = compiled.getRetry();
+        if (retry != null) {
+            Supplier<byte[]> inner = call;
+            call = () -> retry.execute(inner);
         }
+        retryBudget.deposit();
+        hedgeBudget.deposit();
+        return call.get();
     }
 
-    private Map<String, Object> applyMapping(Map<String, Object> data, Map<String, String> responseMapping) {
-        if (responseMapping == null || responseMapping.isEmpty()) {
-            return data;
+    private CompletableFuture<byte[]> executeAsync(CompiledMessageSpec compiled, String url, byte[] body) {
+        Supplier<CompletableFuture<byte[]>> call = () -> httpClient.executeAsync(url, compiled.getMethod(), body);
+        if (limiter != null) {
+            Supplier<CompletableFuture<byte[]>> inner = call;
+            call = () -> limiter.executeAsync(inner);
+        }
+        Bulkhead bulkhead = compiled.getBulkhead();
+        if (bulkhead != null) {
+            Supplier<CompletableFuture<byte[]>> inner = call;
+            call = () -> bulkhead.executeAsync(inner);
+        }
+        CircuitBreaker circuitBreaker = compiled.getCircuitBreaker();
+        if (circuitBreaker != null) {
+            Supplier<CompletableFuture<byte[]>> inner = call;
+            call = () -> circuitBreaker.executeAsync(inner);
+        }
+        Hedge hedge = compiled.getHedge();
+        if (hedge != null) {
+            Supplier<CompletableFuture<byte[]>> inner = call;
+            call = () -> hedge.executeAsync(inner);
         }
-        Map<String, Object> mapped = new LinkedHashMap<>();
-        for (Map.Entry<String, Object> entry : data.entrySet()) {
-            String key = responseMapping.getOrDefault(entry.getKey(), entry.getKey());
-            mapped.put(key, entry.getValue());
+        Retry retry = compiled.getRetry();
+        if (retry != null) {
+            Supplier<CompletableFuture<byte[]>> inner = call;
+            call = () -> retry.executeAsync(inner);
+        }
+        retryBudget.deposit();
+        hedgeBudget.deposit();
+        return call.get();
+    }
+
+    /**
+     * 동시 호출 합치기 키. 거래별로 SingleFlight 가 따로 있으므로 URL 과 본문만으로 구분한다.
+     */
+    private static Object flightKey(String url, byte[] body) {
+        return body == null ? url : Arrays.asList(url, ByteBuffer.wrap(body));
+    }
+
+    static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new ExternalSystemException("CONNECTION_ERROR", "외부 시스템 응답 대기 중 인터럽트", e);
         }
-        return mapped;
     }
 }
@@ -23,4 +23,39 @@ public class MessageSpecProperties {
     private Map<String, String> bodyFields = new LinkedHashMap<>();
 
     private Map<String, String> responseMapping = new LinkedHashMap<>();
+
+    /**
+     * 거래 전용 격벽 설정 (없으면 시스템 격벽을 공유)
+     */
+    private BulkheadProperties bulkhead;
+
+    /**
+     * 거래 전용 서킷 브레이커 설정 (없으면 시스템 설정을 사용, 상태는 항상 거래코드별)
+     */
+    private CircuitBreakerProperties circuitBreaker;
+
+    /**
+     * 재시도 설정 (없으면 재시도하지 않음)
+     */
+    private RetryProperties retry;
+
+    /**
+     * 헤지 설정 (조회 거래 전용, 비동기 전송 사용)
+     */
+    private HedgeProperties hedge;
+
+    /**
+     * 응답 캐시 설정 (조회 거래 전용, 없으면 캐시하지 않음)
+     */
+    private CacheProperties cache;
+
+    /**
+     * 같은 URL/본문의 동시 호출을 한 번의 외부 호출로 합칠지 여부 (멱등 메서드 전용)
+     */
+    private boolean coalesce = false;
+
+    /**
+     * 커서 기반 페이지 설정 (없으면 stream 은 단일 응답만 읽음)
+     */
+    private PaginationProperties pagination;
 }
@@ -0,0 +1,100 @@
+package com.example.mydata.client.core;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 페이지 거래를 항목 단위로 읽는 반복자.
+ * <p>
+ * 첫 페이지는 처음 항목을 요청할 때 받는다. 페이지 봉투를 확인하면 곧바로 다음 페이지 요청을 보내고,
+ * 호출자가 현재 페이지 항목을 소비하는 동안 응답을 받아 둔다.
+ * 메모리에는 현재 페이지 본문과 받는 중인 다음 페이지 하나만 두므로 전체 건수와 무관하다 (항목은 꺼낼 때 하나씩 바인딩).
+ * 이미 받은 커서가 다시 오거나(순환) 최대 페이지 수를 넘으면 ExternalSystemException 으로 끝낸다. 스레드 안전하지 않다.
+ */
+final class PageIterator<T> implements Iterator<T>, AutoCloseable {
+
+    private final Function<String, CompletableFuture<byte[]>> fetch;
+    private final Function<byte[], EnvelopeParser.Page<Iterator<T>>> parse;
+    private final int maxPages;
+    /** 지금까지 요청한 커서 (페이지 수만큼만 쌓임) */
+    private final Set<String> seenCursors = new HashSet<>();
+
+    private Iterator<T> current = Collections.emptyIterator();
+    /** 받는 중인 다음 페이지 (더 없으면 null) */
+    private CompletableFuture<byte[]> next;
+    private boolean started;
+    private boolean closed;
+
+    /**
+     * @param fetch 커서(첫 페이지면 null)로 페이지 응답 본문을 요청
+     * @param parse    응답 본문에서 항목 반복자와 다음 커서를 읽음
+     * @param maxPages 최대 페이지 수
+     */
+    PageIterator(Function<String, CompletableFuture<byte[]>> fetch,
+                 Function<byte[], EnvelopeParser.Page<Iterator<T>>> parse, int maxPages) {
+        this.fetch = fetch;
+        this.parse = parse;
+        this.maxPages = maxPages;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext()) {
+            if (closed) {
+                return false;
+            }
+            if (!started) {
+                started = true;
+                next = fetch.apply(null);
+            }
+            if (next == null) {
+                return false;
+            }
+            CompletableFuture<byte[]> pending = next;
+            next = null;
+            EnvelopeParser.Page<Iterator<T>> page = parse.apply(MessageClient.await(pending));
+            String cursor = page.nextCursor();
+            if (cursor != null) {
+                // 받은 페이지의 항목은 내보내고, 다음 페이지를 읽을 차례에 실패시킨다
+                if (!seenCursors.add(cursor)) {
+                    next = CompletableFuture.failedFuture(new ExternalSystemException("PARSE_ERROR",
+                            "응답 파싱 실패: 이미 받은 페이지 커서가 반복됩니다 (" + cursor + ")"));
+                } else if (seenCursors.size() + 1 > maxPages) {
+                    // 첫 페이지 + 받은 커서 수 = 다음 요청의 페이지 번호
+                    next = CompletableFuture.failedFuture(new ExternalSystemException("PARSE_ERROR",
+                            "응답 파싱 실패: 최대 페이지 수(" + maxPages + ")를 넘었습니다"));
+                } else {
+                    next = fetch.apply(cursor);
+                }
+            }
+            current = page.data();
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    /**
+     * 받는 중인 다음 페이지 요청을 취소한다.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        current = Collections.emptyIterator();
+        if (next != null) {
+            next.cancel(false);
+            next = null;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.mydata.client.core;
+
+import lombok.Data;
+
+/**
+ * 커서 기반 페이지 거래 설정 (조회 거래 전용, {@code MessageClient.stream} 에서 사용).
+ * 응답 봉투의 cursorField 값을 다음 요청의 cursorParam 쿼리 파라미터로 보내며, 값이 없으면 마지막 페이지로 본다.
+ */
+@Data
+public class PaginationProperties {
+
+    /**
+     * 응답 봉투에서 다음 페이지 커서를 담은 필드명 (데이터 필드와 같은 레벨)
+     */
+    private String cursorField;
+
+    /**
+     * 다음 페이지 요청에 커서를 보내는 쿼리 파라미터명
+     */
+    private String cursorParam;
+
+    /**
+     * 페이지 크기 쿼리 파라미터명 (없으면 보내지 않고 외부 시스템 기본값 사용)
+     */
+    private String sizeParam;
+
+    private int pageSize = 100;
+
+    /**
+     * 한 번의 stream 에서 읽을 최대 페이지 수 (넘으면 ExternalSystemException, 커서를 끝없이 주는 외부 시스템 방어)
+     */
+    private int maxPages = 10_000;
+}
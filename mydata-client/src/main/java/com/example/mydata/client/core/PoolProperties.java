@@ -0,0 +1,34 @@
+package com.example.mydata.client.core;
+
+import lombok.Data;
+
+/**
+ * 외부 시스템별 커넥션 풀 설정 (시간 단위: ms).
+ */
+@Data
+public class PoolProperties {
+
+    private int maxTotal = 50;
+
+    private int maxPerRoute = 50;
+
+    /**
+     * 풀에서 커넥션을 얻기까지 최대 대기시간
+     */
+    private int acquireTimeout = 3000;
+
+    /**
+     * 이 시간 이상 유휴 상태인 커넥션은 백그라운드에서 정리
+     */
+    private int idleEvictionTime = 30000;
+
+    /**
+     * 커넥션 최대 수명 (0 이하이면 제한 없음)
+     */
+    private int timeToLive = 300000;
+
+    /**
+     * 이 시간 이상 유휴였던 커넥션은 재사용 전에 유효성 검사
+     */
+    private int validateAfterInactivity = 2000;
+}
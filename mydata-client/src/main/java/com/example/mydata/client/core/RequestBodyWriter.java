@@ -0,0 +1,94 @@
+package com.example.mydata.client.core;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * 기동 시 거래 명세(bodyFields)별로 컴파일된 요청 본문 작성기.
+ * <p>
+ * 요청 파라미터에서 값을 꺼내 JSON 필드로 바로 써 내려가며, 중간 Map 을 만들지 않는다.
+ * 필드명은 컴파일 시 한 번만 인코딩해 두고, 값이 null 인 필드는 생략한다.
+ * bodyFields 가 비어 있으면 요청 파라미터 전체를 본문으로 쓴다.
+ */
+class RequestBodyWriter {
+
+    private final ObjectMapper objectMapper;
+    /** 본문 필드명 (bodyFields 가 없으면 null) */
+    private final SerializedString[] fieldNames;
+    /** 필드별로 값을 꺼낼 요청 파라미터 이름 */
+    private final String[] paramNames;
+
+    RequestBodyWriter(Map<String, String> bodyFields, ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        if (bodyFields == null || bodyFields.isEmpty()) {
+            this.fieldNames = null;
+            this.paramNames = null;
+            return;
+        }
+        this.fieldNames = new SerializedString[bodyFields.size()];
+        this.paramNames = new String[bodyFields.size()];
+        int i = 0;
+        for (Map.Entry<String, String> entry : bodyFields.entrySet()) {
+            SerializedString name = new SerializedString(entry.getKey());
+            // UTF-8 인코딩 결과를 미리 캐시
+            name.asQuotedUTF8();
+            fieldNames[i] = name;
+            paramNames[i] = entry.getValue();
+            i++;
+        }
+    }
+
+    /**
+     * 요청 파라미터로 직렬화된 JSON 본문(UTF-8)을 만든다.
+     */
+    byte[] write(Map<String, Object> params) {
+        try (ByteArrayBuilder buffer = new ByteArrayBuilder(256);
+             JsonGenerator generator = objectMapper.createGenerator(buffer)) {
+            generator.writeStartObject();
+            if (fieldNames == null) {
+                for (Map.Entry<String, Object> entry : params.entrySet()) {
+                    generator.writeFieldName(entry.getKey());
+                    writeValue(generator, entry.getValue());
+                }
+            } else {
+                for (int i = 0; i < fieldNames.length; i++) {
+                    Object value = params.get(paramNames[i]);
+                    if (value != null) {
+                        generator.writeFieldName(fieldNames[i]);
+                        writeValue(generator, value);
+                    }
+                }
+            }
+            generator.writeEndObject();
+            generator.flush();
+            return buffer.toByteArray();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("요청 본문 직렬화 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 전문에 주로 쓰이는 단순 값은 직접 쓰고, 그 외 타입만 ObjectMapper 직렬화기로 넘긴다.
+     */
+    private static void writeValue(JsonGenerator generator, Object value) throws IOException {
+        if (value instanceof String text) {
+            generator.writeString(text);
+        } else if (value instanceof Integer number) {
+            generator.writeNumber(number);
+        } else if (value instanceof Long number) {
+            generator.writeNumber(number);
+        } else if (value instanceof BigDecimal number) {
+            generator.writeNumber(number);
+        } else if (value instanceof Boolean flag) {
+            generator.writeBoolean(flag);
+        } else {
+            generator.writeObject(value);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.mydata.client.core;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.util.JsonParserDelegate;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * 데이터 영역을 읽는 동안 필드명을 responseMapping 에 따라 바꿔 보여주는 파서.
+ * <p>
+ * 데이터가 객체이면 그 객체의 최상위 키를, 배열이면 각 항목 객체의 최상위 키를 바꾼다.
+ * 토큰 단계에서 이름만 바꾸므로 매핑을 위한 두 번째 Map 복사가 생기지 않는다.
+ */
+class ResponseMappingParser extends JsonParserDelegate {
+
+    private final Map<String, String> responseMapping;
+    private final int targetDepth;
+
+    /**
+     * @param parser          데이터 영역의 시작 토큰(START_OBJECT / START_ARRAY)에 위치한 파서
+     * @param responseMapping 외부 필드명 → 내부 필드명
+     */
+    ResponseMappingParser(JsonParser parser, Map<String, String> responseMapping) {
+        super(parser);
+        this.responseMapping = responseMapping;
+        int depth = parser.getParsingContext().getNestingDepth();
+        this.targetDepth = parser.currentToken() == JsonToken.START_ARRAY ? depth + 1 : depth;
+    }
+
+    /**
+     * 매핑이 없으면 원래 파서를 그대로 돌려준다.
+     */
+    static JsonParser wrap(JsonParser parser, Map<String, String> responseMapping) {
+        JsonToken token = parser.currentToken();
+        if (responseMapping == null || responseMapping.isEmpty()
+                || (token != JsonToken.START_OBJECT && token != JsonToken.START_ARRAY)) {
+            return parser;
+        }
+        return new ResponseMappingParser(parser, responseMapping);
+    }
+
+    private String mapName(String name) {
+        if (name == null) {
+            return null;
+        }
+        JsonStreamContext context = delegate.getParsingContext();
+        if (delegate.currentToken() == JsonToken.START_OBJECT || delegate.currentToken() == JsonToken.START_ARRAY) {
+            context = context.getParent();
+        }
+        if (context == null || !context.inObject() || context.getNestingDepth() != targetDepth) {
+            return name;
+        }
+        return responseMapping.getOrDefault(name, name);
+    }
+
+    @Override
+    public String currentName() throws IOException {
+        return mapName(delegate.currentName());
+    }
+
+    @Override
+    @Deprecated
+    public String getCurrentName() throws IOException {
+        return mapName(delegate.currentName());
+    }
+
+    @Override
+    public String getText() throws IOException {
+        if (delegate.currentToken() == JsonToken.FIELD_NAME) {
+            return currentName();
+        }
+        return delegate.getText();
+    }
+
+    @Override
+    public String getValueAsString() throws IOException {
+        if (delegate.currentToken() == JsonToken.FIELD_NAME) {
+            return currentName();
+        }
+        return delegate.getValueAsString();
+    }
+
+    @Override
+    public String getValueAsString(String defaultValue) throws IOException {
+        if (delegate.currentToken() == JsonToken.FIELD_NAME) {
+            return currentName();
+        }
+        return delegate.getValueAsString(defaultValue);
+    }
+
+    @Override
+    public boolean hasTextCharacters() {
+        return delegate.currentToken() != JsonToken.FIELD_NAME && delegate.hasTextCharacters();
+    }
+
+    @Override
+    public char[] getTextCharacters() throws IOException {
+        if (delegate.currentToken() == JsonToken.FIELD_NAME) {
+            return currentName().toCharArray();
+        }
+        return delegate.getTextCharacters();
+    }
+
+    @Override
+    public int getTextLength() throws IOException {
+        if (delegate.currentToken() == JsonToken.FIELD_NAME) {
+            return currentName().length();
+        }
+        return delegate.getTextLength();
+    }
+
+    @Override
+    public int getTextOffset() throws IOException {
+        if (delegate.currentToken() == JsonToken.FIELD_NAME) {
+            return 0;
+        }
+        return delegate.getTextOffset();
+    }
+
+    @Override
+    public String nextFieldName() throws IOException {
+        return nextToken() == JsonToken.FIELD_NAME ? currentName() : null;
+    }
+
+    @Override
+    public boolean nextFieldName(SerializableString str) throws IOException {
+        return nextToken() == JsonToken.FIELD_NAME && str.getValue().equals(currentName());
+    }
+}
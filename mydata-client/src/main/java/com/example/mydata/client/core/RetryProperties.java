@@ -0,0 +1,33 @@
+package com.example.mydata.client.core;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 거래별 재시도 설정 (시간 단위: ms).
+ * 대기시간은 min(maxBackoff, initialBackoff * 2^(n-1)) 범위에서 무작위(full jitter)로 정한다.
+ */
+@Data
+public class RetryProperties {
+
+    /**
+     * 최초 호출을 포함한 최대 시도 횟수 (1 이하이면 재시도하지 않음)
+     */
+    private int maxAttempts = 1;
+
+    private int initialBackoff = 100;
+
+    private int maxBackoff = 2000;
+
+    /**
+     * 멱등하지 않은 메서드(POST 등)도 재시도할지 여부
+     */
+    private boolean retryNonIdempotent = false;
+
+    /**
+     * 재시도 대상 에러코드
+     */
+    private List<String> retryOn = new ArrayList<>(List.of("CONNECTION_ERROR", "SERVER_ERROR"));
+}
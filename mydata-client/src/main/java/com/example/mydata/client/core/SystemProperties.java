@@ -22,5 +22,43 @@ public class SystemProperties {
 
     private int readTimeout = 10000;
 
+    /**
+     * HTTP 전송 방식 (apache-classic | apache-async | jdk)
+     */
+    private TransportType transport = TransportType.APACHE_CLASSIC;
+
+    /**
+     * HTTP/2 사용 여부 (apache-async, jdk 전송에서만 적용, 평문은 h2c)
+     */
+    private boolean http2 = false;
+
+    /**
+     * 응답 압축(gzip/deflate) 협상 여부. 켜면 Accept-Encoding 을 보내고 압축된 응답을 풀어 파서에 넘긴다
+     */
+    private boolean compression = false;
+
+    private PoolProperties pool = new PoolProperties();
+
+    private BulkheadProperties bulkhead = new BulkheadProperties();
+
+    private LimiterProperties limiter = new LimiterProperties();
+
+    private CircuitBreakerProperties circuitBreaker = new CircuitBreakerProperties();
+
+    /**
+     * 시스템 전체 재시도 예산 (거래별 재시도가 공유)
+     */
+    private TokenBudgetProperties retryBudget = new TokenBudgetProperties();
+
+    /**
+     * 시스템 전체 헤지 예산 (거래별 헤지가 공유)
+     */
+    private TokenBudgetProperties hedgeBudget = new TokenBudgetProperties();
+
+    /**
+     * 캐시 stale 갱신/조기 갱신을 실행하는 백그라운드 실행기 (거래별 캐시가 공유)
+     */
+    private CacheRefreshProperties cacheRefresh = new CacheRefreshProperties();
+
     private Map<String, MessageSpecProperties> messages = new LinkedHashMap<>();
 }
@@ -0,0 +1,19 @@
+package com.example.mydata.client.core;
+
+import lombok.Data;
+
+/**
+ * 추가 호출(재시도/헤지) 예산 설정.
+ * 일반 호출 1건마다 ratio 만큼 토큰이 쌓이고 추가 호출 1건마다 토큰 1개를 쓴다.
+ * 따라서 추가 호출은 장기적으로 전체 호출의 ratio 비율을 넘지 못한다.
+ */
+@Data
+public class TokenBudgetProperties {
+
+    private double ratio = 0.1;
+
+    /**
+     * 쌓아 둘 수 있는 최대 토큰 수 (한 번에 몰릴 수 있는 추가 호출 수)
+     */
+    private int maxTokens = 10;
+}
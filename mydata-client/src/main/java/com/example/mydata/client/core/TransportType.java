@@ -0,0 +1,22 @@
+package com.example.mydata.client.core;
+
+/**
+ * 외부 시스템별 HTTP 전송 방식.
+ */
+public enum TransportType {
+
+    /**
+     * 동기 호출은 Apache classic(블로킹, HTTP/1.1), 비동기 호출은 Apache async 를 쓴다 (기본값)
+     */
+    APACHE_CLASSIC,
+
+    /**
+     * 동기/비동기 모두 Apache async 를 쓴다. http2 설정 시 h2c(prior knowledge) 로 다중화
+     */
+    APACHE_ASYNC,
+
+    /**
+     * 동기/비동기 모두 java.net.http.HttpClient 를 쓴다. http2 설정 시 h2c 업그레이드로 다중화
+     */
+    JDK
+}
@@ -0,0 +1,144 @@
+package com.example.mydata.client.core;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 거래 명세의 URL을 기동 시점에 컴파일한 템플릿.
+ * <p>
+ * baseUrl + path 를 고정 구간(literal)과 경로변수 슬롯으로 나누고, 쿼리 키는 미리 인코딩해 둔다.
+ * 호출 시에는 값만 치환해 한 번에 크기를 잡은 버퍼에 이어 붙인다.
+ */
+public final class UrlTemplate {
+
+    private final String[] literals;
+    private final String[] slotNames;
+    private final String[] queryParamNames;
+    private final String[] firstQueryPrefixes;
+    private final String[] nextQueryPrefixes;
+    private final int literalLength;
+    private final String constantUrl;
+
+    private UrlTemplate(List<String> literals, List<String> slotNames, Map<String, String> queryParams) {
+        this.literals = literals.toArray(new String[0]);
+        this.slotNames = slotNames.toArray(new String[0]);
+        this.queryParamNames = new String[queryParams.size()];
+        this.firstQueryPrefixes = new String[queryParams.size()];
+        this.nextQueryPrefixes = new String[queryParams.size()];
+
+        int i = 0;
+        for (Map.Entry<String, String> entry : queryParams.entrySet()) {
+            String encodedKey = URLEncoder.encode(entry.getKey(), StandardCharsets.UTF_8);
+            queryParamNames[i] = entry.getValue();
+            firstQueryPrefixes[i] = "?" + encodedKey + "=";
+            nextQueryPrefixes[i] = "&" + encodedKey + "=";
+            i++;
+        }
+
+        int length = 0;
+        for (String literal : this.literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+        this.constantUrl = (this.slotNames.length == 0 && queryParamNames.length == 0) ? this.literals[0] : null;
+    }
+
+    /**
+     * 거래 명세를 URL 템플릿으로 컴파일한다.
+     *
+     * @throws IllegalArgumentException 경로변수 선언과 path 의 {@code {}} 슬롯이 일치하지 않는 등 명세가 잘못된 경우
+     */
+    public static UrlTemplate compile(String baseUrl, MessageSpecProperties spec) {
+        String transactionCode = spec.getTransactionCode();
+        if (baseUrl == null || baseUrl.isBlank()) {
+            throw new IllegalArgumentException("baseUrl 미설정: " + transactionCode);
+        }
+        if (spec.getPath() == null) {
+            throw new IllegalArgumentException("path 미설정: " + transactionCode);
+        }
+
+        String url = baseUrl + spec.getPath();
+        Set<String> declared = new LinkedHashSet<>(spec.getPathVariables());
+        Set<String> used = new LinkedHashSet<>();
+        List<String> literals = new ArrayList<>();
+        List<String> slotNames = new ArrayList<>();
+
+        int start = 0;
+        int open;
+        while ((open = url.indexOf('{', start)) >= 0) {
+            int close = url.indexOf('}', open + 1);
+            if (close < 0) {
+                throw new IllegalArgumentException("경로변수 슬롯이 닫히지 않음: " + transactionCode + " " + spec.getPath());
+            }
+            String name = url.substring(open + 1, close);
+            if (!declared.contains(name)) {
+                throw new IllegalArgumentException("선언되지 않은 경로변수 슬롯: " + transactionCode + " {" + name + "}");
+            }
+            literals.add(url.substring(start, open));
+            slotNames.add(name);
+            used.add(name);
+            start = close + 1;
+        }
+        literals.add(url.substring(start));
+
+        for (String name : declared) {
+            if (!used.contains(name)) {
+                throw new IllegalArgumentException("path에 슬롯이 없는 경로변수: " + transactionCode + " " + name);
+            }
+        }
+
+        return new UrlTemplate(literals, slotNames, spec.getQueryParams());
+    }
+
+    /**
+     * 파라미터 값으로 슬롯을 채워 최종 URL을 만든다.
+     * 값이 없는 쿼리 파라미터는 생략한다.
+     */
+    public String expand(Map<String, Object> params) {
+        if (constantUrl != null) {
+            return constantUrl;
+        }
+
+        int length = literalLength;
+
+        String[] slotValues = new String[slotNames.length];
+        for (int i = 0; i < slotNames.length; i++) {
+            Object value = params.get(slotNames[i]);
+            if (value == null) {
+                throw new IllegalArgumentException("필수 경로변수 누락: " + slotNames[i]);
+            }
+            slotValues[i] = String.valueOf(value);
+            length += slotValues[i].length();
+        }
+
+        String[] queryValues = new String[queryParamNames.length];
+        boolean first = true;
+        for (int i = 0; i < queryParamNames.length; i++) {
+            Object value = params.get(queryParamNames[i]);
+            if (value != null) {
+                queryValues[i] = URLEncoder.encode(String.valueOf(value), StandardCharsets.UTF_8);
+                length += (first ? firstQueryPrefixes[i] : nextQueryPrefixes[i]).length() + queryValues[i].length();
+                first = false;
+            }
+        }
+
+        StringBuilder sb = new StringBuilder(length);
+        sb.append(literals[0]);
+        for (int i = 0; i < slotValues.length; i++) {
+            sb.append(slotValues[i]).append(literals[i + 1]);
+        }
+        first = true;
+        for (int i = 0; i < queryValues.length; i++) {
+            if (queryValues[i] != null) {
+                sb.append(first ? firstQueryPrefixes[i] : nextQueryPrefixes[i]).append(queryValues[i]);
+                first = false;
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -1,7 +1,7 @@
 package com.example.mydata.client.giro;
 
 import com.example.mydata.client.config.ExternalSystemsProperties;
-import com.example.mydata.client.core.GenericHttpClient;
+import com.example.mydata.client.config.HttpClientFactory;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -10,9 +10,10 @@ import org.springframework.context.annotation.Configuration;
 public class GiroClientConfig {
 
     @Bean
-    public GiroMessageClient giroMessageClient(GenericHttpClient httpClient,
+    public GiroMessageClient giroMessageClient(HttpClientFactory httpClientFactory,
                                                 ExternalSystemsProperties properties,
                                                 ObjectMapper objectMapper) {
-        return new GiroMessageClient(httpClient, properties.getGiro(), objectMapper);
+        return new GiroMessageClient(httpClientFactory.create("giro", properties.getGiro()),
+                properties.getGiro(), objectMapper);
     }
 }
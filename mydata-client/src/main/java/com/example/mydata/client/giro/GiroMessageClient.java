@@ -10,4 +10,9 @@ public class GiroMessageClient extends MessageClient {
     public GiroMessageClient(GenericHttpClient httpClient, SystemProperties properties, ObjectMapper objectMapper) {
         super(httpClient, properties, objectMapper);
     }
+
+    @Override
+    public String systemName() {
+        return "giro";
+    }
 }
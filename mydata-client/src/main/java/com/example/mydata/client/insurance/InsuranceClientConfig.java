@@ -1,7 +1,7 @@
 package com.example.mydata.client.insurance;
 
 import com.example.mydata.client.config.ExternalSystemsProperties;
-import com.example.mydata.client.core.GenericHttpClient;
+import com.example.mydata.client.config.HttpClientFactory;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -10,9 +10,10 @@ import org.springframework.context.annotation.Configuration;
 public class InsuranceClientConfig {
 
     @Bean
-    public InsuranceMessageClient insuranceMessageClient(GenericHttpClient httpClient,
+    public InsuranceMessageClient insuranceMessageClient(HttpClientFactory httpClientFactory,
                                                           ExternalSystemsProperties properties,
                                                           ObjectMapper objectMapper) {
-        return new InsuranceMessageClient(httpClient, properties.getInsurance(), objectMapper);
+        return new InsuranceMessageClient(httpClientFactory.create("insurance", properties.getInsurance()),
+                properties.getInsurance(), objectMapper);
     }
 }
@@ -10,4 +10,9 @@ public class InsuranceMessageClient extends MessageClient {
     public InsuranceMessageClient(GenericHttpClient httpClient, SystemProperties properties, ObjectMapper objectMapper) {
         super(httpClient, properties, objectMapper);
     }
+
+    @Override
+    public String systemName() {
+        return "insurance";
+    }
 }
@@ -0,0 +1,141 @@
+package com.example.mydata.client.resilience;
+
+import com.example.mydata.client.core.ExternalSystemException;
+import com.example.mydata.client.core.LimiterProperties;
+import lombok.Getter;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 외부 시스템별 적응형 동시성 한도.
+ * <p>
+ * 호출마다 왕복 지연시간과 실패 여부를 표본으로 {@link LimitAlgorithm}이 한도를 조정한다.
+ * 한도를 넘는 호출은 대기하지 않고 LIMIT_EXCEEDED 로 즉시 실패한다.
+ */
+public class AdaptiveLimiter {
+
+    @Getter
+    private final String name;
+    private final LimitAlgorithm algorithm;
+    private final int minLimit;
+    private final int maxLimit;
+
+    private volatile double limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+
+    AdaptiveLimiter(String name, LimiterProperties properties, LimitAlgorithm algorithm) {
+        this.name = name;
+        this.algorithm = algorithm;
+        this.minLimit = Math.max(properties.getMinLimit(), 1);
+        this.maxLimit = Math.max(properties.getMaxLimit(), minLimit);
+        this.limit = Math.max(minLimit, Math.min(maxLimit, properties.getInitialLimit()));
+    }
+
+    /**
+     * 설정이 활성화되어 있으면 한도를, 아니면 null 을 반환한다.
+     */
+    public static AdaptiveLimiter of(String name, LimiterProperties properties) {
+        if (properties == null || !properties.isEnabled()) {
+            return null;
+        }
+        LimitAlgorithm algorithm = switch (properties.getAlgorithm()) {
+            case AIMD -> new AimdLimit(properties);
+            case GRADIENT -> new GradientLimit(properties);
+        };
+        return new AdaptiveLimiter(name, properties, algorithm);
+    }
+
+    public <T> T execute(Supplier<T> call) {
+        int startInFlight = acquire();
+        long start = System.nanoTime();
+        Throwable failure = null;
+        try {
+            return call.get();
+        } catch (RuntimeException e) {
+            failure = e;
+            throw e;
+        } finally {
+            onComplete(start, startInFlight, failure);
+        }
+    }
+
+    /**
+     * 한도 안이면 호출을 시작하고, 호출이 완료되면 지연시간을 표본으로 반영한다.
+     * 반환된 future 를 취소하면 진행 중인 호출도 취소된다.
+     */
+    public <T> CompletableFuture<T> executeAsync(Supplier<CompletableFuture<T>> call) {
+        int startInFlight;
+        try {
+            startInFlight = acquire();
+        } catch (ExternalSystemException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        long start = System.nanoTime();
+        CompletableFuture<T> exchange;
+        try {
+            exchange = call.get();
+        } catch (RuntimeException e) {
+            onComplete(start, startInFlight, e);
+            return CompletableFuture.failedFuture(e);
+        }
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Futures.relay(exchange, result, (r, e) -> onComplete(start, startInFlight, e));
+        return result;
+    }
+
+    private int acquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                rejected.increment();
+                throw new ExternalSystemException("LIMIT_EXCEEDED",
+                        "동시 호출 적응형 한도 초과: " + name + " (" + (int) limit + ")");
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return current + 1;
+            }
+        }
+    }
+
+    private void onComplete(long start, int startInFlight, Throwable failure) {
+        inFlight.decrementAndGet();
+        if (failure instanceof CancellationException) {
+            // 호출자가 취소한 호출은 지연시간 표본이 되지 않는다
+            return;
+        }
+        long rtt = System.nanoTime() - start;
+        boolean dropped = isDropped(failure);
+        synchronized (this) {
+            double updated = algorithm.update(limit, rtt, startInFlight, dropped);
+            limit = Math.max(minLimit, Math.min(maxLimit, updated));
+        }
+    }
+
+    /**
+     * 용량 부족을 뜻하는 실패(연결 실패/타임아웃, 서버 오류)만 한도 감소 근거로 삼는다.
+     * 비즈니스 오류는 정상 응답으로 본다.
+     */
+    private boolean isDropped(Throwable failure) {
+        if (failure instanceof ExternalSystemException e) {
+            return "CONNECTION_ERROR".equals(e.getErrorCode()) || "SERVER_ERROR".equals(e.getErrorCode());
+        }
+        return false;
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+}
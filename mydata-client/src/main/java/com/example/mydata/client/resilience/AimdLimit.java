@@ -0,0 +1,33 @@
+package com.example.mydata.client.resilience;
+
+import com.example.mydata.client.core.LimiterProperties;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AIMD(additive increase, multiplicative decrease).
+ * 한도의 절반 이상을 쓰는 동안 성공하면 1씩 늘리고, 실패하거나 지연 임계치를 넘으면 비율로 줄인다.
+ */
+class AimdLimit implements LimitAlgorithm {
+
+    private final double backoffRatio;
+    private final long latencyThresholdNanos;
+
+    AimdLimit(LimiterProperties properties) {
+        this.backoffRatio = properties.getBackoffRatio();
+        this.latencyThresholdNanos = properties.getLatencyThreshold() > 0
+                ? TimeUnit.MILLISECONDS.toNanos(properties.getLatencyThreshold()) : Long.MAX_VALUE;
+    }
+
+    @Override
+    public double update(double limit, long rttNanos, int inFlight, boolean dropped) {
+        if (dropped || rttNanos > latencyThresholdNanos) {
+            return limit * backoffRatio;
+        }
+        // 한도를 충분히 쓰지 않는 동안에는 늘릴 근거가 없다
+        if (inFlight * 2 >= limit) {
+            return limit + 1;
+        }
+        return limit;
+    }
+}
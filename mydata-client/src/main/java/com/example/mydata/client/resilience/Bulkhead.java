@@ -0,0 +1,205 @@
+package com.example.mydata.client.resilience;
+
+import com.example.mydata.client.core.BulkheadProperties;
+import com.example.mydata.client.core.ExternalSystemException;
+import lombok.Getter;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 동시 호출 수를 제한하는 격벽(bulkhead).
+ * <p>
+ * 허용량을 넘는 호출은 크기가 제한된 대기열에서 최대 대기시간만큼 기다린다.
+ * 대기열이 가득 차면 BULKHEAD_FULL, 대기시간을 넘기면 BULKHEAD_TIMEOUT 으로 즉시 실패한다.
+ * 동기 호출은 대기 중 스레드를 블로킹하고, 비동기 호출은 스레드를 점유하지 않고 대기한다.
+ */
+public class Bulkhead {
+
+    @Getter
+    private final String name;
+    @Getter
+    private final int maxConcurrentCalls;
+    private final int maxQueueSize;
+    private final long maxWaitMillis;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ArrayDeque<CompletableFuture<Void>> waiters = new ArrayDeque<>();
+    private volatile int inFlight;
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+
+    public Bulkhead(String name, BulkheadProperties properties) {
+        this.name = name;
+        this.maxConcurrentCalls = properties.getMaxConcurrentCalls();
+        this.maxQueueSize = properties.getMaxWaitTime() > 0 ? Math.max(properties.getMaxQueueSize(), 0) : 0;
+        this.maxWaitMillis = properties.getMaxWaitTime();
+    }
+
+    /**
+     * 설정이 동시 호출 제한을 요구하면 격벽을, 아니면 null 을 반환한다.
+     */
+    public static Bulkhead of(String name, BulkheadProperties properties) {
+        if (properties == null || properties.getMaxConcurrentCalls() <= 0) {
+            return null;
+        }
+        return new Bulkhead(name, properties);
+    }
+
+    /**
+     * 허가를 얻은 뒤 호출을 실행하고, 끝나면 허가를 반납한다.
+     */
+    public <T> T execute(Supplier<T> call) {
+        acquire();
+        try {
+            return call.get();
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * 허가를 비동기로 얻은 뒤 호출을 시작하고, 호출이 완료되면 허가를 반납한다.
+     * 반환된 future 를 취소하면 대기 중이던 허가 요청이나 진행 중인 호출도 취소된다.
+     */
+    public <T> CompletableFuture<T> executeAsync(Supplier<CompletableFuture<T>> call) {
+        CompletableFuture<Void> permit = acquireAsync();
+        CompletableFuture<T> result = new CompletableFuture<>();
+        permit.whenComplete((v, e) -> {
+            if (e != null) {
+                result.completeExceptionally(e);
+                return;
+            }
+            if (result.isDone()) {
+                // 허가를 받기 직전에 호출자가 취소한 경우
+                release();
+                return;
+            }
+            CompletableFuture<T> exchange;
+            try {
+                exchange = call.get();
+            } catch (RuntimeException ex) {
+                release();
+                result.completeExceptionally(ex);
+                return;
+            }
+            Futures.relay(exchange, result, (r, ex) -> release());
+        });
+        result.whenComplete((r, e) -> {
+            if (e != null) {
+                permit.cancel(false);
+            }
+        });
+        return result;
+    }
+
+    private void acquire() {
+        CompletableFuture<Void> permit = acquireAsync();
+        try {
+            permit.get();
+        } catch (ExecutionException e) {
+            throw (RuntimeException) e.getCause();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (!permit.cancel(false) && !permit.isCompletedExceptionally()) {
+                release();
+            }
+            throw new ExternalSystemException("BULKHEAD_TIMEOUT", "동시 호출 대기 중 인터럽트: " + name, e);
+        }
+    }
+
+    private CompletableFuture<Void> acquireAsync() {
+        CompletableFuture<Void> waiter;
+        lock.lock();
+        try {
+            if (inFlight < maxConcurrentCalls) {
+                inFlight++;
+                return CompletableFuture.completedFuture(null);
+            }
+            if (waiters.size() >= maxQueueSize) {
+                rejected.increment();
+                return CompletableFuture.failedFuture(new ExternalSystemException("BULKHEAD_FULL",
+                        "동시 호출 한도 초과: " + name + " (" + maxConcurrentCalls + ")"));
+            }
+            waiter = new CompletableFuture<>();
+            waiters.addLast(waiter);
+        } finally {
+            lock.unlock();
+        }
+
+        // 취소된 대기자는 대기열에서 제거
+        waiter.whenComplete((v, e) -> {
+            if (e != null) {
+                removeWaiter(waiter);
+            }
+        });
+        // 대기열에서 먼저 빼낸 뒤 실패시켜, 반납된 허가가 시간 초과된 대기자에게 넘어가지 않게 한다
+        CompletableFuture.delayedExecutor(maxWaitMillis, TimeUnit.MILLISECONDS).execute(() -> {
+            if (removeWaiter(waiter)) {
+                timedOut.increment();
+                waiter.completeExceptionally(new ExternalSystemException("BULKHEAD_TIMEOUT",
+                        "동시 호출 대기시간 초과: " + name + " (" + maxWaitMillis + "ms)"));
+            }
+        });
+        return waiter;
+    }
+
+    private boolean removeWaiter(CompletableFuture<Void> waiter) {
+        lock.lock();
+        try {
+            return waiters.remove(waiter);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 허가를 반납한다. 대기자가 있으면 허가를 그대로 넘긴다.
+     */
+    private void release() {
+        CompletableFuture<Void> next;
+        lock.lock();
+        try {
+            do {
+                next = waiters.pollFirst();
+            } while (next != null && next.isDone());
+            if (next == null) {
+                inFlight--;
+                return;
+            }
+        } finally {
+            lock.unlock();
+        }
+        // 락 밖에서 완료시켜 대기자의 후속 작업이 락을 잡은 채 실행되지 않게 한다
+        if (!next.complete(null)) {
+            // 넘기는 사이 시간 초과/취소된 경우 다시 반납
+            release();
+        }
+    }
+
+    public int getInFlight() {
+        return inFlight;
+    }
+
+    public int getQueued() {
+        lock.lock();
+        try {
+            return waiters.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    public long getTimedOut() {
+        return timedOut.sum();
+    }
+}
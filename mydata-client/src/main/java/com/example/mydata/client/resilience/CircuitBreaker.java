@@ -0,0 +1,222 @@
+package com.example.mydata.client.resilience;
+
+import com.example.mydata.client.core.CircuitBreakerProperties;
+import com.example.mydata.client.core.ExternalSystemException;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 외부 시스템 거래코드별 서킷 브레이커.
+ * <p>
+ * CLOSED 상태에서 최근 호출(건수 또는 시간 창)의 실패율이 임계치를 넘으면 OPEN 으로 바뀌고,
+ * OPEN 동안의 호출은 외부 시스템에 보내지 않고 CIRCUIT_OPEN 으로 즉시 실패한다.
+ * 대기시간이 지나면 HALF_OPEN 으로 일부 호출만 허용해, 모두 성공하면 CLOSED 로 돌아가고 하나라도 실패하면 다시 OPEN 이 된다.
+ * <p>
+ * 연결 실패/타임아웃(CONNECTION_ERROR)과 서버 오류(SERVER_ERROR)만 실패로 집계한다.
+ * 비즈니스 오류와 4xx 는 외부 시스템이 살아 있다는 뜻이므로 성공으로, 격벽/한도에 의한 로컬 거절과 취소는 집계하지 않는다.
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /**
+     * 상태 전이 알림. 상태 락을 잡은 채 호출되므로 가볍게 처리해야 한다.
+     */
+    public interface StateListener {
+
+        void onStateTransition(CircuitBreaker circuitBreaker, State from, State to);
+    }
+
+    private enum Outcome {
+        SUCCESS, FAILURE, IGNORED
+    }
+
+    @Getter
+    private final String system;
+    @Getter
+    private final String transactionCode;
+    private final SlidingWindow window;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final long waitDurationNanos;
+    private final int permittedCallsInHalfOpenState;
+    private final LongSupplier clock;
+    private final List<StateListener> listeners = new CopyOnWriteArrayList<>();
+    private final LongAdder notPermitted = new LongAdder();
+
+    private volatile State state = State.CLOSED;
+    /** 상태가 바뀔 때마다 증가. 이전 상태에서 시작한 호출의 결과를 걸러낸다 */
+    private long generation;
+    private long openedAt;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    CircuitBreaker(String system, String transactionCode, CircuitBreakerProperties properties, LongSupplier clock) {
+        this.system = system;
+        this.transactionCode = transactionCode;
+        this.window = properties.getWindowType() == CircuitBreakerProperties.WindowType.TIME
+                ? new SlidingWindow.TimeBased(properties.getWindowSize())
+                : new SlidingWindow.CountBased(properties.getWindowSize());
+        this.minimumCalls = Math.max(properties.getMinimumCalls(), 1);
+        this.failureRateThreshold = properties.getFailureRateThreshold();
+        this.waitDurationNanos = TimeUnit.MILLISECONDS.toNanos(properties.getWaitDurationInOpenState());
+        this.permittedCallsInHalfOpenState = Math.max(properties.getPermittedCallsInHalfOpenState(), 1);
+        this.clock = clock;
+    }
+
+    /**
+     * 설정이 활성화되어 있으면 서킷 브레이커를, 아니면 null 을 반환한다.
+     */
+    public static CircuitBreaker of(String system, String transactionCode, CircuitBreakerProperties properties) {
+        if (properties == null || !properties.isEnabled()) {
+            return null;
+        }
+        return new CircuitBreaker(system, transactionCode, properties, System::nanoTime);
+    }
+
+    public void addListener(StateListener listener) {
+        listeners.add(listener);
+    }
+
+    public <T> T execute(Supplier<T> call) {
+        long permit = acquirePermission();
+        T result;
+        try {
+            result = call.get();
+        } catch (RuntimeException e) {
+            onResult(permit, classify(e));
+            throw e;
+        }
+        onResult(permit, Outcome.SUCCESS);
+        return result;
+    }
+
+    /**
+     * 허용되면 호출을 시작하고, 호출 결과를 실패율에 반영한다.
+     * 반환된 future 를 취소하면 진행 중인 호출도 취소된다.
+     */
+    public <T> CompletableFuture<T> executeAsync(Supplier<CompletableFuture<T>> call) {
+        long permit;
+        CompletableFuture<T> exchange;
+        try {
+            permit = acquirePermission();
+        } catch (ExternalSystemException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        try {
+            exchange = call.get();
+        } catch (RuntimeException e) {
+            onResult(permit, classify(e));
+            return CompletableFuture.failedFuture(e);
+        }
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Futures.relay(exchange, result, (r, e) -> onResult(permit, e == null ? Outcome.SUCCESS : classify(e)));
+        return result;
+    }
+
+    /**
+     * @return 허가를 받은 시점의 세대 번호
+     * @throws ExternalSystemException CIRCUIT_OPEN
+     */
+    private synchronized long acquirePermission() {
+        if (state == State.OPEN) {
+            if (clock.getAsLong() - openedAt < waitDurationNanos) {
+                throw notPermitted();
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits <= 0) {
+                throw notPermitted();
+            }
+            halfOpenPermits--;
+        }
+        return generation;
+    }
+
+    private ExternalSystemException notPermitted() {
+        notPermitted.increment();
+        return new ExternalSystemException("CIRCUIT_OPEN",
+                "외부 시스템 호출 차단 중: " + system + "/" + transactionCode);
+    }
+
+    private synchronized void onResult(long permit, Outcome outcome) {
+        if (permit != generation) {
+            return;
+        }
+        if (state == State.HALF_OPEN) {
+            switch (outcome) {
+                case FAILURE -> transitionTo(State.OPEN);
+                case IGNORED -> halfOpenPermits++;
+                case SUCCESS -> {
+                    if (++halfOpenSuccesses >= permittedCallsInHalfOpenState) {
+                        transitionTo(State.CLOSED);
+                    }
+                }
+            }
+            return;
+        }
+        if (state == State.CLOSED && outcome != Outcome.IGNORED) {
+            long now = clock.getAsLong();
+            window.record(now, outcome == Outcome.FAILURE);
+            int calls = window.calls(now);
+            if (calls >= minimumCalls && window.failures(now) * 100L >= (long) failureRateThreshold * calls) {
+                transitionTo(State.OPEN);
+            }
+        }
+    }
+
+    private void transitionTo(State to) {
+        State from = state;
+        state = to;
+        generation++;
+        switch (to) {
+            case OPEN -> openedAt = clock.getAsLong();
+            case HALF_OPEN -> {
+                halfOpenPermits = permittedCallsInHalfOpenState;
+                halfOpenSuccesses = 0;
+            }
+            case CLOSED -> window.reset();
+        }
+        log.warn("서킷 브레이커 상태 변경: {}/{} {} -> {}", system, transactionCode, from, to);
+        for (StateListener listener : listeners) {
+            listener.onStateTransition(this, from, to);
+        }
+    }
+
+    private Outcome classify(Throwable e) {
+        if (e instanceof CancellationException) {
+            return Outcome.IGNORED;
+        }
+        if (e instanceof ExternalSystemException ex) {
+            String code = ex.getErrorCode();
+            if ("CONNECTION_ERROR".equals(code) || "SERVER_ERROR".equals(code)) {
+                return Outcome.FAILURE;
+            }
+            if (code.startsWith("BULKHEAD_") || "LIMIT_EXCEEDED".equals(code)) {
+                return Outcome.IGNORED;
+            }
+        }
+        return Outcome.SUCCESS;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public long getNotPermitted() {
+        return notPermitted.sum();
+    }
+}
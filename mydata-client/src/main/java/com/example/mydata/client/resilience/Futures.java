@@ -0,0 +1,48 @@
+package com.example.mydata.client.resilience;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiConsumer;
+
+final class Futures {
+
+    private Futures() {
+    }
+
+    /**
+     * exchange 의 결과를 result 로 전달하고, result 가 먼저 취소/실패하면 exchange 도 취소한다.
+     */
+    static <T> void relay(CompletableFuture<T> exchange, CompletableFuture<T> result) {
+        relay(exchange, result, (r, e) -> {
+        });
+    }
+
+    /**
+     * relay 와 같되, result 를 완료하기 전에 onComplete(결과, 풀린 예외)를 실행한다.
+     * 허가 반납 같은 정리가 호출자에게 완료가 보이기 전에 끝나도록 할 때 쓴다.
+     */
+    static <T> void relay(CompletableFuture<T> exchange, CompletableFuture<T> result,
+                          BiConsumer<? super T, Throwable> onComplete) {
+        exchange.whenComplete((r, e) -> {
+            Throwable cause = e != null ? unwrap(e) : null;
+            try {
+                onComplete.accept(r, cause);
+            } finally {
+                if (cause != null) {
+                    result.completeExceptionally(cause);
+                } else {
+                    result.complete(r);
+                }
+            }
+        });
+        result.whenComplete((r, e) -> {
+            if (e != null) {
+                exchange.cancel(false);
+            }
+        });
+    }
+
+    static Throwable unwrap(Throwable e) {
+        return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+    }
+}
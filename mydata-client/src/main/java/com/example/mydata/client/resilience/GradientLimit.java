@@ -0,0 +1,50 @@
+package com.example.mydata.client.resilience;
+
+import com.example.mydata.client.core.LimiterProperties;
+
+/**
+ * 지연시간 기울기(gradient) 기반 한도.
+ * <p>
+ * 장기 평균 지연시간 대비 현재 지연시간 비율로 한도를 조정한다.
+ * 지연이 평탄하면 sqrt(limit) 만큼의 여유를 두고 늘어나고, 대기열이 생겨 지연이 늘면 비율만큼 줄어든다.
+ */
+class GradientLimit implements LimitAlgorithm {
+
+    private final double tolerance;
+    private final double smoothing;
+    private final double backoffRatio;
+    private final int longWindow;
+
+    private double longRtt;
+
+    GradientLimit(LimiterProperties properties) {
+        this.tolerance = properties.getTolerance();
+        this.smoothing = properties.getSmoothing();
+        this.backoffRatio = properties.getBackoffRatio();
+        this.longWindow = Math.max(properties.getLongWindow(), 1);
+    }
+
+    @Override
+    public double update(double limit, long rttNanos, int inFlight, boolean dropped) {
+        if (dropped) {
+            return limit * backoffRatio;
+        }
+        if (longRtt == 0) {
+            longRtt = rttNanos;
+        } else {
+            longRtt += (rttNanos - longRtt) / longWindow;
+        }
+        // 장기 평균이 현재보다 크게 높으면(부하가 빠진 직후) 빠르게 따라 내려간다
+        if (longRtt > rttNanos * 2.0) {
+            longRtt *= 0.95;
+        }
+        // 한도를 충분히 쓰지 않는 동안의 표본은 용량 정보를 주지 않는다
+        if (inFlight * 2 < limit) {
+            return limit;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRtt / Math.max(rttNanos, 1)));
+        double newLimit = limit * gradient + Math.sqrt(limit);
+        return limit * (1 - smoothing) + newLimit * smoothing;
+    }
+}
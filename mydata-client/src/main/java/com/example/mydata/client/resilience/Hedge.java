@@ -0,0 +1,184 @@
+package com.example.mydata.client.resilience;
+
+import com.example.mydata.client.core.HedgeProperties;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 거래별 헤지 요청.
+ * <p>
+ * 첫 시도가 헤지 지연(해당 거래 최근 응답시간의 백분위) 안에 끝나지 않으면 두 번째 시도를 보낸다.
+ * 두 번째 시도는 첫 시도가 커넥션을 점유하고 있으므로 풀의 다른 커넥션을 쓴다.
+ * 먼저 성공한 응답을 결과로 쓰고 나머지 시도는 취소한다.
+ * 헤지는 시스템 공유 {@link TokenBudget}의 토큰을 써야 보낼 수 있어 전체 호출의 일정 비율을 넘지 않는다.
+ */
+@Slf4j
+public class Hedge {
+
+    @Getter
+    private final String system;
+    @Getter
+    private final String transactionCode;
+    private final LatencyTracker latencyTracker;
+    private final long initialDelay;
+    private final long minDelay;
+    private final long maxDelay;
+    private final int minSamples;
+    private final TokenBudget budget;
+    private final LongAdder hedges = new LongAdder();
+    private final LongAdder hedgeWins = new LongAdder();
+
+    Hedge(String system, String transactionCode, HedgeProperties properties, TokenBudget budget) {
+        this.system = system;
+        this.transactionCode = transactionCode;
+        this.latencyTracker = new LatencyTracker(properties.getPercentile(), properties.getSampleWindow());
+        this.minDelay = Math.max(properties.getMinDelay(), 0);
+        this.maxDelay = Math.max(properties.getMaxDelay(), minDelay);
+        this.initialDelay = Math.max(minDelay, Math.min(maxDelay, properties.getInitialDelay()));
+        this.minSamples = properties.getMinSamples();
+        this.budget = budget;
+    }
+
+    /**
+     * 헤지가 설정되어 있고 메서드가 멱등하면 Hedge 를, 아니면 null 을 반환한다.
+     */
+    public static Hedge of(String system, String transactionCode, HedgeProperties properties,
+                           HttpMethod method, TokenBudget budget) {
+        if (properties == null || !properties.isEnabled()) {
+            return null;
+        }
+        if (!Retry.isIdempotent(method)) {
+            log.warn("멱등하지 않은 거래는 헤지하지 않습니다: {}/{} {}", system, transactionCode, method);
+            return null;
+        }
+        return new Hedge(system, transactionCode, properties, budget);
+    }
+
+    /**
+     * 현재 헤지 지연(ms). 표본이 충분하지 않으면 initialDelay.
+     */
+    public long getDelayMillis() {
+        if (latencyTracker.getCount() < minSamples) {
+            return initialDelay;
+        }
+        return Math.max(minDelay, Math.min(maxDelay, latencyTracker.getPercentileMillis()));
+    }
+
+    public <T> CompletableFuture<T> executeAsync(Supplier<CompletableFuture<T>> call) {
+        Execution<T> execution = new Execution<>(call);
+        execution.launch(false);
+        CompletableFuture.delayedExecutor(getDelayMillis(), TimeUnit.MILLISECONDS).execute(execution::hedge);
+        return execution.result;
+    }
+
+    /**
+     * 한 번의 헤지 요청 실행 상태 (시도 목록과 결과).
+     */
+    private class Execution<T> {
+
+        private final Supplier<CompletableFuture<T>> call;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final List<CompletableFuture<T>> attempts = new ArrayList<>(2);
+        private final AtomicBoolean won = new AtomicBoolean();
+        private boolean hedgeDecided;
+        /** 헤지 토큰을 꺼냈지만 아직 attempts 에 등록하지 않은 상태 */
+        private boolean hedgePending;
+
+        Execution(Supplier<CompletableFuture<T>> call) {
+            this.call = call;
+            result.whenComplete((r, e) -> cancelAttempts());
+        }
+
+        void hedge() {
+            synchronized (this) {
+                if (result.isDone() || hedgeDecided) {
+                    return;
+                }
+                hedgeDecided = true;
+                if (!budget.tryWithdraw()) {
+                    return;
+                }
+                hedgePending = true;
+            }
+            hedges.increment();
+            log.debug("헤지 요청 전송: {}/{} (지연 {}ms)", system, transactionCode, getDelayMillis());
+            launch(true);
+        }
+
+        void launch(boolean isHedge) {
+            long start = System.nanoTime();
+            CompletableFuture<T> attempt;
+            try {
+                attempt = call.get();
+            } catch (RuntimeException e) {
+                attempt = CompletableFuture.failedFuture(e);
+            }
+            synchronized (this) {
+                attempts.add(attempt);
+                if (isHedge) {
+                    hedgePending = false;
+                }
+            }
+            attempt.whenComplete((r, e) -> {
+                if (e == null) {
+                    latencyTracker.record(System.nanoTime() - start);
+                    if (won.compareAndSet(false, true)) {
+                        if (isHedge) {
+                            hedgeWins.increment();
+                        }
+                        result.complete(r);
+                    }
+                    return;
+                }
+                onFailure(Futures.unwrap(e));
+            });
+            if (result.isDone()) {
+                attempt.cancel(false);
+            }
+        }
+
+        private void onFailure(Throwable failure) {
+            if (failure instanceof CancellationException) {
+                return;
+            }
+            boolean allFailed;
+            synchronized (this) {
+                // 헤지를 보내기 전이면 헤지를 포기하고, 보냈다면 모든 시도가 실패했을 때만 실패로 완료.
+                // 등록 전인 헤지가 있으면 그 시도의 결과가 최종 결과를 정한다
+                hedgeDecided = true;
+                allFailed = !hedgePending
+                        && attempts.stream().allMatch(CompletableFuture::isCompletedExceptionally);
+            }
+            if (allFailed) {
+                result.completeExceptionally(failure);
+            }
+        }
+
+        private void cancelAttempts() {
+            List<CompletableFuture<T>> snapshot;
+            synchronized (this) {
+                hedgeDecided = true;
+                snapshot = List.copyOf(attempts);
+            }
+            snapshot.forEach(a -> a.cancel(false));
+        }
+    }
+
+    public long getHedges() {
+        return hedges.sum();
+    }
+
+    public long getHedgeWins() {
+        return hedgeWins.sum();
+    }
+}
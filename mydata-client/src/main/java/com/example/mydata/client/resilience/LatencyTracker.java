@@ -0,0 +1,52 @@
+package com.example.mydata.client.resilience;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 최근 응답시간 표본으로 백분위 지연을 추적한다.
+ * 백분위는 표본이 일정 수 쌓일 때마다 다시 계산해 두고, 조회는 계산된 값을 읽기만 한다.
+ */
+public class LatencyTracker {
+
+    private static final int RECOMPUTE_INTERVAL = 32;
+
+    private final double percentile;
+    private final long[] samples;
+    private int index;
+    private int count;
+    private long recorded;
+    private volatile long percentileNanos = -1;
+
+    public LatencyTracker(double percentile, int window) {
+        this.percentile = Math.max(0, Math.min(100, percentile));
+        this.samples = new long[Math.max(window, 1)];
+    }
+
+    public synchronized void record(long nanos) {
+        samples[index] = nanos;
+        index = (index + 1) % samples.length;
+        if (count < samples.length) {
+            count++;
+        }
+        // 표본이 적은 동안은 매번, 이후에는 RECOMPUTE_INTERVAL 건마다 다시 계산
+        if (++recorded % RECOMPUTE_INTERVAL == 0 || recorded < RECOMPUTE_INTERVAL) {
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            int rank = (int) Math.ceil(percentile / 100.0 * count) - 1;
+            percentileNanos = sorted[Math.max(0, Math.min(count - 1, rank))];
+        }
+    }
+
+    public synchronized int getCount() {
+        return count;
+    }
+
+    /**
+     * @return 백분위 응답시간(ms), 표본이 없으면 -1
+     */
+    public long getPercentileMillis() {
+        long nanos = percentileNanos;
+        return nanos < 0 ? -1 : TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+}
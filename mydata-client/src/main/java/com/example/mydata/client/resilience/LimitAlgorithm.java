@@ -0,0 +1,16 @@
+package com.example.mydata.client.resilience;
+
+/**
+ * 한 번의 호출 결과(표본)로 다음 동시성 한도를 계산하는 알고리즘.
+ */
+interface LimitAlgorithm {
+
+    /**
+     * @param limit    현재 한도
+     * @param rttNanos 왕복 지연시간
+     * @param inFlight 표본 호출이 시작될 때의 동시 호출 수
+     * @param dropped  실패(연결 실패, 서버 오류)한 호출인지 여부
+     * @return 새 한도 (범위 보정 전)
+     */
+    double update(double limit, long rttNanos, int inFlight, boolean dropped);
+}
@@ -0,0 +1,162 @@
+package com.example.mydata.client.resilience;
+
+import com.example.mydata.client.core.ExternalSystemException;
+import com.example.mydata.client.core.RetryProperties;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 거래별 재시도.
+ * <p>
+ * 재시도 대상 에러코드로 실패하면 지수 백오프 + full jitter 로 기다린 뒤 다시 호출한다.
+ * 재시도마다 시스템 공유 {@link TokenBudget}에서 토큰을 써야 하며, 예산이 바닥나면 재시도하지 않고 마지막 오류를 그대로 던진다.
+ * 멱등하지 않은 메서드는 명시적으로 허용한 경우에만 재시도한다.
+ */
+@Slf4j
+public class Retry {
+
+    private static final Set<HttpMethod> IDEMPOTENT_METHODS = Set.of(
+            HttpMethod.GET, HttpMethod.HEAD, HttpMethod.OPTIONS, HttpMethod.PUT, HttpMethod.DELETE);
+
+    @Getter
+    private final String system;
+    @Getter
+    private final String transactionCode;
+    private final int maxAttempts;
+    private final long initialBackoff;
+    private final long maxBackoff;
+    private final Set<String> retryOn;
+    private final TokenBudget budget;
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder budgetExhausted = new LongAdder();
+
+    Retry(String system, String transactionCode, RetryProperties properties, TokenBudget budget) {
+        this.system = system;
+        this.transactionCode = transactionCode;
+        this.maxAttempts = properties.getMaxAttempts();
+        this.initialBackoff = Math.max(properties.getInitialBackoff(), 1);
+        this.maxBackoff = Math.max(properties.getMaxBackoff(), initialBackoff);
+        this.retryOn = Set.copyOf(properties.getRetryOn());
+        this.budget = budget;
+    }
+
+    /**
+     * 재시도가 설정되어 있고 메서드가 재시도 가능하면 Retry 를, 아니면 null 을 반환한다.
+     */
+    public static Retry of(String system, String transactionCode, RetryProperties properties,
+                           HttpMethod method, TokenBudget budget) {
+        if (properties == null || properties.getMaxAttempts() <= 1) {
+            return null;
+        }
+        if (!isIdempotent(method) && !properties.isRetryNonIdempotent()) {
+            log.warn("멱등하지 않은 거래는 재시도하지 않습니다 (retry-non-idempotent 미설정): {}/{} {}",
+                    system, transactionCode, method);
+            return null;
+        }
+        return new Retry(system, transactionCode, properties, budget);
+    }
+
+    static boolean isIdempotent(HttpMethod method) {
+        return IDEMPOTENT_METHODS.contains(method);
+    }
+
+    public <T> T execute(Supplier<T> call) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return call.get();
+            } catch (ExternalSystemException e) {
+                if (!shouldRetry(e, attempt)) {
+                    throw e;
+                }
+                try {
+                    Thread.sleep(backoff(attempt));
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * 비동기 호출을 재시도한다. 대기 중에는 스레드를 점유하지 않는다.
+     * 반환된 future 를 취소하면 진행 중인 시도도 취소되고 더 이상 재시도하지 않는다.
+     */
+    public <T> CompletableFuture<T> executeAsync(Supplier<CompletableFuture<T>> call) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        attemptAsync(call, 1, result);
+        return result;
+    }
+
+    private <T> void attemptAsync(Supplier<CompletableFuture<T>> call, int attempt, CompletableFuture<T> result) {
+        if (result.isDone()) {
+            return;
+        }
+        CompletableFuture<T> exchange;
+        try {
+            exchange = call.get();
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+            return;
+        }
+        result.whenComplete((r, e) -> {
+            if (e != null) {
+                exchange.cancel(false);
+            }
+        });
+        exchange.whenComplete((r, e) -> {
+            if (e == null) {
+                result.complete(r);
+                return;
+            }
+            Throwable cause = Futures.unwrap(e);
+            if (!result.isDone() && cause instanceof ExternalSystemException ex && shouldRetry(ex, attempt)) {
+                CompletableFuture.delayedExecutor(backoff(attempt), TimeUnit.MILLISECONDS)
+                        .execute(() -> attemptAsync(call, attempt + 1, result));
+            } else {
+                result.completeExceptionally(cause);
+            }
+        });
+    }
+
+    private boolean shouldRetry(ExternalSystemException e, int attempt) {
+        if (attempt >= maxAttempts || !retryOn.contains(e.getErrorCode())) {
+            return false;
+        }
+        if (budget != null && !budget.tryWithdraw()) {
+            budgetExhausted.increment();
+            log.warn("재시도 예산 소진으로 재시도 생략: {}/{} [{}]", system, transactionCode, e.getErrorCode());
+            return false;
+        }
+        retries.increment();
+        log.info("재시도 {}/{}: {}/{} [{}]", attempt, maxAttempts - 1, system, transactionCode, e.getErrorCode());
+        return true;
+    }
+
+    /**
+     * full jitter: [0, min(maxBackoff, initialBackoff * 2^(attempt-1))]
+     */
+    private long backoff(int attempt) {
+        long ceiling = initialBackoff << Math.min(attempt - 1, 30);
+        if (ceiling <= 0 || ceiling > maxBackoff) {
+            ceiling = maxBackoff;
+        }
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    public long getRetries() {
+        return retries.sum();
+    }
+
+    public long getBudgetExhausted() {
+        return budgetExhausted.sum();
+    }
+}
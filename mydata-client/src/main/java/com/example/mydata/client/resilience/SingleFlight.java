@@ -0,0 +1,195 @@
+package com.example.mydata.client.resilience;
+
+import com.example.mydata.client.core.ExternalSystemException;
+import lombok.Getter;
+import org.springframework.http.HttpMethod;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 같은 요청의 동시 호출을 한 번의 외부 호출로 합치는 single-flight.
+ * <p>
+ * 키(조립된 URL + 본문)가 같은 호출이 진행 중이면 새로 보내지 않고 그 결과(또는 예외)를 함께 받는다.
+ * 결과를 보관하지 않으므로 진행 중인 호출이 끝나면 다음 호출은 다시 외부 시스템으로 간다.
+ * 비동기 대기자가 모두 취소하면 진행 중인 호출도 취소한다.
+ * 데이터가 바뀌어 캐시를 무효화할 때는 {@link #detachAll()} 로 진행 중인 호출을 떼어내, 이후 호출이 변경 전 응답에 합류하지 않게 한다.
+ */
+public class SingleFlight {
+
+    @Getter
+    private final String system;
+    @Getter
+    private final String transactionCode;
+    private final ConcurrentHashMap<Object, Flight<?>> flights = new ConcurrentHashMap<>();
+    private final LongAdder coalesced = new LongAdder();
+
+    SingleFlight(String system, String transactionCode) {
+        this.system = system;
+        this.transactionCode = transactionCode;
+    }
+
+    /**
+     * 설정되어 있고 멱등한 메서드이면 SingleFlight 를, 아니면 null 을 반환한다.
+     */
+    public static SingleFlight of(String system, String transactionCode, boolean enabled, HttpMethod method) {
+        if (!enabled || !Retry.isIdempotent(method)) {
+            return null;
+        }
+        return new SingleFlight(system, transactionCode);
+    }
+
+    public <T> T execute(Object key, Supplier<T> call) {
+        Flight<T> flight = new Flight<>();
+        Flight<T> existing = join(key, flight);
+        if (existing != null) {
+            return await(existing.shared);
+        }
+        try {
+            T result = call.get();
+            flight.shared.complete(result);
+            return result;
+        } catch (Throwable e) {
+            // Error 도 전달해야 합류한 호출이 끝없이 기다리지 않는다
+            flight.shared.completeExceptionally(e);
+            throw e;
+        } finally {
+            flights.remove(key, flight);
+        }
+    }
+
+    public <T> CompletableFuture<T> executeAsync(Object key, Supplier<CompletableFuture<T>> call) {
+        Flight<T> flight = new Flight<>();
+        Flight<T> existing = join(key, flight);
+        if (existing != null) {
+            return existing.waiter();
+        }
+        CompletableFuture<T> exchange;
+        try {
+            exchange = call.get();
+        } catch (RuntimeException e) {
+            exchange = CompletableFuture.failedFuture(e);
+        } catch (Error e) {
+            flights.remove(key, flight);
+            flight.shared.completeExceptionally(e);
+            throw e;
+        }
+        flight.exchange = exchange;
+        CompletableFuture<T> waiter = flight.waiter();
+        exchange.whenComplete((r, e) -> {
+            flights.remove(key, flight);
+            if (e != null) {
+                flight.shared.completeExceptionally(Futures.unwrap(e));
+            } else {
+                flight.shared.complete(r);
+            }
+        });
+        return waiter;
+    }
+
+    /**
+     * 진행 중인 호출에 합류하면 그 호출을, 새 호출의 주인이 되면 null 을 반환한다.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> Flight<T> join(Object key, Flight<T> flight) {
+        while (true) {
+            Flight<T> existing = (Flight<T>) flights.putIfAbsent(key, flight);
+            if (existing == null) {
+                return null;
+            }
+            if (existing.tryJoin()) {
+                coalesced.increment();
+                return existing;
+            }
+            // 모든 대기자가 취소해 버려진 호출이면 새 호출로 교체
+            if (flights.replace(key, existing, flight)) {
+                return null;
+            }
+        }
+    }
+
+    private <T> T await(CompletableFuture<T> shared) {
+        try {
+            return shared.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (CancellationException e) {
+            throw new ExternalSystemException("CONNECTION_ERROR", "합쳐진 외부 호출이 취소되었습니다", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExternalSystemException("CONNECTION_ERROR", "외부 시스템 응답 대기 중 인터럽트", e);
+        }
+    }
+
+    /**
+     * 진행 중인 호출을 모두 떼어낸다. 이미 합류한 호출은 그 결과를 받고, 이후 같은 키의 호출은 새로 보낸다.
+     */
+    public void detachAll() {
+        flights.clear();
+    }
+
+    /**
+     * 다른 호출에 합류해 결과를 나눠 받은 호출 수
+     */
+    public long getCoalesced() {
+        return coalesced.sum();
+    }
+
+    /**
+     * 현재 진행 중인 서로 다른 호출 수
+     */
+    public int getInFlight() {
+        return flights.size();
+    }
+
+    private static final class Flight<T> {
+
+        private final CompletableFuture<T> shared = new CompletableFuture<>();
+        /** 결과를 기다리는 비동기 대기자 수 (주인 포함, 0 이 되면 버려진 호출). 동기 호출은 항상 1을 유지한다. */
+        private final AtomicInteger waiters = new AtomicInteger(1);
+        private volatile CompletableFuture<T> exchange;
+
+        boolean tryJoin() {
+            while (true) {
+                int current = waiters.get();
+                if (current <= 0) {
+                    return false;
+                }
+                if (waiters.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        /**
+         * 합류한 대기자 몫의 future. 취소해도 다른 대기자에게는 영향이 없고, 마지막 대기자가 취소하면 외부 호출도 취소한다.
+         */
+        CompletableFuture<T> waiter() {
+            CompletableFuture<T> waiter = new CompletableFuture<>();
+            shared.whenComplete((r, e) -> {
+                if (e != null) {
+                    waiter.completeExceptionally(e);
+                } else {
+                    waiter.complete(r);
+                }
+            });
+            waiter.whenComplete((r, e) -> {
+                if (waiter.isCancelled() && waiters.decrementAndGet() == 0 && exchange != null) {
+                    exchange.cancel(false);
+                }
+            });
+            return waiter;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.mydata.client.resilience;
+
+import java.util.Arrays;
+
+/**
+ * 서킷 브레이커의 최근 호출 결과 집계 창. 호출자가 동기화한다.
+ */
+interface SlidingWindow {
+
+    void record(long nowNanos, boolean failure);
+
+    int calls(long nowNanos);
+
+    int failures(long nowNanos);
+
+    void reset();
+
+    /**
+     * 최근 size 건의 결과를 링 버퍼로 집계한다.
+     */
+    class CountBased implements SlidingWindow {
+
+        private final boolean[] outcomes;
+        private int index;
+        private int calls;
+        private int failures;
+
+        CountBased(int size) {
+            this.outcomes = new boolean[Math.max(size, 1)];
+        }
+
+        @Override
+        public void record(long nowNanos, boolean failure) {
+            if (calls == outcomes.length) {
+                if (outcomes[index]) {
+                    failures--;
+                }
+            } else {
+                calls++;
+            }
+            outcomes[index] = failure;
+            if (failure) {
+                failures++;
+            }
+            index = (index + 1) % outcomes.length;
+        }
+
+        @Override
+        public int calls(long nowNanos) {
+            return calls;
+        }
+
+        @Override
+        public int failures(long nowNanos) {
+            return failures;
+        }
+
+        @Override
+        public void reset() {
+            index = 0;
+            calls = 0;
+            failures = 0;
+        }
+    }
+
+    /**
+     * 최근 seconds 초의 결과를 초 단위 버킷으로 집계한다.
+     */
+    class TimeBased implements SlidingWindow {
+
+        private static final long SECOND = 1_000_000_000L;
+
+        private final long[] epochs;
+        private final int[] bucketCalls;
+        private final int[] bucketFailures;
+        private int calls;
+        private int failures;
+
+        TimeBased(int seconds) {
+            int size = Math.max(seconds, 1);
+            this.epochs = new long[size];
+            this.bucketCalls = new int[size];
+            this.bucketFailures = new int[size];
+            reset();
+        }
+
+        @Override
+        public void record(long nowNanos, boolean failure) {
+            int bucket = advance(nowNanos);
+            bucketCalls[bucket]++;
+            calls++;
+            if (failure) {
+                bucketFailures[bucket]++;
+                failures++;
+            }
+        }
+
+        @Override
+        public int calls(long nowNanos) {
+            advance(nowNanos);
+            return calls;
+        }
+
+        @Override
+        public int failures(long nowNanos) {
+            advance(nowNanos);
+            return failures;
+        }
+
+        /**
+         * 창을 벗어난 버킷을 비우고 현재 초의 버킷 위치를 반환한다.
+         */
+        private int advance(long nowNanos) {
+            long epoch = Math.floorDiv(nowNanos, SECOND);
+            int current = (int) Math.floorMod(epoch, epochs.length);
+            for (int i = 0; i < epochs.length; i++) {
+                if (epochs[i] != Long.MIN_VALUE && epoch - epochs[i] >= epochs.length) {
+                    expire(i);
+                }
+            }
+            if (epochs[current] != epoch) {
+                expire(current);
+                epochs[current] = epoch;
+            }
+            return current;
+        }
+
+        private void expire(int bucket) {
+            calls -= bucketCalls[bucket];
+            failures -= bucketFailures[bucket];
+            bucketCalls[bucket] = 0;
+            bucketFailures[bucket] = 0;
+            epochs[bucket] = Long.MIN_VALUE;
+        }
+
+        @Override
+        public void reset() {
+            Arrays.fill(epochs, Long.MIN_VALUE);
+            Arrays.fill(bucketCalls, 0);
+            Arrays.fill(bucketFailures, 0);
+            calls = 0;
+            failures = 0;
+        }
+    }
+}
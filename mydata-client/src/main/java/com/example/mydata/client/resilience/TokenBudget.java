@@ -0,0 +1,67 @@
+package com.example.mydata.client.resilience;
+
+import com.example.mydata.client.core.TokenBudgetProperties;
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 재시도/헤지 같은 추가 호출의 비율을 제한하는 토큰 예산.
+ * 일반 호출이 토큰을 적립하고 추가 호출이 토큰을 소비하므로, 장애로 일반 호출이 실패해도 추가 호출이 부하를 키우지 않는다.
+ */
+public class TokenBudget {
+
+    private static final long SCALE = 1000;
+
+    @Getter
+    private final String name;
+    private final long depositPerCall;
+    private final long maxBalance;
+    private final AtomicLong balance;
+    private final LongAdder withdrawn = new LongAdder();
+    private final LongAdder exhausted = new LongAdder();
+
+    public TokenBudget(String name, TokenBudgetProperties properties) {
+        this.name = name;
+        this.depositPerCall = Math.round(properties.getRatio() * SCALE);
+        this.maxBalance = Math.max(properties.getMaxTokens(), 0) * SCALE;
+        this.balance = new AtomicLong(maxBalance);
+    }
+
+    /**
+     * 일반 호출 1건만큼 토큰을 적립한다.
+     */
+    public void deposit() {
+        balance.accumulateAndGet(depositPerCall, (current, amount) -> Math.min(maxBalance, current + amount));
+    }
+
+    /**
+     * 토큰 1개를 쓸 수 있으면 쓰고 true 를 반환한다.
+     */
+    public boolean tryWithdraw() {
+        while (true) {
+            long current = balance.get();
+            if (current < SCALE) {
+                exhausted.increment();
+                return false;
+            }
+            if (balance.compareAndSet(current, current - SCALE)) {
+                withdrawn.increment();
+                return true;
+            }
+        }
+    }
+
+    public double getTokens() {
+        return (double) balance.get() / SCALE;
+    }
+
+    public long getWithdrawn() {
+        return withdrawn.sum();
+    }
+
+    public long getExhausted() {
+        return exhausted.sum();
+    }
+}
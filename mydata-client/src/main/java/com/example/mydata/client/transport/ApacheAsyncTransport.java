@@ -0,0 +1,100 @@
+package com.example.mydata.client.transport;
+
+import com.example.mydata.client.core.ExternalSystemException;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+
+/**
+ * Apache HttpClient 5 async(논블로킹 I/O, IO reactor) 전송.
+ * 응답 대기 중 스레드를 점유하지 않으며, HTTP/2(h2c) 로 설정된 클라이언트는 한 커넥션에 여러 요청을 다중화한다.
+ */
+public class ApacheAsyncTransport implements HttpTransport {
+
+    private final CloseableHttpAsyncClient asyncClient;
+    private final boolean compression;
+
+    public ApacheAsyncTransport(CloseableHttpAsyncClient asyncClient) {
+        this(asyncClient, false);
+    }
+
+    /**
+     * @param compression gzip/deflate 응답을 요청하고 받은 본문의 압축을 푼다 (async 클라이언트는 자동 해제를 지원하지 않음)
+     */
+    public ApacheAsyncTransport(CloseableHttpAsyncClient asyncClient, boolean compression) {
+        this.asyncClient = asyncClient;
+        this.compression = compression;
+    }
+
+    @Override
+    public CompletableFuture<byte[]> executeAsync(String url, HttpMethod method, byte[] body) {
+        SimpleRequestBuilder builder = SimpleRequestBuilder.create(method.name())
+                .setUri(url)
+                .addHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE);
+        if (compression) {
+            builder.addHeader(HttpHeaders.ACCEPT_ENCODING, ResponseBodies.ACCEPT_ENCODING);
+        }
+        if (body != null) {
+            builder.setBody(body, ContentType.APPLICATION_JSON);
+        }
+        SimpleHttpRequest request = builder.build();
+
+        CompletableFuture<byte[]> result = new CompletableFuture<>();
+        Future<SimpleHttpResponse> exchange = asyncClient.execute(request, new FutureCallback<>() {
+            @Override
+            public void completed(SimpleHttpResponse response) {
+                int statusCode = response.getCode();
+                if (statusCode >= 400) {
+                    result.completeExceptionally(HttpErrors.httpError(statusCode, response.getReasonPhrase(),
+                            ResponseBodies.decodeForLog(response.getBodyBytes(), contentEncoding(response)), null));
+                    return;
+                }
+                try {
+                    result.complete(body(response));
+                } catch (IOException e) {
+                    result.completeExceptionally(HttpErrors.connectionError(e));
+                } catch (ExternalSystemException e) {
+                    result.completeExceptionally(e);
+                }
+            }
+
+            @Override
+            public void failed(Exception e) {
+                result.completeExceptionally(HttpErrors.connectionError(e));
+            }
+
+            @Override
+            public void cancelled() {
+                result.cancel(false);
+            }
+        });
+        result.whenComplete((r, e) -> {
+            if (result.isCancelled()) {
+                exchange.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    private byte[] body(SimpleHttpResponse response) throws IOException {
+        byte[] bytes = ResponseBodies.decode(response.getBodyBytes(), contentEncoding(response));
+        ContentType contentType = response.getContentType();
+        return ResponseBodies.utf8(bytes, contentType != null ? contentType.getCharset() : null);
+    }
+
+    private static String contentEncoding(SimpleHttpResponse response) {
+        Header contentEncoding = response.getFirstHeader(HttpHeaders.CONTENT_ENCODING);
+        return contentEncoding != null ? contentEncoding.getValue() : null;
+    }
+}
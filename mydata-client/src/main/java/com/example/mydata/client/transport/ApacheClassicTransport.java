@@ -0,0 +1,67 @@
+package com.example.mydata.client.transport;
+
+import com.example.mydata.client.core.ExternalSystemException;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * RestClient + Apache HttpClient 5 classic(블로킹 I/O) 전송.
+ * 요청 하나가 커넥션 하나를 응답까지 점유한다 (HTTP/1.1). 비동기 전송은 지원하지 않는다.
+ */
+public class ApacheClassicTransport implements HttpTransport {
+
+    private final RestClient restClient;
+
+    public ApacheClassicTransport(RestClient restClient) {
+        this.restClient = restClient;
+    }
+
+    @Override
+    public byte[] execute(String url, HttpMethod method, byte[] body) {
+        try {
+            RestClient.RequestBodySpec requestSpec = restClient.method(method)
+                    .uri(url)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.APPLICATION_JSON);
+
+            if (body != null) {
+                requestSpec.body(body);
+            }
+
+            // 본문은 Apache 가 Content-Encoding 을 풀어 주는 스트림이라 읽는 크기를 직접 제한한다
+            return requestSpec.exchange((request, response) -> {
+                int statusCode = response.getStatusCode().value();
+                if (statusCode >= 400) {
+                    throw HttpErrors.httpError(statusCode, response.getStatusText(), errorBody(response), null);
+                }
+                MediaType contentType = response.getHeaders().getContentType();
+                byte[] bytes = ResponseBodies.read(response.getBody(), response.getHeaders().getContentLength());
+                return ResponseBodies.utf8(bytes, contentType != null ? contentType.getCharset() : null);
+            });
+        } catch (ResourceAccessException e) {
+            throw HttpErrors.connectionError(e);
+        }
+    }
+
+    /**
+     * 로그용 오류 본문. 읽지 못했거나 너무 크면 빈 본문으로 본다.
+     */
+    private static byte[] errorBody(ClientHttpResponse response) {
+        try {
+            return ResponseBodies.read(response.getBody(), response.getHeaders().getContentLength());
+        } catch (IOException | ExternalSystemException e) {
+            return new byte[0];
+        }
+    }
+
+    @Override
+    public CompletableFuture<byte[]> executeAsync(String url, HttpMethod method, byte[] body) {
+        return CompletableFuture.failedFuture(new IllegalStateException("classic 전송은 비동기 호출을 지원하지 않습니다"));
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.mydata.client.transport;
+
+import com.example.mydata.client.core.ExternalSystemException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 전송 계층 공통 오류 매핑.
+ * 어떤 전송 방식이든 같은 HTTP 상태/연결 실패는 같은 에러코드로 보이도록 한다.
+ */
+@Slf4j
+public final class HttpErrors {
+
+    private HttpErrors() {
+    }
+
+    public static ExternalSystemException httpError(int statusCode, String statusText, byte[] responseBody,
+                                                    Throwable cause) {
+        if (statusCode >= 500) {
+            log.error("HTTP Server Error: {} {} - {}", statusCode, statusText, ResponseBodies.preview(responseBody));
+            return new ExternalSystemException("SERVER_ERROR",
+                    "외부 시스템 서버 오류 (" + statusCode + ")", cause);
+        }
+
+        String errorCode;
+        String errorMsg;
+        if (statusCode == 404) {
+            errorCode = "NOT_FOUND";
+            errorMsg = "외부 시스템 리소스를 찾을 수 없습니다";
+        } else if (statusCode == 400) {
+            errorCode = "BAD_REQUEST";
+            errorMsg = "외부 시스템 요청이 잘못되었습니다";
+        } else {
+            errorCode = "HTTP_" + statusCode;
+            errorMsg = "외부 시스템 클라이언트 오류";
+        }
+        log.error("HTTP Client Error: {} {} - {}", statusCode, statusText, ResponseBodies.preview(responseBody));
+        return new ExternalSystemException(errorCode,
+                errorMsg + " (" + statusCode + ")", cause);
+    }
+
+    public static ExternalSystemException connectionError(Exception e) {
+        return new ExternalSystemException("CONNECTION_ERROR",
+                "외부 시스템 연결 실패: " + e.getMessage(), e);
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.mydata.client.transport;
+
+import com.example.mydata.client.core.ExternalSystemException;
+import org.springframework.http.HttpMethod;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * 외부 시스템과 요청/응답을 주고받는 전송 계층.
+ * <p>
+ * 구현체는 요청 본문(직렬화된 JSON)을 보내고 응답 본문을 문자열로 디코딩하지 않은 UTF-8 바이트로 돌려준다.
+ * 실패는 {@link HttpErrors} 기준의 {@link ExternalSystemException}(HTTP 상태별 코드, CONNECTION_ERROR)으로 알린다.
+ * 비동기 결과 future 를 취소하면 진행 중인 교환도 취소해야 한다.
+ */
+public interface HttpTransport {
+
+    /**
+     * @param body 직렬화된 JSON 본문 (없으면 null)
+     */
+    CompletableFuture<byte[]> executeAsync(String url, HttpMethod method, byte[] body);
+
+    /**
+     * 동기 전송. 기본 구현은 비동기 전송 결과를 기다린다.
+     */
+    default byte[] execute(String url, HttpMethod method, byte[] body) {
+        CompletableFuture<byte[]> future = executeAsync(url, method, body);
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw HttpErrors.connectionError(e.getCause() instanceof Exception cause ? cause : e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ExternalSystemException("CONNECTION_ERROR", "외부 시스템 응답 대기 중 인터럽트", e);
+        }
+    }
+}
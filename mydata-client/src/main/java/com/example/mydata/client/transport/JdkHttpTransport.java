@@ -0,0 +1,120 @@
+package com.example.mydata.client.transport;
+
+import com.example.mydata.client.core.ExternalSystemException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.Charset;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * java.net.http.HttpClient 전송.
+ * <p>
+ * HTTP/2 로 설정하면 평문 URL 은 h2c 업그레이드로 협상하고, 이후 요청들은 소수의 커넥션에 다중화된다.
+ * 서버가 HTTP/2 를 지원하지 않으면 HTTP/1.1 로 동작한다.
+ */
+public class JdkHttpTransport implements HttpTransport {
+
+    private final HttpClient httpClient;
+    private final Duration readTimeout;
+    private final boolean compression;
+
+    public JdkHttpTransport(HttpClient httpClient, Duration readTimeout) {
+        this(httpClient, readTimeout, false);
+    }
+
+    /**
+     * @param compression gzip/deflate 응답을 요청하고 받은 본문의 압축을 푼다 (JDK 클라이언트는 자동 해제를 지원하지 않음)
+     */
+    public JdkHttpTransport(HttpClient httpClient, Duration readTimeout, boolean compression) {
+        this.httpClient = httpClient;
+        this.readTimeout = readTimeout;
+        this.compression = compression;
+    }
+
+    @Override
+    public byte[] execute(String url, HttpMethod method, byte[] body) {
+        try {
+            return handle(httpClient.send(request(url, method, body), HttpResponse.BodyHandlers.ofByteArray()));
+        } catch (IOException e) {
+            throw HttpErrors.connectionError(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExternalSystemException("CONNECTION_ERROR", "외부 시스템 응답 대기 중 인터럽트", e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<byte[]> executeAsync(String url, HttpMethod method, byte[] body) {
+        HttpRequest request;
+        try {
+            request = request(url, method, body);
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        CompletableFuture<HttpResponse<byte[]>> exchange =
+                httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray());
+        CompletableFuture<byte[]> result = new CompletableFuture<>();
+        exchange.whenComplete((response, e) -> {
+            if (e != null) {
+                Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                result.completeExceptionally(cause instanceof Exception ex ? HttpErrors.connectionError(ex) : cause);
+                return;
+            }
+            try {
+                result.complete(handle(response));
+            } catch (ExternalSystemException ex) {
+                result.completeExceptionally(ex);
+            }
+        });
+        result.whenComplete((r, e) -> {
+            if (result.isCancelled()) {
+                exchange.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    private HttpRequest request(String url, HttpMethod method, byte[] body) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+                .timeout(readTimeout)
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE);
+        if (compression) {
+            builder.header(HttpHeaders.ACCEPT_ENCODING, ResponseBodies.ACCEPT_ENCODING);
+        }
+        if (body != null) {
+            builder.header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .method(method.name(), HttpRequest.BodyPublishers.ofByteArray(body));
+        } else {
+            builder.method(method.name(), HttpRequest.BodyPublishers.noBody());
+        }
+        return builder.build();
+    }
+
+    private byte[] handle(HttpResponse<byte[]> response) {
+        String contentEncoding = response.headers().firstValue(HttpHeaders.CONTENT_ENCODING).orElse(null);
+        int statusCode = response.statusCode();
+        if (statusCode >= 400) {
+            throw HttpErrors.httpError(statusCode, "", ResponseBodies.decodeForLog(response.body(), contentEncoding), null);
+        }
+        byte[] body;
+        try {
+            body = ResponseBodies.decode(response.body(), contentEncoding);
+        } catch (IOException e) {
+            throw HttpErrors.connectionError(e);
+        }
+        Charset charset = response.headers().firstValue(HttpHeaders.CONTENT_TYPE)
+                .map(MediaType::parseMediaType)
+                .map(MediaType::getCharset)
+                .orElse(null);
+        return ResponseBodies.utf8(body, charset);
+    }
+}
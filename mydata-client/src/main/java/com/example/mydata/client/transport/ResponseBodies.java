@@ -0,0 +1,180 @@
+package com.example.mydata.client.transport;
+
+import com.example.mydata.client.core.ExternalSystemException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 응답 본문(byte[]) 공통 처리.
+ * 본문은 문자열로 변환하지 않고 UTF-8 바이트 그대로 파서에 넘긴다.
+ */
+public final class ResponseBodies {
+
+    /** 로그에 남길 본문 최대 바이트 수 */
+    static final int PREVIEW_BYTES = 512;
+
+    /** 압축을 푼 본문 최대 바이트 수. 작은 압축 본문이 메모리를 다 쓰도록 부풀리는 응답을 막는다 */
+    public static final int MAX_DECODED_BYTES = 64 * 1024 * 1024;
+
+    /** 크기 정보가 없는 deflate 본문의 예상 압축률 (JSON 은 보통 이보다 잘 압축된다) */
+    private static final int DEFLATE_RATIO_ESTIMATE = 4;
+
+    /** 압축 협상 시 보내는 Accept-Encoding */
+    public static final String ACCEPT_ENCODING = "gzip, deflate";
+
+    private ResponseBodies() {
+    }
+
+    /**
+     * Content-Type 의 charset 이 UTF-8 이 아니면(레거시 EUC-KR 등) UTF-8 로 바꾼다. UTF-8 이면 그대로 반환한다.
+     */
+    public static byte[] utf8(byte[] body, Charset charset) {
+        if (body == null || charset == null || StandardCharsets.UTF_8.equals(charset)) {
+            return body;
+        }
+        return new String(body, charset).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Content-Encoding 에 따라 압축을 푼다. 압축되지 않은 본문은 그대로 반환한다.
+     * deflate 는 zlib 형식이 표준이지만 헤더 없는 raw deflate 로 보내는 서버도 있어 둘 다 받는다.
+     *
+     * @throws ExternalSystemException 압축을 푼 크기가 {@link #MAX_DECODED_BYTES} 를 넘는 경우
+     */
+    public static byte[] decode(byte[] body, String contentEncoding) throws IOException {
+        return decode(body, contentEncoding, MAX_DECODED_BYTES);
+    }
+
+    static byte[] decode(byte[] body, String contentEncoding, int maxBytes) throws IOException {
+        if (body == null || body.length == 0 || contentEncoding == null) {
+            return body;
+        }
+        String encoding = contentEncoding.trim().toLowerCase();
+        if (encoding.isEmpty() || encoding.equals("identity")) {
+            return body;
+        }
+        InputStream source = new ByteArrayInputStream(body);
+        switch (encoding) {
+            case "gzip", "x-gzip" -> {
+                try (InputStream decoded = new GZIPInputStream(source)) {
+                    return read(decoded, gzipSize(body), maxBytes);
+                }
+            }
+            case "deflate" -> {
+                // 직접 만든 Inflater 는 스트림을 닫아도 해제되지 않는다
+                Inflater inflater = new Inflater(!isZlib(body));
+                try (InputStream decoded = new InflaterInputStream(source, inflater)) {
+                    return read(decoded, Math.min((long) body.length * DEFLATE_RATIO_ESTIMATE, maxBytes), maxBytes);
+                } finally {
+                    inflater.end();
+                }
+            }
+            default -> throw new IOException("지원하지 않는 Content-Encoding: " + contentEncoding);
+        }
+    }
+
+    /**
+     * 오류 응답 로그용 압축 해제. 압축이 깨졌거나 너무 크면 받은 본문을 그대로 반환한다.
+     * 전송은 상태 코드를 먼저 보고 오류 본문은 이것으로만 풀어, 깨진 압축 본문의 5xx 가 연결 오류로 보이지 않게 한다.
+     */
+    public static byte[] decodeForLog(byte[] body, String contentEncoding) {
+        try {
+            return decode(body, contentEncoding);
+        } catch (IOException | ExternalSystemException e) {
+            return body;
+        }
+    }
+
+    /**
+     * 전송 라이브러리가 이미 압축을 푼 본문 스트림을 {@link #MAX_DECODED_BYTES} 까지 읽는다.
+     *
+     * @param contentLength 응답 헤더의 Content-Length (모르면 -1)
+     * @throws ExternalSystemException 본문이 최대 크기를 넘는 경우 (RESPONSE_TOO_LARGE)
+     */
+    public static byte[] read(InputStream in, long contentLength) throws IOException {
+        return read(in, contentLength, MAX_DECODED_BYTES);
+    }
+
+    /**
+     * 스트림을 끝까지 읽는다. 예상 크기로 배열을 한 번에 잡아, 예상이 맞으면 복사 없이 그 배열을 반환한다.
+     *
+     * @param sizeHint 예상 크기 (모르면 0 이하). maxBytes 보다 크면 읽기 전에 실패하므로 하한이 확실한 값만 넘긴다
+     * @throws ExternalSystemException 읽은 크기가 maxBytes 를 넘는 경우 (RESPONSE_TOO_LARGE)
+     */
+    static byte[] read(InputStream in, long sizeHint, int maxBytes) throws IOException {
+        if (sizeHint > maxBytes) {
+            throw tooLarge(maxBytes);
+        }
+        byte[] buffer = new byte[sizeHint > 0 ? (int) sizeHint : 8192];
+        int length = 0;
+        while (true) {
+            if (length == buffer.length) {
+                // 배열이 찼으면 한 바이트로 끝인지 확인한 뒤에만 늘린다
+                int next = in.read();
+                if (next == -1) {
+                    break;
+                }
+                if (length >= maxBytes) {
+                    throw tooLarge(maxBytes);
+                }
+                buffer = Arrays.copyOf(buffer, (int) Math.min(maxBytes, Math.max(length * 2L, length + 8192L)));
+                buffer[length++] = (byte) next;
+            }
+            int read = in.read(buffer, length, buffer.length - length);
+            if (read == -1) {
+                break;
+            }
+            length += read;
+        }
+        return length == buffer.length ? buffer : Arrays.copyOf(buffer, length);
+    }
+
+    private static ExternalSystemException tooLarge(int maxBytes) {
+        return new ExternalSystemException("RESPONSE_TOO_LARGE",
+                "응답 본문이 최대 크기(" + maxBytes + " bytes)를 넘었습니다");
+    }
+
+    /**
+     * gzip 트레일러의 ISIZE (원본 크기 mod 2^32, RFC 1952). 단일 멤버 응답이면 정확한 크기다.
+     */
+    private static long gzipSize(byte[] body) {
+        if (body.length < 18) {
+            return 0;
+        }
+        int n = body.length;
+        return (body[n - 4] & 0xFFL) | (body[n - 3] & 0xFFL) << 8 | (body[n - 2] & 0xFFL) << 16 | (body[n - 1] & 0xFFL) << 24;
+    }
+
+    /**
+     * zlib 헤더(CMF/FLG) 여부 (RFC 1950)
+     */
+    private static boolean isZlib(byte[] body) {
+        if (body.length < 2) {
+            return false;
+        }
+        int cmf = body[0] & 0xFF;
+        int flg = body[1] & 0xFF;
+        return (cmf & 0x0F) == 8 && ((cmf << 8) | flg) % 31 == 0;
+    }
+
+    /**
+     * 로그용 본문 앞부분. 잘린 경우 전체 크기를 덧붙인다.
+     */
+    public static String preview(byte[] body) {
+        if (body == null) {
+            return "";
+        }
+        if (body.length <= PREVIEW_BYTES) {
+            return new String(body, StandardCharsets.UTF_8);
+        }
+        return new String(body, 0, PREVIEW_BYTES, StandardCharsets.UTF_8) + "...(" + body.length + " bytes)";
+    }
+}
@@ -1,25 +1,41 @@
 package com.example.mydata.controller;
 
+import com.example.mydata.client.core.ExternalSystemException;
 import com.example.mydata.dto.MydataResponse;
 import com.example.mydata.service.MydataService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
+@Slf4j
 @RestController
 @RequestMapping("/api/mydata")
 @RequiredArgsConstructor
 public class MydataController {
 
+    private static final String NDJSON_VALUE = "application/x-ndjson";
+    private static final MediaType NDJSON = MediaType.parseMediaType(NDJSON_VALUE);
+
     private final MydataService mydataService;
+    private final ObjectMapper objectMapper;
 
     // ========== Banking ==========
 
     @GetMapping("/bank/accounts")
-    public ResponseEntity<MydataResponse<?>> getAccountList() {
-        return ResponseEntity.ok(MydataResponse.success(mydataService.getAccountList()));
+    public ResponseEntity<byte[]> getAccountList() {
+        return json(MydataResponse.successJson(mydataService.getAccountList()));
     }
 
     @PostMapping("/bank/transfer")
@@ -31,18 +47,26 @@ public class MydataController {
     }
 
     @GetMapping("/bank/accounts/{accountNo}/transactions")
-    public ResponseEntity<MydataResponse<?>> getTransactionHistory(
+    public ResponseEntity<byte[]> getTransactionHistory(
+            @PathVariable String accountNo,
+            @RequestParam(defaultValue = "20240101") String fromDate,
+            @RequestParam(defaultValue = "20241231") String toDate) {
+        return json(MydataResponse.successJson(mydataService.getTransactionHistory(accountNo, fromDate, toDate)));
+    }
+
+    @GetMapping(value = "/bank/accounts/{accountNo}/transactions/stream", produces = NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamTransactionHistory(
             @PathVariable String accountNo,
             @RequestParam(defaultValue = "20240101") String fromDate,
             @RequestParam(defaultValue = "20241231") String toDate) {
-        return ResponseEntity.ok(MydataResponse.success(mydataService.getTransactionHistory(accountNo, fromDate, toDate)));
+        return ndjson(mydataService.streamTransactionHistory(accountNo, fromDate, toDate));
     }
 
     // ========== Card ==========
 
     @GetMapping("/card/cards")
-    public ResponseEntity<MydataResponse<?>> getCardList() {
-        return ResponseEntity.ok(MydataResponse.success(mydataService.getCardList()));
+    public ResponseEntity<byte[]> getCardList() {
+        return json(MydataResponse.successJson(mydataService.getCardList()));
     }
 
     @GetMapping("/card/cards/{cardNo}/scheduled-payments")
@@ -53,8 +77,8 @@ public class MydataController {
     // ========== Insurance ==========
 
     @GetMapping("/insurance/policies")
-    public ResponseEntity<MydataResponse<?>> getPolicyList(@RequestParam String customerId) {
-        return ResponseEntity.ok(MydataResponse.success(mydataService.getPolicyList(customerId)));
+    public ResponseEntity<byte[]> getPolicyList(@RequestParam String customerId) {
+        return json(MydataResponse.successJson(mydataService.getPolicyList(customerId)));
     }
 
     @PostMapping("/insurance/premium-payment")
@@ -67,8 +91,13 @@ public class MydataController {
     // ========== GIRO ==========
 
     @GetMapping("/giro/bills")
-    public ResponseEntity<MydataResponse<?>> getBillList(@RequestParam String custId) {
-        return ResponseEntity.ok(MydataResponse.success(mydataService.getBillList(custId)));
+    public ResponseEntity<byte[]> getBillList(@RequestParam String custId) {
+        return json(MydataResponse.successJson(mydataService.getBillList(custId)));
+    }
+
+    @GetMapping(value = "/giro/bills/stream", produces = NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamBillList(@RequestParam String custId) {
+        return ndjson(mydataService.streamBillList(custId));
     }
 
     @PostMapping("/giro/payment")
@@ -77,4 +106,66 @@ public class MydataController {
         long amount = ((Number) request.get("amount")).longValue();
         return ResponseEntity.ok(MydataResponse.success(mydataService.payBill(billNo, amount)));
     }
+
+    // ========== Summary ==========
+
+    @GetMapping("/summary")
+    public CompletableFuture<ResponseEntity<MydataResponse<?>>> getSummary(@RequestParam String customerId) {
+        return mydataService.getSummary(customerId)
+                .thenApply(summary -> ResponseEntity.ok(MydataResponse.success(summary)));
+    }
+
+    /**
+     * 미리 직렬화된 JSON 응답 본문 (MydataResponse.successJson).
+     */
+    private static ResponseEntity<byte[]> json(byte[] body) {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    // ========== NDJSON ==========
+
+    /**
+     * 항목을 한 줄에 하나씩 JSON 으로 쓰는 응답 (application/x-ndjson).
+     * <p>
+     * 첫 항목은 여기서 미리 읽어 첫 페이지 실패가 GlobalExceptionHandler 의 일반 오류 응답으로 나가게 한다.
+     * 이후 항목은 외부 응답에서 파싱되는 대로 출력 스트림에 쓰므로 첫 바이트 시간과 힙 사용량이 목록 길이와 무관하다.
+     * 응답을 쓰기 시작한 뒤의 실패는 상태코드를 바꿀 수 없어 MydataResponse 오류 한 줄을 마지막 줄로 쓴다.
+     */
+    private ResponseEntity<StreamingResponseBody> ndjson(Stream<?> items) {
+        Iterator<?> iterator = items.iterator();
+        try {
+            iterator.hasNext();
+        } catch (RuntimeException e) {
+            items.close();
+            throw e;
+        }
+        StreamingResponseBody body = out -> {
+            try (items; JsonGenerator generator = objectMapper.createGenerator(out)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setRootValueSeparator(null);
+                // 항목마다 flush 하지 않고 생성기/서블릿 버퍼가 찰 때 내보낸다
+                ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+                boolean first = true;
+                try {
+                    while (iterator.hasNext()) {
+                        writer.writeValue(generator, iterator.next());
+                        generator.writeRaw('\n');
+                        if (first) {
+                            generator.flush();
+                            first = false;
+                        }
+                    }
+                } catch (ExternalSystemException e) {
+                    log.warn("스트림 중 외부 시스템 오류: [{}] {}", e.getErrorCode(), e.getErrorMessage());
+                    writer.writeValue(generator, MydataResponse.externalError(e.getErrorCode(), e.getErrorMessage()));
+                    generator.writeRaw('\n');
+                } catch (RuntimeException e) {
+                    log.error("스트림 중 시스템 오류 발생", e);
+                    writer.writeValue(generator, MydataResponse.systemError("시스템 오류가 발생했습니다"));
+                    generator.writeRaw('\n');
+                }
+            }
+        };
+        return ResponseEntity.ok().contentType(NDJSON).body(body);
+    }
 }
@@ -0,0 +1,58 @@
+package com.example.mydata.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 통합조회에서 기관별 조회 결과와 상태.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class InstitutionResult {
+
+    public enum Status {
+        SUCCESS, ERROR, TIMEOUT
+    }
+
+    private Status status;
+
+    private long elapsedMs;
+
+    private String errorCode;
+
+    private String errorMessage;
+
+    private Object data;
+
+    public static InstitutionResult success(Object data, long elapsedMs) {
+        return InstitutionResult.builder()
+                .status(Status.SUCCESS)
+                .elapsedMs(elapsedMs)
+                .data(data)
+                .build();
+    }
+
+    public static InstitutionResult error(String errorCode, String errorMessage, long elapsedMs) {
+        return InstitutionResult.builder()
+                .status(Status.ERROR)
+                .elapsedMs(elapsedMs)
+                .errorCode(errorCode)
+                .errorMessage(errorMessage)
+                .build();
+    }
+
+    public static InstitutionResult timeout(long deadlineMs, long elapsedMs) {
+        return InstitutionResult.builder()
+                .status(Status.TIMEOUT)
+                .elapsedMs(elapsedMs)
+                .errorCode("TIMEOUT")
+                .errorMessage("응답 기한 초과 (" + deadlineMs + "ms)")
+                .build();
+    }
+}
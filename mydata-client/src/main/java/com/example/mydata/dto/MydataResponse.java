@@ -6,6 +6,9 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
 @Data
 @Builder
 @NoArgsConstructor
@@ -13,6 +16,9 @@ import lombok.NoArgsConstructor;
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class MydataResponse<T> {
 
+    private static final byte[] SUCCESS_PREFIX =
+            "{\"resultCode\":\"0000\",\"resultMessage\":\"성공\",\"data\":".getBytes(StandardCharsets.UTF_8);
+
     private String resultCode;
 
     private String resultMessage;
@@ -31,6 +37,19 @@ public class MydataResponse<T> {
                 .build();
     }
 
+    /**
+     * {@code success(data)} 를 직렬화한 것과 같은 응답 본문을 만든다.
+     * 이미 직렬화된 데이터 JSON 을 미리 만든 봉투 바이트 사이에 붙이므로 데이터를 객체로 다시 만들지 않는다.
+     *
+     * @param data 직렬화된 데이터 JSON (UTF-8)
+     */
+    public static byte[] successJson(byte[] data) {
+        byte[] body = Arrays.copyOf(SUCCESS_PREFIX, SUCCESS_PREFIX.length + data.length + 1);
+        System.arraycopy(data, 0, body, SUCCESS_PREFIX.length, data.length);
+        body[body.length - 1] = '}';
+        return body;
+    }
+
     public static MydataResponse<Void> externalError(String externalErrorCode, String externalErrorMessage) {
         return MydataResponse.<Void>builder()
                 .resultCode("E001")
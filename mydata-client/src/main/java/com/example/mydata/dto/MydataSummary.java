@@ -0,0 +1,25 @@
+package com.example.mydata.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * MyData 홈 화면 통합조회 결과 (계좌, 카드, 보험, 지로).
+ * 일부 기관이 실패하거나 기한을 넘겨도 나머지 결과는 그대로 담긴다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MydataSummary {
+
+    private InstitutionResult accounts;
+
+    private InstitutionResult cards;
+
+    private InstitutionResult policies;
+
+    private InstitutionResult bills;
+}
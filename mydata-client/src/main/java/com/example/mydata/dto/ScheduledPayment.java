@@ -0,0 +1,21 @@
+package com.example.mydata.dto;
+
+import java.util.List;
+
+/**
+ * 카드 결제예정금액조회 결과.
+ */
+public record ScheduledPayment(
+        String cardNo,
+        String paymentDate,
+        long totalAmount,
+        List<Detail> details) {
+
+    public record Detail(
+            String merchantName,
+            String transactionDate,
+            long amount,
+            int installmentMonth,
+            int totalInstallments) {
+    }
+}
@@ -2,13 +2,23 @@ package com.example.mydata.service;
 
 import com.example.mydata.client.bank.BankMessageClient;
 import com.example.mydata.client.card.CardMessageClient;
+import com.example.mydata.client.core.ExternalSystemException;
 import com.example.mydata.client.giro.GiroMessageClient;
 import com.example.mydata.client.insurance.InsuranceMessageClient;
+import com.example.mydata.dto.InstitutionResult;
+import com.example.mydata.dto.MydataSummary;
+import com.example.mydata.dto.ScheduledPayment;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -19,26 +29,49 @@ public class MydataService {
     private final CardMessageClient cardMessageClient;
     private final InsuranceMessageClient insuranceMessageClient;
     private final GiroMessageClient giroMessageClient;
+    private final SummaryProperties summaryProperties;
 
     // ========== Banking ==========
 
-    public Map<String, Object> getAccountList() {
+    /**
+     * 계좌 목록 데이터 영역 JSON. 외부 응답 바이트를 Map 으로 바꾸지 않고 그대로 반환한다 ({@link BankMessageClient#requestRaw}).
+     */
+    public byte[] getAccountList() {
         log.info("[Banking] 계좌목록조회 요청");
-        return bankMessageClient.request("계좌목록조회", Map.of());
+        return bankMessageClient.requestRaw("계좌목록조회", Map.of());
     }
 
     public Map<String, Object> transfer(String fromAccountNo, String toAccountNo, long amount) {
         log.info("[Banking] 이체 요청: {} -> {} ({}원)", fromAccountNo, toAccountNo, amount);
-        return bankMessageClient.request("이체", Map.of(
+        Map<String, Object> result = bankMessageClient.request("이체", Map.of(
                 "fromAccountNo", fromAccountNo,
                 "toAccountNo", toAccountNo,
                 "amount", amount
         ));
+        // 잔액이 바뀌었으므로 캐시된 계좌 조회 결과를 버린다
+        bankMessageClient.evictAll("계좌목록조회");
+        bankMessageClient.evictAll("계좌거래내역조회");
+        return result;
     }
 
-    public Map<String, Object> getTransactionHistory(String accountNo, String fromDate, String toDate) {
+    /**
+     * 기간 내 거래내역 데이터 영역 JSON (requestRaw).
+     */
+    public byte[] getTransactionHistory(String accountNo, String fromDate, String toDate) {
         log.info("[Banking] 계좌거래내역조회 요청: accountNo={}", accountNo);
-        return bankMessageClient.request("계좌거래내역조회", Map.of(
+        return bankMessageClient.requestRaw("계좌거래내역조회", Map.of(
+                "accountNo", accountNo,
+                "fromDate", fromDate,
+                "toDate", toDate
+        ));
+    }
+
+    /**
+     * 거래내역을 페이지 단위로 받아 항목 하나씩 내보낸다. 다 읽었거나 중간에 멈추면 Stream 을 닫아야 한다.
+     */
+    public Stream<Map<String, Object>> streamTransactionHistory(String accountNo, String fromDate, String toDate) {
+        log.info("[Banking] 계좌거래내역조회 스트림 요청: accountNo={}", accountNo);
+        return bankMessageClient.stream("계좌거래내역조회", Map.of(
                 "accountNo", accountNo,
                 "fromDate", fromDate,
                 "toDate", toDate
@@ -47,49 +80,130 @@ public class MydataService {
 
     // ========== Card ==========
 
-    public Map<String, Object> getCardList() {
+    /**
+     * 보유카드 목록 데이터 영역 JSON (requestRaw).
+     */
+    public byte[] getCardList() {
         log.info("[Card] 보유카드목록조회 요청");
-        return cardMessageClient.request("보유카드목록조회", Map.of());
+        return cardMessageClient.requestRaw("보유카드목록조회", Map.of());
     }
 
-    public Map<String, Object> getScheduledPayment(String cardNo) {
+    public ScheduledPayment getScheduledPayment(String cardNo) {
         log.info("[Card] 결제예정금액조회 요청: cardNo={}", cardNo);
         return cardMessageClient.request("결제예정금액조회", Map.of(
                 "cardNo", cardNo
-        ));
+        ), ScheduledPayment.class);
     }
 
     // ========== Insurance ==========
 
-    public Map<String, Object> getPolicyList(String customerId) {
+    /**
+     * 보험 가입내역 데이터 영역 JSON (requestRaw).
+     */
+    public byte[] getPolicyList(String customerId) {
         log.info("[Insurance] 보험가입내역조회 요청: customerId={}", customerId);
-        return insuranceMessageClient.request("보험가입내역조회", Map.of(
+        return insuranceMessageClient.requestRaw("보험가입내역조회", Map.of(
                 "customerId", customerId
         ));
     }
 
     public Map<String, Object> payPremium(String policyNo, long amount) {
         log.info("[Insurance] 보험료납부 요청: policyNo={}, amount={}", policyNo, amount);
-        return insuranceMessageClient.request("보험료납부", Map.of(
+        Map<String, Object> result = insuranceMessageClient.request("보험료납부", Map.of(
                 "policyNo", policyNo,
                 "amount", amount
         ));
+        // 증권번호로는 고객을 알 수 없어 가입내역 캐시 전체를 버린다
+        insuranceMessageClient.evictAll("보험가입내역조회");
+        return result;
     }
 
     // ========== GIRO ==========
 
-    public Map<String, Object> getBillList(String custId) {
+    /**
+     * 청구서 목록 데이터 영역 JSON. responseMapping 이 있는 거래라 매핑한 필드명으로 직렬화된다 (requestRaw).
+     */
+    public byte[] getBillList(String custId) {
         log.info("[GIRO] 지로청구서목록조회 요청: custId={}", custId);
-        return giroMessageClient.request("지로청구서목록조회", Map.of(
+        return giroMessageClient.requestRaw("지로청구서목록조회", Map.of(
+                "custId", custId
+        ));
+    }
+
+    /**
+     * 청구서 목록을 항목 하나씩 내보낸다. 사용 후 Stream 을 닫아야 한다.
+     * 페이지 미지원 거래라 외부 응답 본문 전체(압축 해제 후)를 받은 뒤에야 첫 항목이 나온다.
+     * 목록 Map 을 만들지 않을 뿐, 첫 바이트 시간과 본문 버퍼는 청구서 수에 비례한다.
+     */
+    public Stream<Map<String, Object>> streamBillList(String custId) {
+        log.info("[GIRO] 지로청구서목록조회 스트림 요청: custId={}", custId);
+        return giroMessageClient.stream("지로청구서목록조회", Map.of(
                 "custId", custId
         ));
     }
 
     public Map<String, Object> payBill(String billNo, long amount) {
         log.info("[GIRO] 지로납부 요청: billNo={}, amount={}", billNo, amount);
-        return giroMessageClient.request("지로납부", Map.of(
+        Map<String, Object> result = giroMessageClient.request("지로납부", Map.of(
                 "billNo", billNo,
                 "amount", amount
         ));
+        // 청구서번호로는 고객을 알 수 없어 청구서 목록 캐시 전체를 버린다
+        giroMessageClient.evictAll("지로청구서목록조회");
+        return result;
+    }
+
+    // ========== Summary (홈 화면 통합조회) ==========
+
+    /**
+     * 계좌/카드/보험/지로를 동시에 조회한다.
+     * 기관별 응답 기한을 넘기거나 실패한 기관은 상태만 담고, 나머지 결과는 그대로 반환한다.
+     * 전체 지연시간은 네 기관의 합이 아니라 가장 느린 기관(최대 기한)에 수렴한다.
+     */
+    public CompletableFuture<MydataSummary> getSummary(String customerId) {
+        log.info("[Summary] 통합조회 요청: customerId={}", customerId);
+
+        CompletableFuture<InstitutionResult> accounts = fetch("bank",
+                () -> bankMessageClient.requestAsync("계좌목록조회", Map.of()));
+        CompletableFuture<InstitutionResult> cards = fetch("card",
+                () -> cardMessageClient.requestAsync("보유카드목록조회", Map.of()));
+        CompletableFuture<InstitutionResult> policies = fetch("insurance",
+                () -> insuranceMessageClient.requestAsync("보험가입내역조회", Map.of("customerId", customerId)));
+        CompletableFuture<InstitutionResult> bills = fetch("giro",
+                () -> giroMessageClient.requestAsync("지로청구서목록조회", Map.of("custId", customerId)));
+
+        return CompletableFuture.allOf(accounts, cards, policies, bills)
+                .thenApply(v -> MydataSummary.builder()
+                        .accounts(accounts.join())
+                        .cards(cards.join())
+                        .policies(policies.join())
+                        .bills(bills.join())
+                        .build());
+    }
+
+    private CompletableFuture<InstitutionResult> fetch(String system,
+                                                       Supplier<CompletableFuture<Map<String, Object>>> call) {
+        long deadlineMs = summaryProperties.deadlineOf(system).toMillis();
+        long start = System.nanoTime();
+
+        return call.get()
+                .orTimeout(deadlineMs, TimeUnit.MILLISECONDS)
+                .handle((data, e) -> {
+                    long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                    if (e == null) {
+                        return InstitutionResult.success(data, elapsedMs);
+                    }
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    if (cause instanceof TimeoutException) {
+                        log.warn("[Summary] {} 응답 기한 초과 ({}ms)", system, deadlineMs);
+                        return InstitutionResult.timeout(deadlineMs, elapsedMs);
+                    }
+                    if (cause instanceof ExternalSystemException ex) {
+                        log.warn("[Summary] {} 조회 실패: [{}] {}", system, ex.getErrorCode(), ex.getErrorMessage());
+                        return InstitutionResult.error(ex.getErrorCode(), ex.getErrorMessage(), elapsedMs);
+                    }
+                    log.error("[Summary] {} 조회 중 오류", system, cause);
+                    return InstitutionResult.error("SYSTEM_ERROR", cause.getMessage(), elapsedMs);
+                });
     }
 }
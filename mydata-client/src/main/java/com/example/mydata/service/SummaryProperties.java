@@ -0,0 +1,26 @@
+package com.example.mydata.service;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "mydata.summary")
+public class SummaryProperties {
+
+    private Duration defaultDeadline = Duration.ofSeconds(3);
+
+    /**
+     * 기관별 응답 기한 (bank, card, insurance, giro)
+     */
+    private Map<String, Duration> deadlines = new LinkedHashMap<>();
+
+    public Duration deadlineOf(String system) {
+        return deadlines.getOrDefault(system, defaultDeadline);
+    }
+}
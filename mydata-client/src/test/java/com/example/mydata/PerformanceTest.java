@@ -5,6 +5,7 @@ import com.example.mydata.client.card.CardMessageClient;
 import com.example.mydata.client.core.GenericHttpClient;
 import com.example.mydata.client.core.MessageSpecProperties;
 import com.example.mydata.client.core.SystemProperties;
+import com.example.mydata.client.transport.HttpTransport;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,6 +16,8 @@ import org.springframework.test.web.client.ExpectedCount;
 import org.springframework.test.web.client.MockRestServiceServer;
 import org.springframework.web.client.RestClient;
 
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.concurrent.*;
 import java.util.stream.LongStream;
@@ -227,6 +230,63 @@ class PerformanceTest {
         assertTrue(errors.isEmpty(), "Errors: " + errors.size());
     }
 
+    @Test
+    @DisplayName("대용량 목록 응답의 MessageClient 호출당 할당량은 응답 크기의 일정 배수 이내다")
+    void largeListAllocation() {
+        StringBuilder items = new StringBuilder();
+        for (int i = 0; i < 2_000; i++) {
+            if (i > 0) {
+                items.append(',');
+            }
+            items.append("{\"transactionId\":\"TX").append(i)
+                    .append("\",\"description\":\"급여이체 입금 홍길동 님 ").append(i)
+                    .append("\",\"counterparty\":\"주식회사 한국마이데이터\",\"amount\":").append(i * 1000).append('}');
+        }
+        byte[] response = ("{\"result_code\":\"0000\",\"result_msg\":\"성공\",\"data\":[" + items + "]}")
+                .getBytes(StandardCharsets.UTF_8);
+
+        SystemProperties bankProps = new SystemProperties();
+        bankProps.setBaseUrl("http://localhost:8081");
+        bankProps.setSuccessCodeField("result_code");
+        bankProps.setSuccessCodeValue("0000");
+        bankProps.setErrorMessageField("result_msg");
+        bankProps.setDataField("data");
+        MessageSpecProperties spec = new MessageSpecProperties();
+        spec.setTransactionCode("계좌거래내역조회");
+        spec.setMethod("GET");
+        spec.setPath("/api/bank/transactions");
+        bankProps.setMessages(Map.of("transactions", spec));
+        HttpTransport transport = (url, method, body) -> CompletableFuture.completedFuture(response);
+        BankMessageClient client = new BankMessageClient(new GenericHttpClient(transport), bankProps, objectMapper);
+
+        long endToEnd = allocatedPerCall(() -> client.request("계좌거래내역조회", Map.of()));
+
+        System.out.println("\n========================================");
+        System.out.println("  Allocation Report: " + response.length / 1024 + " KB list response");
+        System.out.println("========================================");
+        System.out.println("  MessageClient 전체  : " + endToEnd / 1024 + " KB/call");
+        System.out.println("========================================\n");
+
+        // 본문을 String 으로 디코딩해 트리를 만들던 때는 파싱만으로 응답 크기의 약 9배를 할당했다 (현재 전체 호출이 약 4배)
+        assertTrue(endToEnd < response.length * 8L, "endToEnd=" + endToEnd + ", response=" + response.length);
+    }
+
+    /**
+     * 현재 스레드의 호출당 평균 힙 할당량 (워밍업 후 측정)
+     */
+    private static long allocatedPerCall(Runnable call) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < 200; i++) {
+            call.run();
+        }
+        int iterations = 200;
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < iterations; i++) {
+            call.run();
+        }
+        return (threads.getCurrentThreadAllocatedBytes() - before) / iterations;
+    }
+
     private void printPerformanceReport(String testName, int totalRequests, long totalTimeMs,
                                          List<Long> latencies, List<Exception> errors) {
         long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
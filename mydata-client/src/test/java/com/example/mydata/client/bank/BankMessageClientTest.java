@@ -1,19 +1,26 @@
 package com.example.mydata.client.bank;
 
+import com.example.mydata.client.core.BulkheadProperties;
+import com.example.mydata.client.core.CacheProperties;
 import com.example.mydata.client.core.ExternalSystemException;
 import com.example.mydata.client.core.GenericHttpClient;
 import com.example.mydata.client.core.MessageSpecProperties;
+import com.example.mydata.client.core.RetryProperties;
 import com.example.mydata.client.core.SystemProperties;
+import com.example.mydata.client.resilience.Bulkhead;
+import com.example.mydata.client.transport.ResponseBodies;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.client.MockRestServiceServer;
 import org.springframework.web.client.RestClient;
 
+import java.nio.charset.StandardCharsets;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -28,6 +35,8 @@ class BankMessageClientTest {
 
     private BankMessageClient bankMessageClient;
     private MockRestServiceServer mockServer;
+    private GenericHttpClient httpClient;
+    private SystemProperties bankProperties;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     @BeforeEach
@@ -35,9 +44,9 @@ class BankMessageClientTest {
         RestClient.Builder builder = RestClient.builder();
         mockServer = MockRestServiceServer.bindTo(builder).build();
         RestClient restClient = builder.build();
-        GenericHttpClient httpClient = new GenericHttpClient(restClient);
+        httpClient = new GenericHttpClient(restClient);
 
-        SystemProperties bankProperties = new SystemProperties();
+        bankProperties = new SystemProperties();
         bankProperties.setBaseUrl("http://localhost:8081");
         bankProperties.setSuccessCodeField("result_code");
         bankProperties.setSuccessCodeValue("0000");
@@ -178,10 +187,351 @@ class BankMessageClientTest {
         }
     }
 
+    record Account(String accountNo, String accountName, long balance) {
+    }
+
+    @Nested
+    @DisplayName("타입 바인딩")
+    class TypedBindingCases {
+
+        @Test
+        @DisplayName("계좌목록조회 - 각 항목이 record로 바인딩된다")
+        void getAccountList_boundToRecords() {
+            String response = """
+                    {
+                        "result_code": "0000",
+                        "result_msg": "성공",
+                        "data": [
+                            {"accountNo": "110-234-567890", "accountName": "급여계좌", "bankCode": "004", "balance": 1500000},
+                            {"accountNo": "110-987-654321", "accountName": "저축계좌", "bankCode": "004", "balance": 5000000}
+                        ]
+                    }
+                    """;
+
+            mockServer.expect(requestTo("http://localhost:8081/api/bank/accounts"))
+                    .andRespond(withSuccess(response, MediaType.APPLICATION_JSON));
+
+            List<Account> accounts = bankMessageClient.requestList("계좌목록조회", Map.of(), Account.class);
+
+            assertEquals(2, accounts.size());
+            assertEquals(new Account("110-234-567890", "급여계좌", 1_500_000L), accounts.get(0));
+            assertEquals(5_000_000L, accounts.get(1).balance());
+
+            mockServer.verify();
+        }
+
+        @Test
+        @DisplayName("데이터 영역이 없으면 빈 목록을 반환한다")
+        void emptyData_returnsEmptyList() {
+            String response = """
+                    {"result_code": "0000", "result_msg": "성공"}
+                    """;
+
+            mockServer.expect(requestTo("http://localhost:8081/api/bank/accounts"))
+                    .andRespond(withSuccess(response, MediaType.APPLICATION_JSON));
+
+            List<Account> accounts = bankMessageClient.requestList("계좌목록조회", Map.of(), Account.class);
+
+            assertTrue(accounts.isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("원본 데이터 (requestRaw)")
+    class RawCases {
+
+        private String raw(String response) {
+            mockServer.reset();
+            mockServer.expect(requestTo("http://localhost:8081/api/bank/accounts"))
+                    .andRespond(withSuccess(response, MediaType.APPLICATION_JSON));
+            return new String(bankMessageClient.requestRaw("계좌목록조회", Map.of()), StandardCharsets.UTF_8);
+        }
+
+        @Test
+        @DisplayName("데이터 영역 바이트를 그대로 잘라 request 결과를 직렬화한 것과 같은 JSON 을 만든다")
+        void sameAsSerializedMap() throws Exception {
+            String data = """
+                    [
+                        {"accountNo": "110-234-567890", "memo": "괄호 } ] 와 \\"따옴표\\" \\u0041", "balance": 1500000},
+                        {"accountNo": "110-987-654321", "limits": {"daily": 1.50, "tags": []}, "balance": -5000000}
+                    ]""";
+            String response = "{\"result_code\": \"0000\", \"data\": " + data + ", \"result_msg\": \"성공\"}";
+
+            String raw = raw(response);
+            mockServer.reset();
+            mockServer.expect(requestTo("http://localhost:8081/api/bank/accounts"))
+                    .andRespond(withSuccess(response, MediaType.APPLICATION_JSON));
+            Map<String, Object> parsed = bankMessageClient.request("계좌목록조회", Map.of());
+
+            assertEquals("{\"items\":" + data + "}", raw);
+            assertEquals(objectMapper.valueToTree(parsed), objectMapper.readTree(raw));
+            mockServer.verify();
+        }
+
+        @Test
+        @DisplayName("객체는 그대로, 기타 값은 value 로 감싸고, 데이터 영역이 없으면 빈 객체를 반환한다")
+        void shapes() {
+            assertEquals("{\"accountNo\" : \"110-234-567890\"}",
+                    raw("{\"data\": {\"accountNo\" : \"110-234-567890\"}, \"result_code\": \"0000\"}"));
+            assertEquals("{\"value\":\"급여\\n계좌\"}", raw("{\"result_code\": \"0000\", \"data\":\"급여\\n계좌\"}"));
+            assertEquals("{\"value\":12.50}", raw("{\"result_code\": \"0000\", \"data\": 12.50}"));
+            assertEquals("{}", raw("{\"result_code\": \"0000\", \"data\": null}"));
+            assertEquals("{}", raw("{\"result_code\": \"0000\"}"));
+            // UTF-8 BOM 이 있어도 오프셋은 본문 바이트 기준
+            assertEquals("{\"items\":[1]}", raw("\uFEFF{\"result_code\": \"0000\", \"data\": [1]}"));
+        }
+
+        @Test
+        @DisplayName("성공코드가 아니면 데이터 영역이 먼저 와도 ExternalSystemException 이 발생한다")
+        void error() {
+            ExternalSystemException e = assertThrows(ExternalSystemException.class,
+                    () -> raw("{\"data\": [1], \"result_code\": \"E001\", \"result_msg\": \"계좌를 찾을 수 없습니다\"}"));
+
+            assertEquals("E001", e.getErrorCode());
+            assertEquals("계좌를 찾을 수 없습니다", e.getErrorMessage());
+        }
+    }
+
+    @Nested
+    @DisplayName("격벽")
+    class BulkheadCases {
+
+        private BulkheadProperties bulkhead(int maxConcurrentCalls) {
+            BulkheadProperties properties = new BulkheadProperties();
+            properties.setMaxConcurrentCalls(maxConcurrentCalls);
+            return properties;
+        }
+
+        @Test
+        @DisplayName("거래별 설정이 있으면 시스템 격벽과 별도의 격벽을 사용한다")
+        void transactionOverride() {
+            bankProperties.setBulkhead(bulkhead(20));
+            bankProperties.getMessages().get("transfer").setBulkhead(bulkhead(2));
+            BankMessageClient client = new BankMessageClient(httpClient, bankProperties, objectMapper);
+
+            List<Bulkhead> bulkheads = client.bulkheads();
+
+            assertEquals(List.of("bank", "이체"), bulkheads.stream().map(Bulkhead::getName).toList());
+            assertEquals(2, bulkheads.get(1).getMaxConcurrentCalls());
+        }
+
+        @Test
+        @DisplayName("호출이 끝나면 격벽 허가를 반납한다")
+        void releasedAfterCall() {
+            bankProperties.setBulkhead(bulkhead(1));
+            BankMessageClient client = new BankMessageClient(httpClient, bankProperties, objectMapper);
+
+            mockServer.expect(requestTo("http://localhost:8081/api/bank/accounts"))
+                    .andRespond(withSuccess("""
+                            {"result_code": "0000", "result_msg": "성공", "data": []}
+                            """, MediaType.APPLICATION_JSON));
+            mockServer.expect(requestTo("http://localhost:8081/api/bank/accounts"))
+                    .andRespond(withServerError());
+
+            client.request("계좌목록조회", Map.of());
+            assertThrows(ExternalSystemException.class, () -> client.request("계좌목록조회", Map.of()));
+
+            assertEquals(0, client.bulkheads().get(0).getInFlight());
+            mockServer.verify();
+        }
+    }
+
+    @Nested
+    @DisplayName("재시도")
+    class RetryCases {
+
+        private RetryProperties retry() {
+            RetryProperties retry = new RetryProperties();
+            retry.setMaxAttempts(2);
+            retry.setInitialBackoff(1);
+            return retry;
+        }
+
+        @Test
+        @DisplayName("조회 거래는 서버 오류 후 재시도해 성공 응답을 반환한다")
+        void getRetried() {
+            bankProperties.getMessages().get("account-list").setRetry(retry());
+            BankMessageClient client = new BankMessageClient(httpClient, bankProperties, objectMapper);
+
+            mockServer.expect(requestTo("http://localhost:8081/api/bank/accounts"))
+                    .andRespond(withServerError());
+            mockServer.expect(requestTo("http://localhost:8081/api/bank/accounts"))
+                    .andRespond(withSuccess("""
+                            {"result_code": "0000", "result_msg": "성공", "data": [{"accountNo": "110-234-567890"}]}
+                            """, MediaType.APPLICATION_JSON));
+
+            Map<String, Object> result = client.request("계좌목록조회", Map.of());
+
+            assertEquals(1, ((List<?>) result.get("items")).size());
+            assertEquals(1, client.retries().get(0).getRetries());
+            mockServer.verify();
+        }
+
+        @Test
+        @DisplayName("이체(POST)는 재시도 설정이 있어도 기본적으로 재시도하지 않는다")
+        void postNotRetried() {
+            bankProperties.getMessages().get("transfer").setRetry(retry());
+            BankMessageClient client = new BankMessageClient(httpClient, bankProperties, objectMapper);
+
+            mockServer.expect(requestTo("http://localhost:8081/api/bank/transfer"))
+                    .andRespond(withServerError());
+
+            assertThrows(ExternalSystemException.class, () -> client.request("이체", Map.of("amount", 10000)));
+            assertTrue(client.retries().isEmpty());
+            mockServer.verify();
+        }
+    }
+
+    @Nested
+    @DisplayName("응답 캐시")
+    class CacheCases {
+
+        private static final String HISTORY_URL =
+                "http://localhost:8081/api/bank/accounts/110-234-567890/transactions?fromDate=20240101&toDate=20240131";
+
+        private BankMessageClient client;
+
+        @BeforeEach
+        void setUp() {
+            CacheProperties cache = new CacheProperties();
+            cache.setTtl(60_000);
+            bankProperties.getMessages().get("account-transactions").setCache(cache);
+            bankProperties.getMessages().get("transfer").setCache(cache);
+            client = new BankMessageClient(httpClient, bankProperties, objectMapper);
+        }
+
+        private Map<String, Object> history(String toDate) {
+            return client.request("계좌거래내역조회", Map.of(
+                    "accountNo", "110-234-567890", "fromDate", "20240101", "toDate", toDate));
+        }
+
+        @Test
+        @DisplayName("같은 URL 의 두 번째 조회는 외부 호출 없이 캐시에서 반환하고, 파라미터가 다르면 새로 조회한다")
+        void servedFromCache() {
+            mockServer.expect(requestTo(HISTORY_URL))
+                    .andRespond(withSuccess("""
+                            {"result_code": "0000", "result_msg": "성공", "data": [{"amount": -50000}]}
+                            """, MediaType.APPLICATION_JSON));
+            mockServer.expect(requestTo(containsString("toDate=20240229")))
+                    .andRespond(withSuccess("""
+                            {"result_code": "0000", "result_msg": "성공", "data": []}
+                            """, MediaType.APPLICATION_JSON));
+
+            assertEquals(1, ((List<?>) history("20240131").get("items")).size());
+            assertEquals(1, ((List<?>) history("20240131").get("items")).size());
+            assertEquals(0, ((List<?>) history("20240229").get("items")).size());
+
+            assertEquals(1, client.caches().size());
+            assertEquals(1, client.caches().get(0).getHits());
+            mockServer.verify();
+        }
+
+        @Test
+        @DisplayName("비즈니스 에러 응답은 캐시하지 않는다")
+        void errorNotCached() {
+            String error = """
+                    {"result_code": "E001", "result_msg": "계좌를 찾을 수 없습니다"}
+                    """;
+            mockServer.expect(requestTo(HISTORY_URL)).andRespond(withSuccess(error, MediaType.APPLICATION_JSON));
+            mockServer.expect(requestTo(HISTORY_URL)).andRespond(withSuccess(error, MediaType.APPLICATION_JSON));
+
+            assertThrows(ExternalSystemException.class, () -> history("20240131"));
+            assertThrows(ExternalSystemException.class, () -> history("20240131"));
+            mockServer.verify();
+        }
+
+        @Test
+        @DisplayName("무효화하면 다음 조회는 외부 시스템을 다시 호출한다")
+        void evict() {
+            String response = """
+                    {"result_code": "0000", "result_msg": "성공", "data": []}
+                    """;
+            mockServer.expect(requestTo(HISTORY_URL)).andRespond(withSuccess(response, MediaType.APPLICATION_JSON));
+            mockServer.expect(requestTo(HISTORY_URL)).andRespond(withSuccess(response, MediaType.APPLICATION_JSON));
+            mockServer.expect(requestTo(HISTORY_URL)).andRespond(withSuccess(response, MediaType.APPLICATION_JSON));
+
+            history("20240131");
+            client.evict("계좌거래내역조회", Map.of(
+                    "accountNo", "110-234-567890", "fromDate", "20240101", "toDate", "20240131"));
+            history("20240131");
+            client.evictAll("계좌거래내역조회");
+            history("20240131");
+            mockServer.verify();
+        }
+
+        @Test
+        @DisplayName("조회 중에 무효화되면 그 응답은 캐시에 남기지 않는다")
+        void evictedDuringFetch() {
+            // 조회가 진행되는 동안 이체가 끝나 캐시를 무효화한 경우
+            mockServer.expect(requestTo(HISTORY_URL)).andRespond(request -> {
+                client.evictAll("계좌거래내역조회");
+                return withSuccess("""
+                        {"result_code": "0000", "result_msg": "성공", "data": [{"amount": -50000}]}
+                        """, MediaType.APPLICATION_JSON).createResponse(request);
+            });
+            mockServer.expect(requestTo(HISTORY_URL))
+                    .andRespond(withSuccess("""
+                            {"result_code": "0000", "result_msg": "성공", "data": []}
+                            """, MediaType.APPLICATION_JSON));
+
+            assertEquals(1, ((List<?>) history("20240131").get("items")).size());
+            assertEquals(0, ((List<?>) history("20240131").get("items")).size());
+            mockServer.verify();
+        }
+
+        @Test
+        @DisplayName("softTtl 이 지난 응답은 바로 반환하고 백그라운드에서 갱신한다")
+        void staleWhileRevalidate() throws Exception {
+            bankProperties.getMessages().get("account-transactions").getCache().setSoftTtl(50);
+            client = new BankMessageClient(httpClient, bankProperties, objectMapper);
+            mockServer.expect(requestTo(HISTORY_URL))
+                    .andRespond(withSuccess("""
+                            {"result_code": "0000", "result_msg": "성공", "data": []}
+                            """, MediaType.APPLICATION_JSON));
+            mockServer.expect(requestTo(HISTORY_URL))
+                    .andRespond(withSuccess("""
+                            {"result_code": "0000", "result_msg": "성공", "data": [{"amount": -50000}]}
+                            """, MediaType.APPLICATION_JSON));
+
+            assertEquals(0, ((List<?>) history("20240131").get("items")).size());
+            Thread.sleep(60);
+
+            // stale 응답을 즉시 반환
+            assertEquals(0, ((List<?>) history("20240131").get("items")).size());
+            long deadline = System.nanoTime() + 5_000_000_000L;
+            while (((List<?>) history("20240131").get("items")).isEmpty() && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+
+            assertEquals(1, ((List<?>) history("20240131").get("items")).size());
+            mockServer.verify();
+            client.close();
+        }
+
+        @Test
+        @DisplayName("이체(POST)는 캐시 설정이 있어도 캐시하지 않는다")
+        void postNotCached() {
+            assertTrue(client.caches().stream().noneMatch(c -> c.getTransactionCode().equals("이체")));
+        }
+    }
+
     @Nested
     @DisplayName("예외 케이스")
     class ErrorCases {
 
+        @Test
+        @DisplayName("응답 본문이 최대 크기를 넘으면 RESPONSE_TOO_LARGE 로 실패한다")
+        void responseTooLarge() {
+            mockServer.expect(requestTo("http://localhost:8081/api/bank/accounts"))
+                    .andRespond(withSuccess("{}", MediaType.APPLICATION_JSON)
+                            .header(HttpHeaders.CONTENT_LENGTH, String.valueOf(ResponseBodies.MAX_DECODED_BYTES + 1L)));
+
+            ExternalSystemException e = assertThrows(ExternalSystemException.class,
+                    () -> bankMessageClient.request("계좌목록조회", Map.of()));
+
+            assertEquals("RESPONSE_TOO_LARGE", e.getErrorCode());
+        }
+
         @Test
         @DisplayName("존재하지 않는 계좌 조회 시 ExternalSystemException이 발생한다")
         void accountNotFound_throwsException() {
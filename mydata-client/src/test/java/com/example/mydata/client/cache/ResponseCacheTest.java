@@ -0,0 +1,177 @@
+package com.example.mydata.client.cache;
+
+import com.example.mydata.client.core.CacheProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ResponseCache 테스트")
+class ResponseCacheTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private CacheProperties properties(long ttl, long maxEntries, long maxWeight) {
+        CacheProperties properties = new CacheProperties();
+        properties.setTtl(ttl);
+        properties.setMaxEntries(maxEntries);
+        properties.setMaxWeight(maxWeight);
+        return properties;
+    }
+
+    private CacheProperties swr(long softTtl, long ttl) {
+        CacheProperties properties = properties(ttl, 100, 0);
+        properties.setSoftTtl(softTtl);
+        return properties;
+    }
+
+    private void advance(long millis) {
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    private static byte[] bytes(String body) {
+        return body.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String text(ResponseCache.Hit hit) {
+        return new String(hit.getBody(), StandardCharsets.UTF_8);
+    }
+
+    private ResponseCache cache(CacheProperties properties) {
+        return new ResponseCache("bank", "계좌목록조회", properties, nanos::get);
+    }
+
+    @Test
+    @DisplayName("ttl 이 지나면 항목이 만료되고 축출 수에 반영된다")
+    void expiresAfterTtl() {
+        ResponseCache cache = cache(properties(1_000, 100, 0));
+        cache.put("/a", bytes("{}"), 0, cache.epoch());
+
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(999));
+        assertEquals("{}", text(cache.get("/a")));
+
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(2));
+        assertNull(cache.get("/a"));
+        cache.cleanUp();
+        assertEquals(1, cache.getEvictions());
+        assertEquals(0.5, cache.getHitRatio());
+    }
+
+    @Test
+    @DisplayName("본문 크기 합계가 한도를 넘으면 항목을 내보낸다")
+    void boundedByWeight() {
+        ResponseCache cache = cache(properties(60_000, 0, 1_000));
+        byte[] body = bytes("x".repeat(400));
+        for (int i = 0; i < 10; i++) {
+            cache.put("/item/" + i, body, 0, cache.epoch());
+        }
+        cache.cleanUp();
+
+        assertTrue(cache.getSize() <= 2, "size=" + cache.getSize());
+        assertTrue(cache.getEvictions() >= 8);
+    }
+
+    @Test
+    @DisplayName("ttl 이 없거나 조회(GET) 거래가 아니면 캐시를 만들지 않는다")
+    void notCreated() {
+        assertNull(ResponseCache.of("bank", "계좌목록조회", null, HttpMethod.GET));
+        assertNull(ResponseCache.of("bank", "계좌목록조회", properties(0, 100, 0), HttpMethod.GET));
+        assertNull(ResponseCache.of("bank", "이체", properties(1_000, 100, 0), HttpMethod.POST));
+        assertNotNull(ResponseCache.of("bank", "계좌목록조회", properties(1_000, 100, 0), HttpMethod.GET));
+    }
+
+    @Test
+    @DisplayName("softTtl 이 지나면 stale 응답을 반환하고 갱신은 한 호출자에게만 맡긴다")
+    void staleWhileRevalidate() {
+        ResponseCache cache = cache(swr(1_000, 10_000));
+        cache.put("/a", bytes("old"), 0, cache.epoch());
+
+        assertFalse(cache.get("/a").isRefresh());
+        advance(1_000);
+
+        ResponseCache.Hit first = cache.get("/a");
+        ResponseCache.Hit second = cache.get("/a");
+        assertEquals("old", text(first));
+        assertTrue(first.isRefresh());
+        assertFalse(second.isRefresh());
+        assertEquals(2, cache.getStaleHits());
+
+        cache.refreshed("/a", first, bytes("new"), 0);
+        ResponseCache.Hit refreshed = cache.get("/a");
+        assertEquals("new", text(refreshed));
+        assertFalse(refreshed.isRefresh());
+    }
+
+    @Test
+    @DisplayName("갱신 중 무효화된 항목은 갱신 결과로 되살리지 않는다")
+    void evictedDuringRefresh() {
+        ResponseCache cache = cache(swr(1_000, 10_000));
+        cache.put("/a", bytes("old"), 0, cache.epoch());
+        advance(1_000);
+        ResponseCache.Hit hit = cache.get("/a");
+
+        cache.evict("/a");
+        cache.refreshed("/a", hit, bytes("new"), 0);
+
+        assertNull(cache.get("/a"));
+    }
+
+    @Test
+    @DisplayName("조회 중 무효화되었으면 조회 결과를 저장하지 않는다")
+    void evictedDuringFetch() {
+        ResponseCache cache = cache(properties(30_000, 100, 0));
+        long epoch = cache.epoch();
+
+        cache.evictAll();
+        cache.put("/a", bytes("old"), 0, epoch);
+        cache.put("/b", bytes("new"), 0, cache.epoch());
+
+        assertNull(cache.get("/a"));
+        assertEquals("new", text(cache.get("/b")));
+    }
+
+    @Test
+    @DisplayName("갱신이 실패하면 다음 호출이 다시 갱신을 맡는다")
+    void refreshAbandoned() {
+        ResponseCache cache = cache(swr(1_000, 10_000));
+        cache.put("/a", bytes("old"), 0, cache.epoch());
+        advance(1_000);
+        assertTrue(cache.get("/a").isRefresh());
+
+        cache.refreshAbandoned("/a");
+
+        assertTrue(cache.get("/a").isRefresh());
+        assertEquals(1, cache.getRefreshFailures());
+    }
+
+    @Test
+    @DisplayName("조기 갱신은 만료가 가까울수록, 조회가 오래 걸린 항목일수록 자주 일어난다")
+    void earlyRefresh() {
+        CacheProperties properties = properties(10_000, 100, 0);
+        properties.setEarlyRefreshBeta(1.0);
+        ResponseCache cache = cache(properties);
+
+        // 조회에 1초 걸린 항목: 만료 9.9초 시점에는 대부분 조기 갱신, 1초 시점에는 거의 없음
+        cache.put("/slow", bytes("{}"), TimeUnit.SECONDS.toNanos(1), cache.epoch());
+        advance(1_000);
+        assertTrue(earlyRefreshCount(cache, "/slow") < 5);
+        advance(8_900);
+        assertTrue(earlyRefreshCount(cache, "/slow") > 70);
+    }
+
+    private int earlyRefreshCount(ResponseCache cache, String url) {
+        int count = 0;
+        for (int i = 0; i < 100; i++) {
+            if (cache.get(url).isRefresh()) {
+                count++;
+                cache.refreshAbandoned(url);
+            }
+        }
+        return count;
+    }
+}
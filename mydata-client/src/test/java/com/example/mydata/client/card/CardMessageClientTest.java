@@ -4,6 +4,7 @@ import com.example.mydata.client.core.ExternalSystemException;
 import com.example.mydata.client.core.GenericHttpClient;
 import com.example.mydata.client.core.MessageSpecProperties;
 import com.example.mydata.client.core.SystemProperties;
+import com.example.mydata.dto.ScheduledPayment;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -130,6 +131,69 @@ class CardMessageClientTest {
         }
     }
 
+    @Nested
+    @DisplayName("타입 바인딩")
+    class TypedBindingCases {
+
+        @Test
+        @DisplayName("결제예정금액조회 - 중첩 상세 목록까지 record로 바인딩된다")
+        void getScheduledPayment_boundToRecord() {
+            String response = """
+                    {
+                        "status": "SUCCESS",
+                        "message": "처리완료",
+                        "payload": {
+                            "cardNo": "1234-5678-9012-3456",
+                            "paymentDate": "20240415",
+                            "totalAmount": 650000,
+                            "details": [
+                                {"merchantName": "쿠팡", "transactionDate": "20240301", "amount": 150000, "installmentMonth": 1, "totalInstallments": 1},
+                                {"merchantName": "하이마트", "transactionDate": "20240215", "amount": 500000, "installmentMonth": 2, "totalInstallments": 3, "extra": "무시"}
+                            ]
+                        }
+                    }
+                    """;
+
+            mockServer.expect(requestTo("http://localhost:8082/api/card/cards/1234-5678-9012-3456/scheduled-payments"))
+                    .andRespond(withSuccess(response, MediaType.APPLICATION_JSON));
+
+            ScheduledPayment payment = cardMessageClient.request("결제예정금액조회", Map.of(
+                    "cardNo", "1234-5678-9012-3456"
+            ), ScheduledPayment.class);
+
+            assertEquals("1234-5678-9012-3456", payment.cardNo());
+            assertEquals(650000L, payment.totalAmount());
+            assertEquals(2, payment.details().size());
+            assertEquals("하이마트", payment.details().get(1).merchantName());
+            assertEquals(3, payment.details().get(1).totalInstallments());
+
+            mockServer.verify();
+        }
+
+        @Test
+        @DisplayName("타입 바인딩에서도 비즈니스 에러는 ExternalSystemException이 발생한다")
+        void typedBinding_businessError() {
+            String response = """
+                    {
+                        "status": "FAIL",
+                        "message": "카드를 찾을 수 없습니다",
+                        "error_code": "CARD_NOT_FOUND"
+                    }
+                    """;
+
+            mockServer.expect(requestTo("http://localhost:8082/api/card/cards/9999-9999-9999-9999/scheduled-payments"))
+                    .andRespond(withSuccess(response, MediaType.APPLICATION_JSON));
+
+            ExternalSystemException exception = assertThrows(ExternalSystemException.class, () ->
+                    cardMessageClient.request("결제예정금액조회", Map.of(
+                            "cardNo", "9999-9999-9999-9999"
+                    ), ScheduledPayment.class)
+            );
+
+            assertEquals("FAIL", exception.getErrorCode());
+        }
+    }
+
     @Nested
     @DisplayName("예외 케이스")
     class ErrorCases {
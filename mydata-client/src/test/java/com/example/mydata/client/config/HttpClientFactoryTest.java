@@ -0,0 +1,120 @@
+package com.example.mydata.client.config;
+
+import com.example.mydata.client.core.ExternalSystemException;
+import com.example.mydata.client.core.GenericHttpClient;
+import com.example.mydata.client.core.SystemProperties;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("HttpClientFactory 시스템별 커넥션 풀 테스트")
+class HttpClientFactoryTest {
+
+    private HttpServer server;
+    private HttpClientFactory factory;
+    private String baseUrl;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        respond("/fast", 0);
+        respond("/slow", 3_000);
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        factory = new HttpClientFactory();
+    }
+
+    @AfterEach
+    void tearDown() {
+        factory.destroy();
+        server.stop(0);
+    }
+
+    private void respond(String path, long delayMs) {
+        server.createContext(path, exchange -> {
+            try {
+                Thread.sleep(delayMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] bytes = "{}".getBytes(StandardCharsets.UTF_8);
+            try {
+                exchange.sendResponseHeaders(200, bytes.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(bytes);
+                }
+            } catch (IOException ignored) {
+                // 클라이언트가 타임아웃으로 연결을 끊은 경우
+            }
+        });
+    }
+
+    private SystemProperties system(int readTimeout, int maxTotal, int acquireTimeout) {
+        SystemProperties properties = new SystemProperties();
+        properties.setReadTimeout(readTimeout);
+        properties.getPool().setMaxTotal(maxTotal);
+        properties.getPool().setMaxPerRoute(maxTotal);
+        properties.getPool().setAcquireTimeout(acquireTimeout);
+        return properties;
+    }
+
+    @Test
+    @DisplayName("시스템별 readTimeout 이 동기 호출에 적용된다")
+    void readTimeout_sync() {
+        GenericHttpClient client = factory.create("giro", system(200, 10, 3000));
+
+        long start = System.nanoTime();
+        ExternalSystemException e = assertThrows(ExternalSystemException.class,
+                () -> client.execute(baseUrl + "/slow", HttpMethod.GET, null));
+
+        assertEquals("CONNECTION_ERROR", e.getErrorCode());
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 2_000);
+    }
+
+    @Test
+    @DisplayName("시스템별 readTimeout 이 비동기 호출에 적용된다")
+    void readTimeout_async() {
+        GenericHttpClient client = factory.create("giro", system(200, 10, 3000));
+
+        CompletableFuture<byte[]> future = client.executeAsync(baseUrl + "/slow", HttpMethod.GET, null);
+
+        // IO reactor 는 select 주기(1초) 단위로 타임아웃을 검사한다
+        ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(2, TimeUnit.SECONDS));
+        assertEquals("CONNECTION_ERROR", assertInstanceOf(ExternalSystemException.class, e.getCause()).getErrorCode());
+    }
+
+    @Test
+    @DisplayName("한 시스템의 풀이 고갈되어도 다른 시스템의 호출은 영향받지 않는다")
+    void poolIsolation() throws Exception {
+        GenericHttpClient giro = factory.create("giro", system(5_000, 1, 100));
+        GenericHttpClient bank = factory.create("bank", system(5_000, 1, 100));
+
+        CompletableFuture<byte[]> slow = CompletableFuture.supplyAsync(
+                () -> giro.execute(baseUrl + "/slow", HttpMethod.GET, null));
+        Thread.sleep(200);
+
+        // giro 풀은 유일한 커넥션이 점유되어 대기시간 초과
+        ExternalSystemException e = assertThrows(ExternalSystemException.class,
+                () -> giro.execute(baseUrl + "/fast", HttpMethod.GET, null));
+        assertEquals("CONNECTION_ERROR", e.getErrorCode());
+
+        // bank 는 별도 풀이므로 즉시 응답
+        assertArrayEquals("{}".getBytes(), bank.execute(baseUrl + "/fast", HttpMethod.GET, null));
+        assertArrayEquals("{}".getBytes(), slow.get(5, TimeUnit.SECONDS));
+    }
+}
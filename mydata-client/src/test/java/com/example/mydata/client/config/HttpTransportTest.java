@@ -0,0 +1,226 @@
+package com.example.mydata.client.config;
+
+import com.example.mydata.client.core.ExternalSystemException;
+import com.example.mydata.client.core.GenericHttpClient;
+import com.example.mydata.client.core.SystemProperties;
+import com.example.mydata.client.core.TransportType;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.Compression;
+import org.springframework.boot.web.server.Http2;
+import org.springframework.boot.web.server.WebServer;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("전송 방식별(HTTP/1.1, h2c) 송수신 테스트")
+class HttpTransportTest {
+
+    private WebServer server;
+    private HttpClientFactory factory;
+    private String baseUrl;
+
+    @BeforeEach
+    void setUp() {
+        // 평문 HTTP/2(h2c) 를 허용하는 Tomcat. 응답에 요청 프로토콜과 본문을 그대로 돌려준다
+        TomcatServletWebServerFactory serverFactory = new TomcatServletWebServerFactory(0);
+        Http2 http2 = new Http2();
+        http2.setEnabled(true);
+        serverFactory.setHttp2(http2);
+        Compression compression = new Compression();
+        compression.setEnabled(true);
+        compression.setMinResponseSize(DataSize.ofKilobytes(1));
+        serverFactory.setCompression(compression);
+        server = serverFactory.getWebServer(context -> context.addServlet("echo", new EchoServlet()).addMapping("/*"));
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getPort();
+        factory = new HttpClientFactory();
+    }
+
+    @AfterEach
+    void tearDown() {
+        factory.destroy();
+        server.stop();
+    }
+
+    private GenericHttpClient client(TransportType transport, boolean http2) {
+        return client(transport, http2, false);
+    }
+
+    private GenericHttpClient client(TransportType transport, boolean http2, boolean compression) {
+        SystemProperties properties = new SystemProperties();
+        properties.setTransport(transport);
+        properties.setHttp2(http2);
+        properties.setCompression(compression);
+        return factory.create(transport.name().toLowerCase(), properties);
+    }
+
+    @Test
+    @DisplayName("apache-classic 은 HTTP/1.1 로 동기 호출하고 비동기 호출도 처리한다")
+    void apacheClassic() throws Exception {
+        GenericHttpClient client = client(TransportType.APACHE_CLASSIC, false);
+
+        assertEquals("HTTP/1.1 GET ", text(client.execute(baseUrl + "/echo", HttpMethod.GET, null)));
+        assertEquals("HTTP/1.1 POST {\"amount\":1}", text(client.executeAsync(baseUrl + "/echo", HttpMethod.POST,
+                "{\"amount\":1}".getBytes(StandardCharsets.UTF_8)).get(5, TimeUnit.SECONDS)));
+    }
+
+    @Test
+    @DisplayName("apache-async + http2 는 h2c 로 동기/비동기 호출을 다중화한다")
+    void apacheAsyncHttp2() throws Exception {
+        GenericHttpClient client = client(TransportType.APACHE_ASYNC, true);
+
+        assertEquals("HTTP/2.0 GET ", text(client.execute(baseUrl + "/echo", HttpMethod.GET, null)));
+        assertConcurrentCalls(client, "HTTP/2.0");
+    }
+
+    @Test
+    @DisplayName("jdk + http2 는 h2c 업그레이드 후 HTTP/2 로 호출한다")
+    void jdkHttp2() throws Exception {
+        GenericHttpClient client = client(TransportType.JDK, true);
+
+        // 첫 요청에서 업그레이드를 협상하고 이후 요청은 HTTP/2 커넥션을 쓴다
+        client.execute(baseUrl + "/echo", HttpMethod.GET, null);
+        assertEquals("HTTP/2.0 GET ", text(client.execute(baseUrl + "/echo", HttpMethod.GET, null)));
+        assertConcurrentCalls(client, "HTTP/2.0");
+    }
+
+    @Test
+    @DisplayName("jdk 전송도 HTTP/1.1 로 동작한다")
+    void jdkHttp1() {
+        GenericHttpClient client = client(TransportType.JDK, false);
+
+        assertEquals("HTTP/1.1 POST {\"amount\":1}", text(client.execute(baseUrl + "/echo", HttpMethod.POST,
+                "{\"amount\":1}".getBytes(StandardCharsets.UTF_8))));
+    }
+
+    @Test
+    @DisplayName("전송 방식과 무관하게 HTTP 상태는 같은 에러코드로 매핑된다")
+    void errorMapping() {
+        for (TransportType transport : TransportType.values()) {
+            GenericHttpClient client = client(transport, transport != TransportType.APACHE_CLASSIC);
+
+            ExternalSystemException notFound = assertThrows(ExternalSystemException.class,
+                    () -> client.execute(baseUrl + "/status/404", HttpMethod.GET, null));
+            ExecutionException serverError = assertThrows(ExecutionException.class,
+                    () -> client.executeAsync(baseUrl + "/status/500", HttpMethod.GET, null).get(5, TimeUnit.SECONDS));
+
+            assertEquals("NOT_FOUND", notFound.getErrorCode(), transport.name());
+            assertEquals("SERVER_ERROR",
+                    assertInstanceOf(ExternalSystemException.class, serverError.getCause()).getErrorCode(),
+                    transport.name());
+        }
+    }
+
+    @Test
+    @DisplayName("압축이 깨진 오류 응답도 연결 오류가 아닌 HTTP 상태로 매핑된다")
+    void corruptErrorBody() {
+        for (TransportType transport : List.of(TransportType.APACHE_ASYNC, TransportType.JDK)) {
+            GenericHttpClient client = client(transport, false, true);
+
+            ExternalSystemException e = assertThrows(ExternalSystemException.class,
+                    () -> client.execute(baseUrl + "/corrupt", HttpMethod.GET, null));
+
+            assertEquals("SERVER_ERROR", e.getErrorCode(), transport.name());
+        }
+    }
+
+    @Test
+    @DisplayName("UTF-8 이 아닌 charset 응답은 전송 방식과 무관하게 UTF-8 바이트로 바뀐다")
+    void legacyCharset() {
+        for (TransportType transport : TransportType.values()) {
+            GenericHttpClient client = client(transport, false);
+
+            assertEquals("{\"name\":\"급여계좌\"}", text(client.execute(baseUrl + "/euc-kr", HttpMethod.GET, null)),
+                    transport.name());
+        }
+    }
+
+    @Test
+    @DisplayName("compression 이 켜지면 gzip 을 협상하고 압축된 응답을 풀어 돌려준다")
+    void compression() throws Exception {
+        for (TransportType transport : TransportType.values()) {
+            GenericHttpClient compressed = client(transport, false, true);
+            GenericHttpClient plain = client(transport, false, false);
+
+            String sync = text(compressed.execute(baseUrl + "/large", HttpMethod.GET, null));
+            String async = text(compressed.executeAsync(baseUrl + "/large", HttpMethod.GET, null).get(5, TimeUnit.SECONDS));
+            String uncompressed = text(plain.execute(baseUrl + "/large", HttpMethod.GET, null));
+
+            assertTrue(sync.startsWith("gzip") && sync.endsWith("급여이체 입금"), transport.name());
+            assertEquals(sync, async, transport.name());
+            assertTrue(uncompressed.startsWith("none"), transport.name());
+            assertEquals(sync.length() - "gzip".length(), uncompressed.length() - "none".length(), transport.name());
+        }
+    }
+
+    private static String text(byte[] body) {
+        return new String(body, StandardCharsets.UTF_8);
+    }
+
+    private void assertConcurrentCalls(GenericHttpClient client, String protocol) throws Exception {
+        List<CompletableFuture<byte[]>> futures = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            futures.add(client.executeAsync(baseUrl + "/echo?delay=100", HttpMethod.GET, null));
+        }
+        for (CompletableFuture<byte[]> future : futures) {
+            assertEquals(protocol + " GET ", text(future.get(5, TimeUnit.SECONDS)));
+        }
+    }
+
+    private static class EchoServlet extends HttpServlet {
+
+        @Override
+        protected void service(HttpServletRequest request, HttpServletResponse response) throws IOException {
+            if (request.getRequestURI().startsWith("/status/")) {
+                response.sendError(Integer.parseInt(request.getRequestURI().substring("/status/".length())));
+                return;
+            }
+            if (request.getRequestURI().equals("/corrupt")) {
+                response.setStatus(503);
+                response.setHeader("Content-Encoding", "gzip");
+                response.getOutputStream().write("not gzip".getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            if (request.getRequestURI().equals("/euc-kr")) {
+                response.setContentType("application/json;charset=EUC-KR");
+                response.getOutputStream().write("{\"name\":\"급여계좌\"}".getBytes("EUC-KR"));
+                return;
+            }
+            if (request.getRequestURI().equals("/large")) {
+                // 요청의 Accept-Encoding 과 압축 임계값을 넘는 본문
+                String acceptEncoding = request.getHeader("Accept-Encoding");
+                response.setContentType("application/json;charset=UTF-8");
+                response.getWriter().write((acceptEncoding != null && acceptEncoding.contains("gzip") ? "gzip" : "none")
+                        + " 급여이체 입금".repeat(500));
+                return;
+            }
+            String delay = request.getParameter("delay");
+            if (delay != null) {
+                try {
+                    Thread.sleep(Long.parseLong(delay));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            String body = new String(request.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            response.setContentType("application/json;charset=UTF-8");
+            response.getWriter().write(request.getProtocol() + " " + request.getMethod() + " " + body);
+        }
+    }
+}
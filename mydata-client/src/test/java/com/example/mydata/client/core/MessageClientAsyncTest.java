@@ -0,0 +1,193 @@
+package com.example.mydata.client.core;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MessageClient 비동기 요청 테스트")
+class MessageClientAsyncTest {
+
+    private HttpServer server;
+    private CloseableHttpAsyncClient asyncClient;
+    private MessageClient messageClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        respond("/api/bank/accounts", 200, """
+                {"result_code": "0000", "result_msg": "성공", "data": [{"accountNo": "110-234-567890", "accountName": "급여계좌"}]}
+                """);
+        respond("/api/bank/transfer", 200, """
+                {"result_code": "E002", "result_msg": "이체한도를 초과하였습니다"}
+                """);
+        respond("/api/bank/missing", 404, "");
+        respond("/api/bank/broken", 500, "{}");
+        // 첫 요청만 멈춘 커넥션처럼 지연시키고 이후 요청은 즉시 응답
+        AtomicInteger stalledCalls = new AtomicInteger();
+        server.createContext("/api/bank/stalled", exchange -> {
+            if (stalledCalls.incrementAndGet() == 1) {
+                sleep(2_000);
+            }
+            byte[] bytes = """
+                    {"result_code": "0000", "result_msg": "성공", "data": {"balance": 1500000}}
+                    """.getBytes(StandardCharsets.UTF_8);
+            try {
+                exchange.sendResponseHeaders(200, bytes.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(bytes);
+                }
+            } catch (IOException ignored) {
+                // 헤지가 이겨 취소된 요청
+            }
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        asyncClient = HttpAsyncClients.createDefault();
+        asyncClient.start();
+        GenericHttpClient httpClient = new GenericHttpClient(RestClient.create(), asyncClient);
+
+        SystemProperties properties = new SystemProperties();
+        properties.setBaseUrl("http://127.0.0.1:" + server.getAddress().getPort());
+        properties.setSuccessCodeField("result_code");
+        properties.setSuccessCodeValue("0000");
+        properties.setErrorMessageField("result_msg");
+        properties.setDataField("data");
+        properties.setMessages(Map.of(
+                "account-list", spec("계좌목록조회", "GET", "/api/bank/accounts"),
+                "transfer", spec("이체", "POST", "/api/bank/transfer"),
+                "missing", spec("없는자원", "GET", "/api/bank/missing"),
+                "broken", spec("장애", "GET", "/api/bank/broken"),
+                "stalled", hedged(spec("잔액조회", "GET", "/api/bank/stalled"))
+        ));
+
+        messageClient = new MessageClient(httpClient, properties, new ObjectMapper()) {
+        };
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        asyncClient.close();
+        server.stop(0);
+    }
+
+    private MessageSpecProperties spec(String transactionCode, String method, String path) {
+        MessageSpecProperties spec = new MessageSpecProperties();
+        spec.setTransactionCode(transactionCode);
+        spec.setMethod(method);
+        spec.setPath(path);
+        return spec;
+    }
+
+    private MessageSpecProperties hedged(MessageSpecProperties spec) {
+        HedgeProperties hedge = new HedgeProperties();
+        hedge.setEnabled(true);
+        hedge.setInitialDelay(100);
+        spec.setHedge(hedge);
+        return spec;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void respond(String path, int status, String body) {
+        server.createContext(path, exchange -> {
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getRequestBody().readAllBytes();
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            if (status >= 400) {
+                // 오류 응답 뒤 커넥션 재사용이 서버의 종료와 겹쳐 CONNECTION_ERROR 가 되지 않도록
+                exchange.getResponseHeaders().add("Connection", "close");
+            }
+            exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+    }
+
+    private ExternalSystemException failure(CompletableFuture<?> future) {
+        ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        return assertInstanceOf(ExternalSystemException.class, e.getCause());
+    }
+
+    @Test
+    @DisplayName("정상 응답 시 데이터 영역을 비동기로 반환한다")
+    void success() throws Exception {
+        Map<String, Object> result = messageClient.requestAsync("계좌목록조회", Map.of()).get(5, TimeUnit.SECONDS);
+
+        List<?> items = (List<?>) result.get("items");
+        assertEquals(1, items.size());
+        assertEquals("급여계좌", ((Map<?, ?>) items.get(0)).get("accountName"));
+    }
+
+    @Test
+    @DisplayName("비즈니스 에러는 외부 코드 그대로 ExternalSystemException으로 완료된다")
+    void businessError() {
+        ExternalSystemException e = failure(messageClient.requestAsync("이체", Map.of("amount", 50_000_000)));
+
+        assertEquals("E002", e.getErrorCode());
+        assertEquals("이체한도를 초과하였습니다", e.getErrorMessage());
+    }
+
+    @Test
+    @DisplayName("404/500 응답은 동기 호출과 같은 에러코드로 매핑된다")
+    void httpErrors() {
+        assertEquals("NOT_FOUND", failure(messageClient.requestAsync("없는자원", Map.of())).getErrorCode());
+        assertEquals("SERVER_ERROR", failure(messageClient.requestAsync("장애", Map.of())).getErrorCode());
+    }
+
+    @Test
+    @DisplayName("연결 실패 시 CONNECTION_ERROR로 완료된다")
+    void connectionError() {
+        server.stop(0);
+
+        assertEquals("CONNECTION_ERROR", failure(messageClient.requestAsync("계좌목록조회", Map.of())).getErrorCode());
+    }
+
+    @Test
+    @DisplayName("헤지 거래는 멈춘 요청을 기다리지 않고 다른 커넥션의 응답을 쓴다")
+    void hedgedRequest() throws Exception {
+        long start = System.nanoTime();
+        Map<String, Object> result = messageClient.requestAsync("잔액조회", Map.of()).get(5, TimeUnit.SECONDS);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertEquals(1500000, result.get("balance"));
+        assertTrue(elapsedMs < 1_000, "elapsed=" + elapsedMs);
+        assertEquals(1, messageClient.hedges().get(0).getHedgeWins());
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 거래코드는 IllegalArgumentException으로 완료된다")
+    void unknownTransactionCode() {
+        CompletableFuture<Map<String, Object>> future = messageClient.requestAsync("없는거래코드", Map.of());
+
+        ExecutionException e = assertThrows(ExecutionException.class, future::get);
+        assertInstanceOf(IllegalArgumentException.class, e.getCause());
+    }
+}
@@ -0,0 +1,282 @@
+package com.example.mydata.client.core;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MessageClient 페이지 스트림 테스트")
+class MessageClientStreamTest {
+
+    private static final int TOTAL = 2_500;
+
+    private HttpServer server;
+    private CloseableHttpAsyncClient asyncClient;
+    private MessageClient messageClient;
+    private final Queue<String> queries = new ConcurrentLinkedQueue<>();
+    private volatile long pageDelayMillis;
+
+    record Transaction(String transactionId, long amount) {
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        // cursor 는 다음 항목 위치, size 가 없으면 100건
+        server.createContext("/api/bank/accounts", exchange -> {
+            queries.add(String.valueOf(exchange.getRequestURI().getRawQuery()));
+            Map<String, String> query = query(exchange);
+            sleep(pageDelayMillis);
+            int from = Integer.parseInt(query.getOrDefault("cursor", "0"));
+            int size = Integer.parseInt(query.getOrDefault("size", "100"));
+            if ("broken".equals(query.get("accountNo")) && from > 0) {
+                respond(exchange, "{\"result_code\": \"E009\", \"result_msg\": \"조회 한도를 초과하였습니다\"}");
+                return;
+            }
+            int to = Math.min(TOTAL, from + size);
+            StringBuilder body = new StringBuilder("{\"result_code\": \"0000\", \"result_msg\": \"성공\", \"data\": [");
+            for (int i = from; i < to; i++) {
+                body.append(i > from ? "," : "").append("{\"tx_id\": \"T").append(i).append("\", \"amt\": ").append(i).append('}');
+            }
+            body.append("], \"next_cursor\": ").append(to < TOTAL ? "\"" + to + "\"" : "null").append('}');
+            respond(exchange, body.toString());
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        asyncClient = HttpAsyncClients.createDefault();
+        asyncClient.start();
+        messageClient = client(1_000);
+    }
+
+    private MessageClient client(int pageSize) {
+        SystemProperties properties = new SystemProperties();
+        properties.setBaseUrl("http://127.0.0.1:" + server.getAddress().getPort());
+        properties.setSuccessCodeField("result_code");
+        properties.setSuccessCodeValue("0000");
+        properties.setErrorMessageField("result_msg");
+        properties.setDataField("data");
+
+        MessageSpecProperties paged = new MessageSpecProperties();
+        paged.setTransactionCode("거래내역조회");
+        paged.setPath("/api/bank/accounts");
+        paged.setQueryParams(Map.of("accountNo", "accountNo"));
+        paged.setResponseMapping(Map.of("tx_id", "transactionId", "amt", "amount"));
+        PaginationProperties pagination = new PaginationProperties();
+        pagination.setCursorField("next_cursor");
+        pagination.setCursorParam("cursor");
+        pagination.setSizeParam("size");
+        pagination.setPageSize(pageSize);
+        paged.setPagination(pagination);
+
+        MessageSpecProperties single = new MessageSpecProperties();
+        single.setTransactionCode("계좌목록조회");
+        single.setPath("/api/bank/accounts");
+        properties.setMessages(Map.of("transactions", paged, "account-list", single));
+
+        return new MessageClient(new GenericHttpClient(RestClient.create(), asyncClient), properties, new ObjectMapper()) {
+        };
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        asyncClient.close();
+        server.stop(0);
+    }
+
+    private static Map<String, String> query(HttpExchange exchange) {
+        Map<String, String> query = new HashMap<>();
+        String raw = exchange.getRequestURI().getQuery();
+        if (raw != null) {
+            for (String pair : raw.split("&")) {
+                String[] kv = pair.split("=", 2);
+                query.put(kv[0], kv.length > 1 ? kv[1] : "");
+            }
+        }
+        return query;
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private void awaitQueries(int expected) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (queries.size() < expected && System.nanoTime() < deadline) {
+            sleep(5);
+        }
+        assertEquals(expected, queries.size());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    @DisplayName("커서를 따라 모든 페이지의 항목을 매핑해 순서대로 돌려준다")
+    void allPages() {
+        List<Map<String, Object>> items;
+        try (Stream<Map<String, Object>> stream = messageClient.stream("거래내역조회", Map.of("accountNo", "110"))) {
+            items = stream.toList();
+        }
+
+        assertEquals(TOTAL, items.size());
+        for (int i = 0; i < TOTAL; i++) {
+            assertEquals("T" + i, items.get(i).get("transactionId"));
+            assertEquals(i, items.get(i).get("amount"));
+        }
+        assertEquals(List.of("accountNo=110&size=1000", "accountNo=110&size=1000&cursor=1000",
+                "accountNo=110&size=1000&cursor=2000"), List.copyOf(queries));
+    }
+
+    @Test
+    @DisplayName("항목 타입을 지정하면 각 항목을 record 로 바인딩한다")
+    void typedItems() {
+        try (Stream<Transaction> stream = messageClient.stream("거래내역조회", Map.of(), Transaction.class)) {
+            assertEquals(TOTAL * (TOTAL - 1L) / 2, stream.mapToLong(Transaction::amount).sum());
+        }
+    }
+
+    @Test
+    @DisplayName("소비한 만큼만 요청하고 다음 페이지 하나만 미리 받으며, 닫으면 남은 페이지를 요청하지 않는다")
+    void lazyAndBounded() {
+        MessageClient client = client(100);
+
+        try (Stream<Map<String, Object>> stream = client.stream("거래내역조회", Map.of())) {
+            assertTrue(queries.isEmpty());
+
+            Iterator<Map<String, Object>> items = stream.iterator();
+            for (int i = 0; i < 150; i++) {
+                items.next();
+            }
+            // 1, 2페이지 + 미리 받는 3페이지
+            awaitQueries(3);
+        }
+        sleep(100);
+        assertEquals(3, queries.size());
+    }
+
+    @Test
+    @DisplayName("현재 페이지를 처리하는 동안 다음 페이지를 받아 두어 응답 대기와 처리가 겹친다")
+    void prefetchOverlapsConsumption() {
+        pageDelayMillis = 200;
+        long start = System.nanoTime();
+
+        long count;
+        try (Stream<Map<String, Object>> stream = client(500).stream("거래내역조회", Map.of())) {
+            // 페이지(500건)마다 200ms 처리: 순차라면 5 x (200 + 200) = 2000ms, 겹치면 약 1200ms
+            count = stream.peek(item -> {
+                if (((Number) item.get("amount")).intValue() % 500 == 0) {
+                    sleep(200);
+                }
+            }).count();
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertEquals(TOTAL, count);
+        assertTrue(elapsedMs < 1_600, "elapsed=" + elapsedMs);
+    }
+
+    @Test
+    @DisplayName("중간 페이지의 비즈니스 에러는 그 페이지에 도달할 때 외부 코드 그대로 던진다")
+    void errorOnLaterPage() {
+        try (Stream<Map<String, Object>> stream = messageClient.stream("거래내역조회", Map.of("accountNo", "broken"))) {
+            Iterator<Map<String, Object>> items = stream.iterator();
+            for (int i = 0; i < 1_000; i++) {
+                items.next();
+            }
+
+            ExternalSystemException e = assertThrows(ExternalSystemException.class, items::hasNext);
+            assertEquals("E009", e.getErrorCode());
+        }
+    }
+
+    @Test
+    @DisplayName("페이지 설정이 없는 거래는 단일 응답의 항목만 읽고, 등록되지 않은 거래코드는 IllegalArgumentException")
+    void notPaginated() {
+        try (Stream<Map<String, Object>> items = messageClient.stream("계좌목록조회", Map.of())) {
+            List<Map<String, Object>> list = items.toList();
+
+            assertEquals(100, list.size());
+            assertEquals("T99", list.get(99).get("tx_id"));
+        }
+        assertEquals(List.of("null"), List.copyOf(queries));
+        assertThrows(IllegalArgumentException.class, () -> messageClient.stream("없는거래코드", Map.of()));
+    }
+
+    @Test
+    @DisplayName("A→B→A 처럼 이미 받은 커서가 다시 오면 받은 페이지까지만 내보내고 ExternalSystemException 으로 끝낸다")
+    void cursorCycle() {
+        Map<String, String> nextCursors = Map.of("first", "A", "A", "B", "B", "A");
+        List<String> fetched = new ArrayList<>();
+        PageIterator<String> pages = new PageIterator<>(
+                cursor -> {
+                    fetched.add(String.valueOf(cursor));
+                    return CompletableFuture.completedFuture((cursor == null ? "first" : cursor).getBytes(StandardCharsets.UTF_8));
+                },
+                body -> {
+                    String page = new String(body, StandardCharsets.UTF_8);
+                    return new EnvelopeParser.Page<>(List.of(page).iterator(), nextCursors.get(page));
+                },
+                100);
+
+        assertEquals("first", pages.next());
+        assertEquals("A", pages.next());
+        assertEquals("B", pages.next());
+        ExternalSystemException e = assertThrows(ExternalSystemException.class, pages::next);
+
+        assertEquals("PARSE_ERROR", e.getErrorCode());
+        assertEquals(List.of("null", "A", "B"), fetched);
+    }
+
+    @Test
+    @DisplayName("커서가 계속 새로 와도 최대 페이지 수를 넘으면 ExternalSystemException 으로 끝낸다")
+    void maxPages() {
+        PageIterator<Integer> pages = new PageIterator<>(
+                cursor -> CompletableFuture.completedFuture(String.valueOf(cursor == null ? 0 : Integer.parseInt(cursor))
+                        .getBytes(StandardCharsets.UTF_8)),
+                body -> {
+                    int page = Integer.parseInt(new String(body, StandardCharsets.UTF_8));
+                    return new EnvelopeParser.Page<>(List.of(page).iterator(), String.valueOf(page + 1));
+                },
+                3);
+
+        assertEquals(0, pages.next());
+        assertEquals(1, pages.next());
+        assertEquals(2, pages.next());
+        assertThrows(ExternalSystemException.class, pages::next);
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.mydata.client.core;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RequestBodyWriter 테스트")
+class RequestBodyWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private String write(Map<String, String> bodyFields, Map<String, Object> params) {
+        return new String(new RequestBodyWriter(bodyFields, objectMapper).write(params), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("bodyFields 순서대로 외부 필드명으로 쓰고 값이 없는 필드는 생략한다")
+    void mappedFields() {
+        LinkedHashMap<String, String> bodyFields = new LinkedHashMap<>();
+        bodyFields.put("bill_no", "billNo");
+        bodyFields.put("pay_amt", "amount");
+        bodyFields.put("memo", "memo");
+
+        String body = write(bodyFields, Map.of("amount", 125_000, "billNo", "GR-2024-001", "unused", "x"));
+
+        assertEquals("{\"bill_no\":\"GR-2024-001\",\"pay_amt\":125000}", body);
+    }
+
+    @Test
+    @DisplayName("bodyFields 가 없으면 요청 파라미터 전체를 본문으로 쓴다")
+    void allParams() throws Exception {
+        Map<String, Object> params = new HashMap<>();
+        params.put("fromAccount", "110-234-567890");
+        params.put("amount", 50_000);
+        params.put("memo", null);
+
+        String body = write(Map.of(), params);
+
+        assertEquals(params, objectMapper.readValue(body, Map.class));
+    }
+
+    @Test
+    @DisplayName("단순 값 외의 타입은 ObjectMapper 직렬화 규칙을 따른다")
+    void complexValues() {
+        String body = write(Map.of("items", "items"),
+                Map.of("items", List.of(Map.of("rate", new BigDecimal("1.50")), true)));
+
+        assertEquals("{\"items\":[{\"rate\":1.50},true]}", body);
+    }
+}
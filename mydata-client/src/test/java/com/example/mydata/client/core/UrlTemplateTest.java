@@ -0,0 +1,106 @@
+package com.example.mydata.client.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("UrlTemplate 테스트")
+class UrlTemplateTest {
+
+    private static final String BASE_URL = "http://localhost:8081";
+
+    private MessageSpecProperties spec(String path, List<String> pathVariables, Map<String, String> queryParams) {
+        MessageSpecProperties spec = new MessageSpecProperties();
+        spec.setTransactionCode("테스트거래");
+        spec.setPath(path);
+        spec.setPathVariables(pathVariables);
+        spec.setQueryParams(queryParams);
+        return spec;
+    }
+
+    @Nested
+    @DisplayName("URL 조립")
+    class Expand {
+
+        @Test
+        @DisplayName("경로변수와 쿼리 파라미터가 순서대로 조립된다")
+        void pathVariablesAndQueryParams() {
+            LinkedHashMap<String, String> queryParams = new LinkedHashMap<>();
+            queryParams.put("fromDate", "fromDate");
+            queryParams.put("toDate", "toDate");
+            UrlTemplate template = UrlTemplate.compile(BASE_URL,
+                    spec("/api/bank/accounts/{accountNo}/transactions", List.of("accountNo"), queryParams));
+
+            String url = template.expand(Map.of(
+                    "accountNo", "110-234-567890",
+                    "fromDate", "20240101",
+                    "toDate", "20241231"
+            ));
+
+            assertEquals("http://localhost:8081/api/bank/accounts/110-234-567890/transactions?fromDate=20240101&toDate=20241231", url);
+        }
+
+        @Test
+        @DisplayName("값이 없는 쿼리 파라미터는 생략되고 첫 파라미터에 ?가 붙는다")
+        void missingQueryParamSkipped() {
+            LinkedHashMap<String, String> queryParams = new LinkedHashMap<>();
+            queryParams.put("fromDate", "fromDate");
+            queryParams.put("toDate", "toDate");
+            UrlTemplate template = UrlTemplate.compile(BASE_URL, spec("/api/bank/tx", List.of(), queryParams));
+
+            assertEquals("http://localhost:8081/api/bank/tx?toDate=20241231", template.expand(Map.of("toDate", "20241231")));
+            assertEquals("http://localhost:8081/api/bank/tx", template.expand(Map.of()));
+        }
+
+        @Test
+        @DisplayName("쿼리 키와 값은 URL 인코딩된다")
+        void queryEncoded() {
+            UrlTemplate template = UrlTemplate.compile(BASE_URL,
+                    spec("/api/search", List.of(), Map.of("검색어", "keyword")));
+
+            assertEquals("http://localhost:8081/api/search?%EA%B2%80%EC%83%89%EC%96%B4=a+b%26c",
+                    template.expand(Map.of("keyword", "a b&c")));
+        }
+
+        @Test
+        @DisplayName("경로변수 값이 없으면 IllegalArgumentException이 발생한다")
+        void missingPathVariable() {
+            UrlTemplate template = UrlTemplate.compile(BASE_URL,
+                    spec("/api/card/cards/{cardNo}", List.of("cardNo"), Map.of()));
+
+            assertThrows(IllegalArgumentException.class, () -> template.expand(Map.of()));
+        }
+    }
+
+    @Nested
+    @DisplayName("명세 검증 (기동 시점)")
+    class Compile {
+
+        @Test
+        @DisplayName("path에 슬롯이 없는 경로변수는 컴파일 시 실패한다")
+        void declaredVariableWithoutSlot() {
+            assertThrows(IllegalArgumentException.class, () -> UrlTemplate.compile(BASE_URL,
+                    spec("/api/card/cards", List.of("cardNo"), Map.of())));
+        }
+
+        @Test
+        @DisplayName("선언되지 않은 슬롯은 컴파일 시 실패한다")
+        void undeclaredSlot() {
+            assertThrows(IllegalArgumentException.class, () -> UrlTemplate.compile(BASE_URL,
+                    spec("/api/card/cards/{cardNo}", List.of(), Map.of())));
+        }
+
+        @Test
+        @DisplayName("닫히지 않은 슬롯은 컴파일 시 실패한다")
+        void unclosedSlot() {
+            assertThrows(IllegalArgumentException.class, () -> UrlTemplate.compile(BASE_URL,
+                    spec("/api/card/cards/{cardNo", List.of("cardNo"), Map.of())));
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package com.example.mydata.client.giro;
 
+import com.example.mydata.client.core.CircuitBreakerProperties;
 import com.example.mydata.client.core.ExternalSystemException;
 import com.example.mydata.client.core.GenericHttpClient;
 import com.example.mydata.client.core.MessageSpecProperties;
 import com.example.mydata.client.core.SystemProperties;
+import com.example.mydata.client.resilience.CircuitBreaker;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,6 +16,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.client.MockRestServiceServer;
 import org.springframework.web.client.RestClient;
 
+import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -28,6 +31,8 @@ class GiroMessageClientTest {
 
     private GiroMessageClient giroMessageClient;
     private MockRestServiceServer mockServer;
+    private GenericHttpClient httpClient;
+    private SystemProperties giroProperties;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     @BeforeEach
@@ -35,9 +40,9 @@ class GiroMessageClientTest {
         RestClient.Builder builder = RestClient.builder();
         mockServer = MockRestServiceServer.bindTo(builder).build();
         RestClient restClient = builder.build();
-        GenericHttpClient httpClient = new GenericHttpClient(restClient);
+        httpClient = new GenericHttpClient(restClient);
 
-        SystemProperties giroProperties = new SystemProperties();
+        giroProperties = new SystemProperties();
         giroProperties.setBaseUrl("http://localhost:8084");
         giroProperties.setSuccessCodeField("rsp_cd");
         giroProperties.setSuccessCodeValue("000");
@@ -298,6 +303,110 @@ class GiroMessageClientTest {
         }
     }
 
+    @Nested
+    @DisplayName("서킷 브레이커")
+    class CircuitBreakerCases {
+
+        private GiroMessageClient client;
+
+        @BeforeEach
+        void setUp() {
+            CircuitBreakerProperties circuitBreaker = new CircuitBreakerProperties();
+            circuitBreaker.setEnabled(true);
+            circuitBreaker.setMinimumCalls(3);
+            circuitBreaker.setFailureRateThreshold(50);
+            giroProperties.setCircuitBreaker(circuitBreaker);
+            client = new GiroMessageClient(httpClient, giroProperties, objectMapper);
+        }
+
+        @Test
+        @DisplayName("서버 오류가 반복되면 해당 거래만 차단되어 외부 시스템을 호출하지 않는다")
+        void opensPerTransactionCode() {
+            for (int i = 0; i < 3; i++) {
+                mockServer.expect(requestTo(containsString("/api/giro/bills")))
+                        .andRespond(withServerError());
+            }
+            mockServer.expect(requestTo("http://localhost:8084/api/giro/payment"))
+                    .andRespond(withSuccess("""
+                            {"rsp_cd": "000", "rsp_msg": "정상처리", "rsp_data": {"pay_no": "PAY-001"}}
+                            """, MediaType.APPLICATION_JSON));
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals("SERVER_ERROR", assertThrows(ExternalSystemException.class, () ->
+                        client.request("지로청구서목록조회", Map.of("custId", "C001"))).getErrorCode());
+            }
+            ExternalSystemException open = assertThrows(ExternalSystemException.class, () ->
+                    client.request("지로청구서목록조회", Map.of("custId", "C001")));
+            Map<String, Object> payment = client.request("지로납부", Map.of("billNo", "BILL-2024-001", "amount", 50000));
+
+            assertEquals("CIRCUIT_OPEN", open.getErrorCode());
+            assertEquals("PAY-001", payment.get("paymentNumber"));
+            assertEquals(List.of("지로청구서목록조회", "지로납부"), client.circuitBreakers().stream()
+                    .map(CircuitBreaker::getTransactionCode).sorted(Comparator.reverseOrder()).toList());
+            mockServer.verify();
+        }
+    }
+
+    record Bill(String billNumber, String billName, long paymentAmount, String organizationName) {
+    }
+
+    record PaymentResult(String paymentNumber, String billNumber, long paymentAmount, String paymentStatus) {
+    }
+
+    @Nested
+    @DisplayName("타입 바인딩 (매핑 적용)")
+    class TypedBindingCases {
+
+        @Test
+        @DisplayName("지로청구서목록조회 - 매핑된 필드명으로 record에 바인딩된다")
+        void getBillList_boundWithMapping() {
+            String response = """
+                    {
+                        "rsp_cd": "000",
+                        "rsp_msg": "정상처리",
+                        "rsp_data": [
+                            {"bill_no": "BILL-001", "bill_nm": "전기요금", "pay_amt": 50000, "due_dt": "20240430", "pay_st": "UNPAID", "org_nm": "한국전력공사"}
+                        ]
+                    }
+                    """;
+
+            mockServer.expect(requestTo("http://localhost:8084/api/giro/bills?cust_id=C001"))
+                    .andRespond(withSuccess(response, MediaType.APPLICATION_JSON));
+
+            List<Bill> bills = giroMessageClient.requestList("지로청구서목록조회", Map.of(
+                    "custId", "C001"
+            ), Bill.class);
+
+            assertEquals(List.of(new Bill("BILL-001", "전기요금", 50_000L, "한국전력공사")), bills);
+
+            mockServer.verify();
+        }
+
+        @Test
+        @DisplayName("지로납부 - 맵 응답이 매핑된 필드명으로 record에 바인딩된다")
+        void payment_boundWithMapping() {
+            String response = """
+                    {
+                        "rsp_cd": "000",
+                        "rsp_msg": "정상처리",
+                        "rsp_data": {"pay_no": "PAY123", "bill_no": "BILL-001", "pay_amt": 50000, "pay_dt": "20240315", "pay_st": "COMPLETED"}
+                    }
+                    """;
+
+            mockServer.expect(requestTo("http://localhost:8084/api/giro/payment"))
+                    .andRespond(withSuccess(response, MediaType.APPLICATION_JSON));
+
+            PaymentResult result = giroMessageClient.request("지로납부", Map.of(
+                    "billNo", "BILL-001",
+                    "amount", 50000
+            ), PaymentResult.class);
+
+            assertEquals(new PaymentResult("PAY123", "BILL-001", 50_000L, "COMPLETED"), result);
+
+            mockServer.verify();
+        }
+    }
+
     @Nested
     @DisplayName("응답 매핑 검증")
     class ResponseMappingCases {
@@ -416,5 +525,98 @@ class GiroMessageClientTest {
 
             mockServer.verify();
         }
+
+        @Test
+        @DisplayName("원본 데이터 요청(requestRaw)도 매핑이 있는 거래는 매핑된 필드명으로 직렬화한다")
+        void raw_mappingApplied() throws Exception {
+            String response = """
+                    {
+                        "rsp_cd": "000",
+                        "rsp_msg": "정상처리",
+                        "rsp_data": [{"bill_no": "BILL-001", "pay_amt": 50000}]
+                    }
+                    """;
+
+            mockServer.expect(requestTo("http://localhost:8084/api/giro/bills?cust_id=C001"))
+                    .andRespond(withSuccess(response, MediaType.APPLICATION_JSON));
+
+            byte[] raw = giroMessageClient.requestRaw("지로청구서목록조회", Map.of("custId", "C001"));
+
+            assertEquals(objectMapper.readTree("{\"items\": [{\"billNumber\": \"BILL-001\", \"paymentAmount\": 50000}]}"),
+                    objectMapper.readTree(raw));
+            mockServer.verify();
+        }
+
+        @Test
+        @DisplayName("항목 안의 중첩 객체 키는 매핑되지 않는다")
+        void nestedKeys_notMapped() {
+            String response = """
+                    {
+                        "rsp_cd": "000",
+                        "rsp_msg": "정상처리",
+                        "rsp_data": [
+                            {"bill_no": "BILL-001", "detail": {"bill_no": "INNER-001", "pay_amt": 100}}
+                        ]
+                    }
+                    """;
+
+            mockServer.expect(requestTo("http://localhost:8084/api/giro/bills?cust_id=C001"))
+                    .andRespond(withSuccess(response, MediaType.APPLICATION_JSON));
+
+            Map<String, Object> result = giroMessageClient.request("지로청구서목록조회", Map.of(
+                    "custId", "C001"
+            ));
+
+            List<?> items = (List<?>) result.get("items");
+            @SuppressWarnings("unchecked")
+            Map<String, Object> bill = (Map<String, Object>) items.get(0);
+            @SuppressWarnings("unchecked")
+            Map<String, Object> detail = (Map<String, Object>) bill.get("detail");
+
+            assertEquals("BILL-001", bill.get("billNumber"));
+            assertEquals("INNER-001", detail.get("bill_no"));
+            assertEquals(100, detail.get("pay_amt"));
+
+            mockServer.verify();
+        }
+
+        @Test
+        @DisplayName("응답코드가 데이터 영역 뒤에 있어도 에러가 판별된다")
+        void codeAfterData_throwsException() {
+            String response = """
+                    {
+                        "rsp_data": [{"bill_no": "BILL-001"}],
+                        "rsp_msg": "고객을 찾을 수 없습니다",
+                        "rsp_cd": "GIRO001"
+                    }
+                    """;
+
+            mockServer.expect(requestTo("http://localhost:8084/api/giro/bills?cust_id=C001"))
+                    .andRespond(withSuccess(response, MediaType.APPLICATION_JSON));
+
+            ExternalSystemException exception = assertThrows(ExternalSystemException.class, () ->
+                    giroMessageClient.request("지로청구서목록조회", Map.of(
+                            "custId", "C001"
+                    ))
+            );
+
+            assertEquals("GIRO001", exception.getErrorCode());
+            assertEquals("고객을 찾을 수 없습니다", exception.getErrorMessage());
+        }
+
+        @Test
+        @DisplayName("JSON 객체가 아닌 응답은 PARSE_ERROR가 발생한다")
+        void nonObjectResponse_parseError() {
+            mockServer.expect(requestTo("http://localhost:8084/api/giro/bills?cust_id=C001"))
+                    .andRespond(withSuccess("[1, 2, 3]", MediaType.APPLICATION_JSON));
+
+            ExternalSystemException exception = assertThrows(ExternalSystemException.class, () ->
+                    giroMessageClient.request("지로청구서목록조회", Map.of(
+                            "custId", "C001"
+                    ))
+            );
+
+            assertEquals("PARSE_ERROR", exception.getErrorCode());
+        }
     }
 }
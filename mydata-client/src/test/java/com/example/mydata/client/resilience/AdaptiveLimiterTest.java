@@ -0,0 +1,162 @@
+package com.example.mydata.client.resilience;
+
+import com.example.mydata.client.core.ExternalSystemException;
+import com.example.mydata.client.core.LimiterProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AdaptiveLimiter 테스트")
+class AdaptiveLimiterTest {
+
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private LimiterProperties properties(LimiterProperties.Algorithm algorithm, int initialLimit) {
+        LimiterProperties properties = new LimiterProperties();
+        properties.setEnabled(true);
+        properties.setAlgorithm(algorithm);
+        properties.setInitialLimit(initialLimit);
+        properties.setMinLimit(1);
+        properties.setMaxLimit(100);
+        return properties;
+    }
+
+    @Test
+    @DisplayName("비활성화되어 있으면 한도를 만들지 않는다")
+    void disabled() {
+        assertNull(AdaptiveLimiter.of("bank", new LimiterProperties()));
+    }
+
+    @Test
+    @DisplayName("한도를 넘는 호출은 대기 없이 LIMIT_EXCEEDED 로 실패한다")
+    void rejectOverLimit() throws Exception {
+        AdaptiveLimiter limiter = AdaptiveLimiter.of("bank", properties(LimiterProperties.Algorithm.AIMD, 1));
+        CompletableFuture<String> exchange = new CompletableFuture<>();
+        CompletableFuture<String> running = limiter.executeAsync(() -> exchange);
+
+        ExternalSystemException e = assertThrows(ExternalSystemException.class, () -> limiter.execute(() -> "x"));
+        assertEquals("LIMIT_EXCEEDED", e.getErrorCode());
+        assertEquals(1, limiter.getRejected());
+
+        exchange.complete("ok");
+        assertEquals("ok", running.get(1, TimeUnit.SECONDS));
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    @DisplayName("비동기 호출을 취소하면 진행 중인 호출도 취소되고 한도가 반납된다")
+    void cancelReleases() {
+        AdaptiveLimiter limiter = AdaptiveLimiter.of("bank", properties(LimiterProperties.Algorithm.GRADIENT, 5));
+        CompletableFuture<String> exchange = new CompletableFuture<>();
+
+        limiter.executeAsync(() -> exchange).cancel(false);
+
+        assertTrue(exchange.isCancelled());
+        assertEquals(0, limiter.getInFlight());
+        assertEquals(5, limiter.getLimit());
+    }
+
+    @Test
+    @DisplayName("서버 오류는 한도를 줄이고, 비즈니스 오류는 줄이지 않는다")
+    void dropsOnServerError() {
+        AdaptiveLimiter limiter = AdaptiveLimiter.of("bank", properties(LimiterProperties.Algorithm.AIMD, 10));
+
+        assertThrows(ExternalSystemException.class, () -> limiter.execute(() -> {
+            throw new ExternalSystemException("E002", "이체한도를 초과하였습니다");
+        }));
+        assertEquals(10, limiter.getLimit());
+
+        assertThrows(ExternalSystemException.class, () -> limiter.execute(() -> {
+            throw new ExternalSystemException("SERVER_ERROR", "외부 시스템 서버 오류 (500)");
+        }));
+        assertEquals(9, limiter.getLimit());
+    }
+
+    @Test
+    @DisplayName("비동기 연결 실패도 한도 감소 근거가 된다")
+    void asyncDrop() {
+        AdaptiveLimiter limiter = AdaptiveLimiter.of("bank", properties(LimiterProperties.Algorithm.AIMD, 10));
+
+        CompletableFuture<String> result = limiter.executeAsync(() ->
+                CompletableFuture.failedFuture(new ExternalSystemException("CONNECTION_ERROR", "외부 시스템 연결 실패")));
+
+        ExecutionException e = assertThrows(ExecutionException.class, result::get);
+        assertInstanceOf(ExternalSystemException.class, e.getCause());
+        assertEquals(9, limiter.getLimit());
+    }
+
+    @Nested
+    @DisplayName("AIMD")
+    class AimdCases {
+
+        private final LimiterProperties properties = properties(LimiterProperties.Algorithm.AIMD, 10);
+
+        @Test
+        @DisplayName("한도를 절반 이상 쓰는 동안 성공하면 1씩 늘린다")
+        void additiveIncrease() {
+            AimdLimit aimd = new AimdLimit(properties);
+
+            assertEquals(11, aimd.update(10, 5 * MS, 5, false));
+            assertEquals(10, aimd.update(10, 5 * MS, 2, false));
+        }
+
+        @Test
+        @DisplayName("실패하거나 지연 임계치를 넘으면 비율로 줄인다")
+        void multiplicativeDecrease() {
+            properties.setLatencyThreshold(100);
+            AimdLimit aimd = new AimdLimit(properties);
+
+            assertEquals(9, aimd.update(10, 5 * MS, 10, true), 1e-9);
+            assertEquals(9, aimd.update(10, 150 * MS, 10, false), 1e-9);
+        }
+    }
+
+    @Nested
+    @DisplayName("Gradient")
+    class GradientCases {
+
+        private final LimiterProperties properties = properties(LimiterProperties.Algorithm.GRADIENT, 20);
+
+        @Test
+        @DisplayName("지연시간이 평탄하면 한도가 늘어난다")
+        void growsWhileFlat() {
+            GradientLimit gradient = new GradientLimit(properties);
+            double limit = 20;
+            for (int i = 0; i < 50; i++) {
+                limit = gradient.update(limit, 10 * MS, (int) limit, false);
+            }
+
+            assertTrue(limit > 40, "limit=" + limit);
+        }
+
+        @Test
+        @DisplayName("대기열로 지연시간이 늘면 한도가 줄어든다")
+        void shrinksOnQueueing() {
+            GradientLimit gradient = new GradientLimit(properties);
+            double limit = 40;
+            for (int i = 0; i < 100; i++) {
+                limit = gradient.update(limit, 10 * MS, (int) limit, false);
+                limit = Math.min(limit, 40);
+            }
+            for (int i = 0; i < 30; i++) {
+                limit = gradient.update(limit, 50 * MS, (int) limit, false);
+            }
+
+            assertTrue(limit < 20, "limit=" + limit);
+        }
+
+        @Test
+        @DisplayName("한도를 충분히 쓰지 않으면 한도를 바꾸지 않는다")
+        void ignoresUnderutilized() {
+            GradientLimit gradient = new GradientLimit(properties);
+
+            assertEquals(20, gradient.update(20, 10 * MS, 3, false));
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.mydata.client.resilience;
+
+import com.example.mydata.client.core.BulkheadProperties;
+import com.example.mydata.client.core.ExternalSystemException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Bulkhead 테스트")
+class BulkheadTest {
+
+    private Bulkhead bulkhead(int maxConcurrentCalls, int maxQueueSize, int maxWaitTime) {
+        BulkheadProperties properties = new BulkheadProperties();
+        properties.setMaxConcurrentCalls(maxConcurrentCalls);
+        properties.setMaxQueueSize(maxQueueSize);
+        properties.setMaxWaitTime(maxWaitTime);
+        return Bulkhead.of("이체", properties);
+    }
+
+    private ExternalSystemException failure(CompletableFuture<?> future) {
+        ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        return assertInstanceOf(ExternalSystemException.class, e.getCause());
+    }
+
+    @Test
+    @DisplayName("maxConcurrentCalls 가 0 이하이면 격벽을 만들지 않는다")
+    void disabled() {
+        assertNull(bulkhead(0, 10, 1000));
+        assertNull(Bulkhead.of("이체", null));
+    }
+
+    @Nested
+    @DisplayName("동기 호출")
+    class SyncCases {
+
+        @Test
+        @DisplayName("허용량 이내의 호출은 바로 실행되고 허가를 반납한다")
+        void withinLimit() {
+            Bulkhead bulkhead = bulkhead(1, 0, 0);
+
+            assertEquals("ok", bulkhead.execute(() -> {
+                assertEquals(1, bulkhead.getInFlight());
+                return "ok";
+            }));
+            assertEquals(0, bulkhead.getInFlight());
+        }
+
+        @Test
+        @DisplayName("대기열이 가득 차면 BULKHEAD_FULL 로 즉시 거절한다")
+        void queueFull() throws Exception {
+            Bulkhead bulkhead = bulkhead(1, 0, 0);
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch finish = new CountDownLatch(1);
+            CompletableFuture<String> holder = CompletableFuture.supplyAsync(() -> bulkhead.execute(() -> {
+                started.countDown();
+                await(finish);
+                return "ok";
+            }));
+            started.await();
+
+            long start = System.nanoTime();
+            ExternalSystemException e = assertThrows(ExternalSystemException.class,
+                    () -> bulkhead.execute(() -> "blocked"));
+
+            assertEquals("BULKHEAD_FULL", e.getErrorCode());
+            assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 100);
+            assertEquals(1, bulkhead.getRejected());
+
+            finish.countDown();
+            assertEquals("ok", holder.get(5, TimeUnit.SECONDS));
+        }
+
+        @Test
+        @DisplayName("대기시간을 넘기면 BULKHEAD_TIMEOUT 으로 실패하고 대기열에서 빠진다")
+        void waitTimeout() throws Exception {
+            Bulkhead bulkhead = bulkhead(1, 1, 100);
+            CountDownLatch finish = new CountDownLatch(1);
+            CompletableFuture<Void> holder = bulkhead.executeAsync(() -> CompletableFuture.runAsync(() -> await(finish)));
+
+            ExternalSystemException e = assertThrows(ExternalSystemException.class,
+                    () -> bulkhead.execute(() -> "late"));
+
+            assertEquals("BULKHEAD_TIMEOUT", e.getErrorCode());
+            assertEquals(1, bulkhead.getTimedOut());
+            assertEquals(0, bulkhead.getQueued());
+
+            finish.countDown();
+            holder.get(5, TimeUnit.SECONDS);
+            assertEquals(0, bulkhead.getInFlight());
+        }
+
+        @Test
+        @DisplayName("허가가 반납되면 대기 중인 호출이 이어서 실행된다")
+        void handOver() throws Exception {
+            Bulkhead bulkhead = bulkhead(1, 1, 2000);
+            CountDownLatch finish = new CountDownLatch(1);
+            CompletableFuture<Void> holder = bulkhead.executeAsync(() -> CompletableFuture.runAsync(() -> await(finish)));
+
+            CompletableFuture<String> waiting = CompletableFuture.supplyAsync(() -> bulkhead.execute(() -> "next"));
+            while (bulkhead.getQueued() == 0) {
+                Thread.onSpinWait();
+            }
+            finish.countDown();
+
+            assertEquals("next", waiting.get(5, TimeUnit.SECONDS));
+            holder.get(5, TimeUnit.SECONDS);
+            assertEquals(0, bulkhead.getInFlight());
+            assertEquals(0, bulkhead.getQueued());
+        }
+    }
+
+    @Nested
+    @DisplayName("비동기 호출")
+    class AsyncCases {
+
+        @Test
+        @DisplayName("대기 중에도 호출 스레드를 점유하지 않고, 허가를 받으면 호출을 시작한다")
+        void queuedWithoutBlocking() throws Exception {
+            Bulkhead bulkhead = bulkhead(1, 1, 2000);
+            CompletableFuture<String> first = new CompletableFuture<>();
+            bulkhead.executeAsync(() -> first);
+
+            CompletableFuture<String> second = bulkhead.executeAsync(() -> CompletableFuture.completedFuture("second"));
+            assertFalse(second.isDone());
+            assertEquals(1, bulkhead.getQueued());
+
+            assertEquals("BULKHEAD_FULL",
+                    failure(bulkhead.executeAsync(() -> CompletableFuture.completedFuture("x"))).getErrorCode());
+
+            first.complete("first");
+            assertEquals("second", second.get(5, TimeUnit.SECONDS));
+            assertEquals(0, bulkhead.getInFlight());
+        }
+
+        @Test
+        @DisplayName("대기 중 취소하면 대기열에서 빠지고, 진행 중 취소하면 호출도 취소된다")
+        void cancel() {
+            Bulkhead bulkhead = bulkhead(1, 1, 2000);
+            CompletableFuture<String> exchange = new CompletableFuture<>();
+            CompletableFuture<String> running = bulkhead.executeAsync(() -> exchange);
+            CompletableFuture<String> waiting = bulkhead.executeAsync(() -> CompletableFuture.completedFuture("x"));
+
+            waiting.cancel(false);
+            assertEquals(0, bulkhead.getQueued());
+
+            running.cancel(false);
+            assertTrue(exchange.isCancelled());
+            assertEquals(0, bulkhead.getInFlight());
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package com.example.mydata.client.resilience;
+
+import com.example.mydata.client.core.CircuitBreakerProperties;
+import com.example.mydata.client.core.ExternalSystemException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CircuitBreaker 테스트")
+class CircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final List<String> transitions = new ArrayList<>();
+
+    private CircuitBreaker circuitBreaker(CircuitBreakerProperties.WindowType windowType, int windowSize) {
+        CircuitBreakerProperties properties = new CircuitBreakerProperties();
+        properties.setEnabled(true);
+        properties.setWindowType(windowType);
+        properties.setWindowSize(windowSize);
+        properties.setMinimumCalls(4);
+        properties.setFailureRateThreshold(50);
+        properties.setWaitDurationInOpenState(1000);
+        properties.setPermittedCallsInHalfOpenState(2);
+        CircuitBreaker circuitBreaker = new CircuitBreaker("giro", "지로납부", properties, now::get);
+        circuitBreaker.addListener((cb, from, to) -> transitions.add(from + "->" + to));
+        return circuitBreaker;
+    }
+
+    private CircuitBreaker countBased() {
+        return circuitBreaker(CircuitBreakerProperties.WindowType.COUNT, 10);
+    }
+
+    private void advanceMillis(long millis) {
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    private void succeed(CircuitBreaker circuitBreaker) {
+        circuitBreaker.execute(() -> "ok");
+    }
+
+    private void fail(CircuitBreaker circuitBreaker, String code) {
+        assertThrows(ExternalSystemException.class, () -> circuitBreaker.execute(() -> {
+            throw new ExternalSystemException(code, "실패");
+        }));
+    }
+
+    private void open(CircuitBreaker circuitBreaker) {
+        for (int i = 0; i < 4; i++) {
+            fail(circuitBreaker, "SERVER_ERROR");
+        }
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+    }
+
+    @Test
+    @DisplayName("비활성화되어 있으면 서킷 브레이커를 만들지 않는다")
+    void disabled() {
+        assertNull(CircuitBreaker.of("giro", "지로납부", new CircuitBreakerProperties()));
+    }
+
+    @Nested
+    @DisplayName("CLOSED")
+    class ClosedCases {
+
+        @Test
+        @DisplayName("최소 호출 수에 도달하기 전에는 실패율과 관계없이 열리지 않는다")
+        void belowMinimumCalls() {
+            CircuitBreaker circuitBreaker = countBased();
+            for (int i = 0; i < 3; i++) {
+                fail(circuitBreaker, "CONNECTION_ERROR");
+            }
+
+            assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        }
+
+        @Test
+        @DisplayName("실패율이 임계치에 도달하면 OPEN 으로 전이한다")
+        void opensOnFailureRate() {
+            CircuitBreaker circuitBreaker = countBased();
+            succeed(circuitBreaker);
+            succeed(circuitBreaker);
+            fail(circuitBreaker, "SERVER_ERROR");
+            assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+
+            fail(circuitBreaker, "CONNECTION_ERROR");
+
+            assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+            assertEquals(List.of("CLOSED->OPEN"), transitions);
+        }
+
+        @Test
+        @DisplayName("비즈니스 오류는 성공으로, 격벽/한도 거절은 집계하지 않는다")
+        void classification() {
+            CircuitBreaker circuitBreaker = countBased();
+            for (int i = 0; i < 10; i++) {
+                fail(circuitBreaker, "G001");
+                fail(circuitBreaker, "BULKHEAD_FULL");
+                fail(circuitBreaker, "LIMIT_EXCEEDED");
+            }
+            fail(circuitBreaker, "SERVER_ERROR");
+            fail(circuitBreaker, "SERVER_ERROR");
+
+            assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        }
+
+        @Test
+        @DisplayName("건수 창은 가장 오래된 결과부터 밀어낸다")
+        void countWindowSlides() {
+            CircuitBreaker circuitBreaker = circuitBreaker(CircuitBreakerProperties.WindowType.COUNT, 4);
+            fail(circuitBreaker, "SERVER_ERROR");
+            for (int i = 0; i < 5; i++) {
+                succeed(circuitBreaker);
+            }
+            fail(circuitBreaker, "SERVER_ERROR");
+
+            // 창 [성공, 성공, 성공, 실패] → 25%
+            assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        }
+
+        @Test
+        @DisplayName("시간 창은 창을 벗어난 결과를 집계에서 뺀다")
+        void timeWindowExpires() {
+            CircuitBreaker circuitBreaker = circuitBreaker(CircuitBreakerProperties.WindowType.TIME, 2);
+            fail(circuitBreaker, "SERVER_ERROR");
+            fail(circuitBreaker, "SERVER_ERROR");
+            fail(circuitBreaker, "SERVER_ERROR");
+            advanceMillis(2_500);
+            succeed(circuitBreaker);
+            succeed(circuitBreaker);
+            succeed(circuitBreaker);
+            fail(circuitBreaker, "SERVER_ERROR");
+
+            // 이전 실패 3건은 창 밖 → 1/4 = 25%
+            assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+
+            fail(circuitBreaker, "SERVER_ERROR");
+            fail(circuitBreaker, "SERVER_ERROR");
+            // 3/6 = 50%
+            assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        }
+    }
+
+    @Nested
+    @DisplayName("OPEN / HALF_OPEN")
+    class OpenCases {
+
+        @Test
+        @DisplayName("OPEN 동안에는 호출하지 않고 CIRCUIT_OPEN 으로 즉시 실패한다")
+        void shortCircuits() {
+            CircuitBreaker circuitBreaker = countBased();
+            open(circuitBreaker);
+
+            AtomicReference<Boolean> called = new AtomicReference<>(false);
+            ExternalSystemException e = assertThrows(ExternalSystemException.class,
+                    () -> circuitBreaker.execute(() -> called.getAndSet(true)));
+
+            assertEquals("CIRCUIT_OPEN", e.getErrorCode());
+            assertFalse(called.get());
+            assertEquals(1, circuitBreaker.getNotPermitted());
+        }
+
+        @Test
+        @DisplayName("대기시간이 지나면 허용된 수만큼만 확인 호출을 보내고, 모두 성공하면 CLOSED 로 돌아간다")
+        void halfOpenThenClose() {
+            CircuitBreaker circuitBreaker = countBased();
+            open(circuitBreaker);
+            advanceMillis(1_000);
+
+            CompletableFuture<String> probe1 = new CompletableFuture<>();
+            CompletableFuture<String> probe2 = new CompletableFuture<>();
+            CompletableFuture<String> r1 = circuitBreaker.executeAsync(() -> probe1);
+            CompletableFuture<String> r2 = circuitBreaker.executeAsync(() -> probe2);
+            assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+            assertEquals("CIRCUIT_OPEN", assertThrows(ExternalSystemException.class,
+                    () -> circuitBreaker.execute(() -> "extra")).getErrorCode());
+
+            probe1.complete("ok");
+            probe2.complete("ok");
+
+            assertTrue(r1.isDone() && r2.isDone());
+            assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+            assertEquals(List.of("CLOSED->OPEN", "OPEN->HALF_OPEN", "HALF_OPEN->CLOSED"), transitions);
+        }
+
+        @Test
+        @DisplayName("확인 호출이 실패하면 다시 OPEN 이 된다")
+        void halfOpenFailureReopens() {
+            CircuitBreaker circuitBreaker = countBased();
+            open(circuitBreaker);
+            advanceMillis(1_000);
+
+            fail(circuitBreaker, "CONNECTION_ERROR");
+
+            assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+            assertEquals("CIRCUIT_OPEN", assertThrows(ExternalSystemException.class,
+                    () -> circuitBreaker.execute(() -> "x")).getErrorCode());
+        }
+
+        @Test
+        @DisplayName("OPEN 이전에 시작된 호출의 결과는 HALF_OPEN 판단에 쓰지 않는다")
+        void staleResultIgnored() {
+            CircuitBreaker circuitBreaker = countBased();
+            CompletableFuture<String> slow = new CompletableFuture<>();
+            circuitBreaker.executeAsync(() -> slow);
+            open(circuitBreaker);
+            advanceMillis(1_000);
+            CompletableFuture<String> probe = new CompletableFuture<>();
+            circuitBreaker.executeAsync(() -> probe);
+
+            slow.complete("late");
+            probe.complete("ok");
+
+            assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+        }
+
+        @Test
+        @DisplayName("비동기 호출도 OPEN 이면 CIRCUIT_OPEN 으로 완료된다")
+        void asyncShortCircuit() {
+            CircuitBreaker circuitBreaker = countBased();
+            open(circuitBreaker);
+
+            CompletableFuture<String> result = circuitBreaker.executeAsync(() -> CompletableFuture.completedFuture("x"));
+
+            ExecutionException e = assertThrows(ExecutionException.class, result::get);
+            assertEquals("CIRCUIT_OPEN", ((ExternalSystemException) e.getCause()).getErrorCode());
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.example.mydata.client.resilience;
+
+import com.example.mydata.client.core.ExternalSystemException;
+import com.example.mydata.client.core.HedgeProperties;
+import com.example.mydata.client.core.TokenBudgetProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Hedge 테스트")
+class HedgeTest {
+
+    private final List<CompletableFuture<String>> attempts = new ArrayList<>();
+
+    private HedgeProperties properties() {
+        HedgeProperties properties = new HedgeProperties();
+        properties.setEnabled(true);
+        properties.setInitialDelay(50);
+        properties.setMinDelay(1);
+        properties.setMinSamples(5);
+        return properties;
+    }
+
+    private TokenBudget budget(int maxTokens) {
+        TokenBudgetProperties properties = new TokenBudgetProperties();
+        properties.setMaxTokens(maxTokens);
+        return new TokenBudget("card", properties);
+    }
+
+    private Hedge hedge(TokenBudget budget) {
+        return Hedge.of("card", "보유카드목록조회", properties(), HttpMethod.GET, budget);
+    }
+
+    /** 호출될 때마다 새 미완료 future 를 만들어 기록한다 */
+    private CompletableFuture<String> nextAttempt() {
+        CompletableFuture<String> attempt = new CompletableFuture<>();
+        synchronized (attempts) {
+            attempts.add(attempt);
+        }
+        return attempt;
+    }
+
+    private CompletableFuture<String> attempt(int index) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            synchronized (attempts) {
+                if (attempts.size() > index) {
+                    return attempts.get(index);
+                }
+            }
+            Thread.sleep(5);
+        }
+        throw new AssertionError("시도 " + index + " 가 전송되지 않았습니다");
+    }
+
+    @Test
+    @DisplayName("멱등하지 않은 메서드나 비활성화된 설정이면 헤지하지 않는다")
+    void disabled() {
+        assertNull(Hedge.of("card", "결제", properties(), HttpMethod.POST, budget(5)));
+        assertNull(Hedge.of("card", "보유카드목록조회", new HedgeProperties(), HttpMethod.GET, budget(5)));
+    }
+
+    @Nested
+    @DisplayName("헤지 전송")
+    class HedgingCases {
+
+        @Test
+        @DisplayName("첫 시도가 지연 안에 응답하면 헤지를 보내지 않는다")
+        void fastPrimary() throws Exception {
+            TokenBudget budget = budget(5);
+            Hedge hedge = hedge(budget);
+            CompletableFuture<String> result = hedge.executeAsync(HedgeTest.this::nextAttempt);
+
+            attempt(0).complete("primary");
+            Thread.sleep(100);
+
+            assertEquals("primary", result.get());
+            assertEquals(1, attempts.size());
+            assertEquals(0, hedge.getHedges());
+            assertEquals(5.0, budget.getTokens());
+        }
+
+        @Test
+        @DisplayName("첫 시도가 늦으면 헤지를 보내고, 먼저 온 응답을 쓰며 늦은 시도는 취소한다")
+        void hedgeWins() throws Exception {
+            Hedge hedge = hedge(budget(5));
+            CompletableFuture<String> result = hedge.executeAsync(HedgeTest.this::nextAttempt);
+
+            attempt(1).complete("hedge");
+
+            assertEquals("hedge", result.get(5, TimeUnit.SECONDS));
+            assertTrue(attempt(0).isCancelled());
+            assertEquals(1, hedge.getHedges());
+            assertEquals(1, hedge.getHedgeWins());
+        }
+
+        @Test
+        @DisplayName("헤지 예산이 없으면 헤지를 보내지 않는다")
+        void budgetExhausted() throws Exception {
+            Hedge hedge = hedge(budget(0));
+            CompletableFuture<String> result = hedge.executeAsync(HedgeTest.this::nextAttempt);
+            Thread.sleep(150);
+
+            assertEquals(1, attempts.size());
+            attempt(0).complete("primary");
+            assertEquals("primary", result.get());
+        }
+
+        @Test
+        @DisplayName("헤지 후 한 시도가 실패하면 다른 시도의 결과를 기다린다")
+        void oneFails() throws Exception {
+            Hedge hedge = hedge(budget(5));
+            CompletableFuture<String> result = hedge.executeAsync(HedgeTest.this::nextAttempt);
+            CompletableFuture<String> hedgeAttempt = attempt(1);
+
+            attempt(0).completeExceptionally(new ExternalSystemException("CONNECTION_ERROR", "실패"));
+            assertFalse(result.isDone());
+            hedgeAttempt.complete("hedge");
+
+            assertEquals("hedge", result.get(5, TimeUnit.SECONDS));
+        }
+
+        @Test
+        @DisplayName("모든 시도가 실패하면 실패로 완료된다")
+        void allFail() throws Exception {
+            Hedge hedge = hedge(budget(5));
+            CompletableFuture<String> result = hedge.executeAsync(HedgeTest.this::nextAttempt);
+            attempt(1).completeExceptionally(new ExternalSystemException("SERVER_ERROR", "실패"));
+            attempt(0).completeExceptionally(new ExternalSystemException("CONNECTION_ERROR", "실패"));
+
+            ExecutionException e = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(ExternalSystemException.class, e.getCause());
+        }
+
+        @Test
+        @DisplayName("헤지 전에 첫 시도가 실패하면 헤지하지 않고 실패로 완료된다")
+        void primaryFailsEarly() throws Exception {
+            Hedge hedge = hedge(budget(5));
+            CompletableFuture<String> result = hedge.executeAsync(HedgeTest.this::nextAttempt);
+
+            attempt(0).completeExceptionally(new ExternalSystemException("SERVER_ERROR", "실패"));
+            Thread.sleep(100);
+
+            assertTrue(result.isCompletedExceptionally());
+            assertEquals(1, attempts.size());
+        }
+
+        @Test
+        @DisplayName("헤지를 등록하기 전에 첫 시도가 실패해도 헤지 결과를 기다린다")
+        void primaryFailsWhileHedgePending() throws Exception {
+            TokenBudget budget = budget(5);
+            Hedge hedge = hedge(budget);
+            CompletableFuture<String> primary = new CompletableFuture<>();
+            List<Integer> calls = new ArrayList<>();
+            // 헤지 전송 중(토큰은 꺼냈고 attempts 에 등록하기 전)에 첫 시도를 실패시킨다
+            CompletableFuture<String> result = hedge.executeAsync(() -> {
+                calls.add(calls.size());
+                if (calls.size() == 1) {
+                    return primary;
+                }
+                primary.completeExceptionally(new ExternalSystemException("SERVER_ERROR", "실패"));
+                return CompletableFuture.completedFuture("hedge");
+            });
+
+            assertEquals("hedge", result.get(5, TimeUnit.SECONDS));
+            assertEquals(2, calls.size());
+            assertEquals(1, hedge.getHedgeWins());
+        }
+
+        @Test
+        @DisplayName("결과를 취소하면 모든 시도가 취소된다")
+        void cancel() throws Exception {
+            Hedge hedge = hedge(budget(5));
+            CompletableFuture<String> result = hedge.executeAsync(HedgeTest.this::nextAttempt);
+
+            result.cancel(false);
+
+            assertTrue(attempt(0).isCancelled());
+        }
+    }
+
+    @Nested
+    @DisplayName("헤지 지연")
+    class DelayCases {
+
+        @Test
+        @DisplayName("표본이 부족하면 initialDelay, 충분하면 최근 응답시간의 백분위를 쓴다")
+        void followsPercentile() throws Exception {
+            HedgeProperties properties = properties();
+            properties.setMaxDelay(30);
+            Hedge hedge = Hedge.of("card", "보유카드목록조회", properties, HttpMethod.GET, budget(5));
+            assertEquals(30, hedge.getDelayMillis());
+
+            for (int i = 0; i < 5; i++) {
+                hedge.executeAsync(() -> CompletableFuture.completedFuture("ok")).get();
+            }
+
+            // 즉시 완료되는 표본만 있으므로 initialDelay 보다 짧아진다
+            assertTrue(hedge.getDelayMillis() < 30);
+        }
+
+        @Test
+        @DisplayName("LatencyTracker 는 최근 표본의 백분위를 계산한다")
+        void percentile() {
+            LatencyTracker tracker = new LatencyTracker(95, 64);
+            assertEquals(-1, tracker.getPercentileMillis());
+            for (int i = 1; i <= 128; i++) {
+                tracker.record(TimeUnit.MILLISECONDS.toNanos(i));
+            }
+
+            // 창에는 최근 64개(65~128ms)만 남는다
+            assertEquals(64 + 61, tracker.getPercentileMillis());
+            assertEquals(64, tracker.getCount());
+        }
+    }
+}
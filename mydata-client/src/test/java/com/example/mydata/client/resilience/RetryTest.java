@@ -0,0 +1,193 @@
+package com.example.mydata.client.resilience;
+
+import com.example.mydata.client.core.ExternalSystemException;
+import com.example.mydata.client.core.RetryProperties;
+import com.example.mydata.client.core.TokenBudgetProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Retry 테스트")
+class RetryTest {
+
+    private RetryProperties properties(int maxAttempts) {
+        RetryProperties properties = new RetryProperties();
+        properties.setMaxAttempts(maxAttempts);
+        properties.setInitialBackoff(1);
+        properties.setMaxBackoff(5);
+        return properties;
+    }
+
+    private TokenBudget budget(double ratio, int maxTokens) {
+        TokenBudgetProperties properties = new TokenBudgetProperties();
+        properties.setRatio(ratio);
+        properties.setMaxTokens(maxTokens);
+        return new TokenBudget("bank", properties);
+    }
+
+    private Retry retry(int maxAttempts, TokenBudget budget) {
+        return Retry.of("bank", "계좌목록조회", properties(maxAttempts), HttpMethod.GET, budget);
+    }
+
+    /** 처음 failures 번은 code 로 실패하고 이후 성공하는 호출 */
+    private static String flaky(AtomicInteger calls, int failures, String code) {
+        if (calls.incrementAndGet() <= failures) {
+            throw new ExternalSystemException(code, "실패");
+        }
+        return "ok";
+    }
+
+    @Nested
+    @DisplayName("재시도 대상")
+    class EligibilityCases {
+
+        @Test
+        @DisplayName("maxAttempts 가 1 이하이면 재시도하지 않는다")
+        void disabled() {
+            assertNull(Retry.of("bank", "계좌목록조회", properties(1), HttpMethod.GET, null));
+            assertNull(Retry.of("bank", "계좌목록조회", null, HttpMethod.GET, null));
+        }
+
+        @Test
+        @DisplayName("멱등하지 않은 메서드는 명시적으로 허용해야 재시도한다")
+        void nonIdempotent() {
+            assertNull(Retry.of("bank", "이체", properties(3), HttpMethod.POST, null));
+
+            RetryProperties properties = properties(3);
+            properties.setRetryNonIdempotent(true);
+            assertNotNull(Retry.of("bank", "이체", properties, HttpMethod.POST, null));
+        }
+
+        @Test
+        @DisplayName("재시도 대상이 아닌 에러코드는 바로 던진다")
+        void nonRetryableCode() {
+            Retry retry = retry(3, null);
+            AtomicInteger calls = new AtomicInteger();
+
+            ExternalSystemException e = assertThrows(ExternalSystemException.class,
+                    () -> retry.execute(() -> flaky(calls, 5, "E002")));
+
+            assertEquals("E002", e.getErrorCode());
+            assertEquals(1, calls.get());
+        }
+    }
+
+    @Nested
+    @DisplayName("동기 재시도")
+    class SyncCases {
+
+        @Test
+        @DisplayName("연결 실패 후 재시도해 성공하면 결과를 반환한다")
+        void retriesUntilSuccess() {
+            Retry retry = retry(3, null);
+            AtomicInteger calls = new AtomicInteger();
+
+            assertEquals("ok", retry.execute(() -> flaky(calls, 2, "CONNECTION_ERROR")));
+            assertEquals(3, calls.get());
+            assertEquals(2, retry.getRetries());
+        }
+
+        @Test
+        @DisplayName("최대 시도 횟수를 넘으면 마지막 오류를 던진다")
+        void exhaustsAttempts() {
+            Retry retry = retry(3, null);
+            AtomicInteger calls = new AtomicInteger();
+
+            ExternalSystemException e = assertThrows(ExternalSystemException.class,
+                    () -> retry.execute(() -> flaky(calls, 5, "SERVER_ERROR")));
+
+            assertEquals("SERVER_ERROR", e.getErrorCode());
+            assertEquals(3, calls.get());
+        }
+
+        @Test
+        @DisplayName("재시도 예산이 바닥나면 더 이상 재시도하지 않는다")
+        void budgetExhausted() {
+            TokenBudget budget = budget(0.1, 1);
+            Retry retry = retry(3, budget);
+            AtomicInteger calls = new AtomicInteger();
+
+            assertThrows(ExternalSystemException.class, () -> retry.execute(() -> flaky(calls, 5, "SERVER_ERROR")));
+
+            // 처음 쌓인 토큰 1개로 1회만 재시도
+            assertEquals(2, calls.get());
+            assertEquals(1, retry.getBudgetExhausted());
+            assertEquals(1, budget.getExhausted());
+        }
+    }
+
+    @Nested
+    @DisplayName("비동기 재시도")
+    class AsyncCases {
+
+        @Test
+        @DisplayName("실패한 시도를 백오프 후 다시 보낸다")
+        void retriesAsync() throws Exception {
+            Retry retry = retry(3, null);
+            AtomicInteger calls = new AtomicInteger();
+
+            CompletableFuture<String> result = retry.executeAsync(() -> calls.incrementAndGet() < 3
+                    ? CompletableFuture.failedFuture(new ExternalSystemException("CONNECTION_ERROR", "실패"))
+                    : CompletableFuture.completedFuture("ok"));
+
+            assertEquals("ok", result.get(5, TimeUnit.SECONDS));
+            assertEquals(3, calls.get());
+        }
+
+        @Test
+        @DisplayName("재시도 대상이 아닌 오류는 그대로 완료된다")
+        void nonRetryableAsync() {
+            Retry retry = retry(3, null);
+
+            CompletableFuture<String> result = retry.executeAsync(() ->
+                    CompletableFuture.failedFuture(new ExternalSystemException("CIRCUIT_OPEN", "차단")));
+
+            ExecutionException e = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertEquals("CIRCUIT_OPEN", ((ExternalSystemException) e.getCause()).getErrorCode());
+        }
+
+        @Test
+        @DisplayName("취소하면 진행 중인 시도도 취소된다")
+        void cancel() {
+            Retry retry = retry(3, null);
+            CompletableFuture<String> exchange = new CompletableFuture<>();
+
+            retry.executeAsync(() -> exchange).cancel(false);
+
+            assertTrue(exchange.isCancelled());
+        }
+    }
+
+    @Nested
+    @DisplayName("TokenBudget")
+    class BudgetCases {
+
+        @Test
+        @DisplayName("일반 호출 비율만큼 토큰이 쌓이고 최대 토큰 수를 넘지 않는다")
+        void depositAndCap() {
+            TokenBudget budget = budget(0.1, 2);
+            assertTrue(budget.tryWithdraw());
+            assertTrue(budget.tryWithdraw());
+            assertFalse(budget.tryWithdraw());
+
+            for (int i = 0; i < 10; i++) {
+                budget.deposit();
+            }
+            assertTrue(budget.tryWithdraw());
+            assertFalse(budget.tryWithdraw());
+
+            for (int i = 0; i < 100; i++) {
+                budget.deposit();
+            }
+            assertEquals(2.0, budget.getTokens());
+        }
+    }
+}
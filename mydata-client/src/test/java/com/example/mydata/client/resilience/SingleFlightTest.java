@@ -0,0 +1,224 @@
+package com.example.mydata.client.resilience;
+
+import com.example.mydata.client.core.ExternalSystemException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SingleFlight 테스트")
+class SingleFlightTest {
+
+    private final SingleFlight singleFlight = SingleFlight.of("giro", "지로청구서목록조회", true, HttpMethod.GET);
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+
+    @Nested
+    @DisplayName("동기 호출")
+    class SyncCases {
+
+        @Test
+        @DisplayName("같은 키의 동시 호출은 외부 호출 한 번의 결과를 함께 받는다")
+        void coalesced() throws Exception {
+            CountDownLatch release = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(5);
+            try {
+                List<Future<String>> results = new ArrayList<>();
+                for (int i = 0; i < 5; i++) {
+                    results.add(executor.submit(() -> singleFlight.execute("/api/giro/bills?cust_id=C001", () -> {
+                        upstreamCalls.incrementAndGet();
+                        await(release);
+                        return "bills";
+                    })));
+                }
+                waitUntil(() -> singleFlight.getCoalesced() == 4);
+                release.countDown();
+
+                for (Future<String> result : results) {
+                    assertEquals("bills", result.get(5, TimeUnit.SECONDS));
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+            assertEquals(1, upstreamCalls.get());
+            assertEquals(0, singleFlight.getInFlight());
+        }
+
+        @Test
+        @DisplayName("외부 호출의 예외는 합류한 호출에도 그대로 전달된다")
+        void exceptionShared() throws Exception {
+            CountDownLatch release = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+            try {
+                List<Future<String>> results = new ArrayList<>();
+                for (int i = 0; i < 2; i++) {
+                    results.add(executor.submit(() -> singleFlight.<String>execute("/api/giro/bills", () -> {
+                        upstreamCalls.incrementAndGet();
+                        await(release);
+                        throw new ExternalSystemException("SERVER_ERROR", "외부 시스템 서버 오류 (500)");
+                    })));
+                }
+                waitUntil(() -> singleFlight.getCoalesced() == 1);
+                release.countDown();
+
+                for (Future<String> result : results) {
+                    ExecutionException e = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+                    assertEquals("SERVER_ERROR", assertInstanceOf(ExternalSystemException.class, e.getCause()).getErrorCode());
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+            assertEquals(1, upstreamCalls.get());
+        }
+
+        @Test
+        @DisplayName("외부 호출이 Error 로 끝나도 합류한 호출은 기다리지 않고 같은 Error 를 받는다")
+        void errorShared() throws Exception {
+            CountDownLatch release = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+            try {
+                List<Future<String>> results = new ArrayList<>();
+                for (int i = 0; i < 2; i++) {
+                    results.add(executor.submit(() -> singleFlight.<String>execute("/api/giro/bills", () -> {
+                        upstreamCalls.incrementAndGet();
+                        await(release);
+                        throw new OutOfMemoryError("테스트");
+                    })));
+                }
+                waitUntil(() -> singleFlight.getCoalesced() == 1);
+                release.countDown();
+
+                for (Future<String> result : results) {
+                    ExecutionException e = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+                    assertInstanceOf(OutOfMemoryError.class, e.getCause());
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+            assertEquals(1, upstreamCalls.get());
+            assertEquals(0, singleFlight.getInFlight());
+        }
+
+        @Test
+        @DisplayName("떼어낸 호출에는 합류하지 않고, 떼어내기 전에 합류한 호출은 그 결과를 받는다")
+        void detached() throws Exception {
+            CountDownLatch release = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+            try {
+                Future<String> before = executor.submit(() -> singleFlight.execute("/api/giro/bills", () -> {
+                    upstreamCalls.incrementAndGet();
+                    await(release);
+                    return "납부 전";
+                }));
+                waitUntil(() -> upstreamCalls.get() == 1);
+
+                singleFlight.detachAll();
+                String after = singleFlight.execute("/api/giro/bills", () -> {
+                    upstreamCalls.incrementAndGet();
+                    return "납부 후";
+                });
+                release.countDown();
+
+                assertEquals("납부 후", after);
+                assertEquals("납부 전", before.get(5, TimeUnit.SECONDS));
+            } finally {
+                executor.shutdownNow();
+            }
+            assertEquals(2, upstreamCalls.get());
+            assertEquals(0, singleFlight.getCoalesced());
+            assertEquals(0, singleFlight.getInFlight());
+        }
+
+        @Test
+        @DisplayName("진행 중인 호출이 끝난 뒤의 호출은 다시 외부 시스템으로 간다")
+        void notCachedAfterCompletion() {
+            singleFlight.execute("/api/giro/bills", upstreamCalls::incrementAndGet);
+            singleFlight.execute("/api/giro/bills", upstreamCalls::incrementAndGet);
+
+            assertEquals(2, upstreamCalls.get());
+            assertEquals(0, singleFlight.getCoalesced());
+        }
+    }
+
+    @Nested
+    @DisplayName("비동기 호출")
+    class AsyncCases {
+
+        private final CompletableFuture<String> exchange = new CompletableFuture<>();
+
+        private CompletableFuture<String> call(String key) {
+            return singleFlight.executeAsync(key, () -> {
+                upstreamCalls.incrementAndGet();
+                return exchange;
+            });
+        }
+
+        @Test
+        @DisplayName("같은 키는 하나의 교환을 공유하고, 다른 키는 따로 보낸다")
+        void coalesced() throws Exception {
+            CompletableFuture<String> first = call("/api/giro/bills?cust_id=C001");
+            CompletableFuture<String> second = call("/api/giro/bills?cust_id=C001");
+            call("/api/giro/bills?cust_id=C002");
+
+            exchange.complete("bills");
+
+            assertEquals("bills", first.get(1, TimeUnit.SECONDS));
+            assertEquals("bills", second.get(1, TimeUnit.SECONDS));
+            assertEquals(2, upstreamCalls.get());
+            assertEquals(1, singleFlight.getCoalesced());
+        }
+
+        @Test
+        @DisplayName("일부 대기자가 취소해도 교환은 계속되고, 모두 취소하면 교환도 취소된다")
+        void cancellation() throws Exception {
+            CompletableFuture<String> first = call("/api/giro/bills");
+            CompletableFuture<String> second = call("/api/giro/bills");
+
+            first.cancel(false);
+            assertFalse(exchange.isCancelled());
+
+            second.cancel(false);
+            assertTrue(exchange.isCancelled());
+
+            // 버려진 호출에는 합류하지 않고 새로 보낸다
+            CompletableFuture<String> third = singleFlight.executeAsync("/api/giro/bills",
+                    () -> CompletableFuture.completedFuture("fresh"));
+            assertEquals("fresh", third.get(1, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    @DisplayName("설정하지 않았거나 멱등하지 않은 거래는 합치지 않는다")
+    void notCreated() {
+        assertNull(SingleFlight.of("giro", "지로청구서목록조회", false, HttpMethod.GET));
+        assertNull(SingleFlight.of("giro", "지로납부", true, HttpMethod.POST));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.mydata.client.transport;
+
+import com.example.mydata.client.core.ExternalSystemException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ResponseBodies 테스트")
+class ResponseBodiesTest {
+
+    private static final byte[] BODY = "{\"result_code\":\"0000\",\"result_msg\":\"성공\"}".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    @DisplayName("gzip 과 deflate(zlib/raw) 응답의 압축을 푼다")
+    void decode() throws IOException {
+        ByteArrayOutputStream gzip = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(gzip)) {
+            out.write(BODY);
+        }
+
+        assertArrayEquals(BODY, ResponseBodies.decode(gzip.toByteArray(), "gzip"));
+        assertArrayEquals(BODY, ResponseBodies.decode(deflate(false), "deflate"));
+        assertArrayEquals(BODY, ResponseBodies.decode(deflate(true), "deflate"));
+        assertSame(BODY, ResponseBodies.decode(BODY, null));
+        assertSame(BODY, ResponseBodies.decode(BODY, "identity"));
+        assertThrows(IOException.class, () -> ResponseBodies.decode(BODY, "br"));
+        assertThrows(IOException.class, () -> ResponseBodies.decode(BODY, "gzip"));
+    }
+
+    @Test
+    @DisplayName("압축을 푼 크기가 최대치를 넘으면 RESPONSE_TOO_LARGE 로 실패한다")
+    void decodeLimit() throws IOException {
+        ByteArrayOutputStream gzip = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(gzip)) {
+            out.write(new byte[1024 * 1024]);
+        }
+
+        ExternalSystemException e = assertThrows(ExternalSystemException.class,
+                () -> ResponseBodies.decode(gzip.toByteArray(), "gzip", 64 * 1024));
+        assertEquals("RESPONSE_TOO_LARGE", e.getErrorCode());
+        assertEquals(1024 * 1024, ResponseBodies.decode(gzip.toByteArray(), "gzip", 1024 * 1024).length);
+        assertArrayEquals(BODY, ResponseBodies.decodeForLog(BODY, "gzip"));
+    }
+
+    @Test
+    @DisplayName("예상 크기가 맞으면 그 배열을 그대로, 틀리면 실제 크기로 맞춰 반환한다")
+    void readWithSizeHint() throws IOException {
+        byte[] large = "가".repeat(10_000).getBytes(StandardCharsets.UTF_8);
+
+        assertArrayEquals(BODY, ResponseBodies.read(new ByteArrayInputStream(BODY), BODY.length, 1024));
+        assertArrayEquals(BODY, ResponseBodies.read(new ByteArrayInputStream(BODY), 4, 1024));
+        assertArrayEquals(BODY, ResponseBodies.read(new ByteArrayInputStream(BODY), 4096, 8192));
+        assertArrayEquals(large, ResponseBodies.read(new ByteArrayInputStream(large), 0, large.length));
+        assertThrows(ExternalSystemException.class,
+                () -> ResponseBodies.read(new ByteArrayInputStream(large), 0, large.length - 1));
+    }
+
+    @Test
+    @DisplayName("UTF-8 이 아닌 본문만 UTF-8 로 바꾼다")
+    void utf8() {
+        byte[] eucKr = "성공".getBytes(Charset.forName("EUC-KR"));
+
+        assertArrayEquals("성공".getBytes(StandardCharsets.UTF_8), ResponseBodies.utf8(eucKr, Charset.forName("EUC-KR")));
+        assertSame(BODY, ResponseBodies.utf8(BODY, StandardCharsets.UTF_8));
+        assertSame(BODY, ResponseBodies.utf8(BODY, null));
+    }
+
+    @Test
+    @DisplayName("로그용 미리보기는 앞부분만 남긴다")
+    void preview() {
+        byte[] large = "a".repeat(ResponseBodies.PREVIEW_BYTES + 100).getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(new String(BODY, StandardCharsets.UTF_8), ResponseBodies.preview(BODY));
+        assertEquals("a".repeat(ResponseBodies.PREVIEW_BYTES) + "...(" + large.length + " bytes)",
+                ResponseBodies.preview(large));
+    }
+
+    private static byte[] deflate(boolean raw) throws IOException {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, raw);
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (DeflaterOutputStream out = new DeflaterOutputStream(buffer, deflater)) {
+            out.write(BODY);
+        } finally {
+            deflater.end();
+        }
+        return buffer.toByteArray();
+    }
+}
@@ -0,0 +1,191 @@
+package com.example.mydata.controller;
+
+import com.example.mydata.client.bank.BankMessageClient;
+import com.example.mydata.client.core.ExternalSystemException;
+import com.example.mydata.client.core.GenericHttpClient;
+import com.example.mydata.client.core.MessageSpecProperties;
+import com.example.mydata.client.core.PaginationProperties;
+import com.example.mydata.client.core.SystemProperties;
+import com.example.mydata.client.giro.GiroMessageClient;
+import com.example.mydata.service.MydataService;
+import com.example.mydata.service.SummaryProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MydataController NDJSON 스트림 테스트")
+class MydataControllerStreamTest {
+
+    private static final int TOTAL = 250;
+
+    private HttpServer server;
+    private CloseableHttpAsyncClient asyncClient;
+    private MydataController controller;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        // 계좌번호 missing 은 첫 페이지부터, broken 은 두 번째 페이지부터 업무 오류
+        server.createContext("/api/bank/accounts", exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            String query = String.valueOf(exchange.getRequestURI().getQuery());
+            int from = query.contains("cursor=") ? Integer.parseInt(query.replaceAll(".*cursor=(\\d+).*", "$1")) : 0;
+            if (path.contains("/missing/") || (path.contains("/broken/") && from > 0)) {
+                respond(exchange, "{\"result_code\": \"E002\", \"result_msg\": \"계좌를 찾을 수 없습니다\"}");
+                return;
+            }
+            int to = Math.min(TOTAL, from + 100);
+            StringBuilder body = new StringBuilder("{\"result_code\": \"0000\", \"result_msg\": \"성공\", \"data\": [");
+            for (int i = from; i < to; i++) {
+                body.append(i > from ? "," : "").append("{\"transactionId\": \"T").append(i).append("\", \"amount\": ").append(i).append('}');
+            }
+            body.append("], \"next_cursor\": ").append(to < TOTAL ? "\"" + to + "\"" : "null").append('}');
+            respond(exchange, body.toString());
+        });
+        server.createContext("/api/giro/bills", exchange -> respond(exchange, """
+                {"rsp_cd": "000", "rsp_msg": "정상처리", "rsp_data": [
+                  {"bill_no": "BILL-2024-001", "bill_nm": "전기요금", "pay_amt": 50000},
+                  {"bill_no": "BILL-2024-002", "bill_nm": "수도요금", "pay_amt": 30000}
+                ]}
+                """));
+        server.start();
+
+        asyncClient = HttpAsyncClients.createDefault();
+        asyncClient.start();
+        GenericHttpClient httpClient = new GenericHttpClient(RestClient.create(), asyncClient);
+        String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+
+        MessageSpecProperties transactions = spec("계좌거래내역조회", "/api/bank/accounts/{accountNo}/transactions");
+        transactions.setPathVariables(List.of("accountNo"));
+        transactions.setQueryParams(Map.of("fromDate", "fromDate", "toDate", "toDate"));
+        PaginationProperties pagination = new PaginationProperties();
+        pagination.setCursorField("next_cursor");
+        pagination.setCursorParam("cursor");
+        pagination.setSizeParam("size");
+        pagination.setPageSize(100);
+        transactions.setPagination(pagination);
+
+        MessageSpecProperties bills = spec("지로청구서목록조회", "/api/giro/bills");
+        bills.setQueryParams(Map.of("cust_id", "custId"));
+        bills.setResponseMapping(Map.of("bill_no", "billNumber", "bill_nm", "billName", "pay_amt", "paymentAmount"));
+
+        MydataService mydataService = new MydataService(
+                new BankMessageClient(httpClient, system(baseUrl, "result_code", "0000", "result_msg", "data", transactions), objectMapper),
+                null,
+                null,
+                new GiroMessageClient(httpClient, system(baseUrl, "rsp_cd", "000", "rsp_msg", "rsp_data", bills), objectMapper),
+                new SummaryProperties());
+        controller = new MydataController(mydataService, objectMapper);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        asyncClient.close();
+        server.stop(0);
+    }
+
+    private SystemProperties system(String baseUrl, String codeField, String codeValue, String msgField,
+                                    String dataField, MessageSpecProperties spec) {
+        SystemProperties properties = new SystemProperties();
+        properties.setBaseUrl(baseUrl);
+        properties.setSuccessCodeField(codeField);
+        properties.setSuccessCodeValue(codeValue);
+        properties.setErrorMessageField(msgField);
+        properties.setDataField(dataField);
+        properties.setMessages(Map.of(spec.getTransactionCode(), spec));
+        return properties;
+    }
+
+    private MessageSpecProperties spec(String transactionCode, String path) {
+        MessageSpecProperties spec = new MessageSpecProperties();
+        spec.setTransactionCode(transactionCode);
+        spec.setPath(path);
+        return spec;
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private List<JsonNode> lines(ResponseEntity<StreamingResponseBody> response) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        return lines;
+    }
+
+    @Test
+    @DisplayName("거래내역은 모든 페이지의 항목을 한 줄에 하나씩 쓴다")
+    void transactionHistory() throws IOException {
+        ResponseEntity<StreamingResponseBody> response =
+                controller.streamTransactionHistory("110-234-567890", "20240101", "20241231");
+
+        assertEquals("application/x-ndjson", response.getHeaders().getContentType().toString());
+        List<JsonNode> lines = lines(response);
+        assertEquals(TOTAL, lines.size());
+        assertEquals("T0", lines.get(0).get("transactionId").asText());
+        assertEquals(TOTAL - 1, lines.get(TOTAL - 1).get("amount").asInt());
+    }
+
+    @Test
+    @DisplayName("청구서 목록은 응답 매핑을 적용한 항목을 쓴다")
+    void billList() throws IOException {
+        List<JsonNode> lines = lines(controller.streamBillList("C001"));
+
+        assertEquals(2, lines.size());
+        assertEquals("BILL-2024-002", lines.get(1).get("billNumber").asText());
+        assertEquals(30000, lines.get(1).get("paymentAmount").asLong());
+    }
+
+    @Test
+    @DisplayName("첫 페이지 실패는 응답을 쓰기 전에 ExternalSystemException 으로 던진다")
+    void firstPageError() {
+        ExternalSystemException e = assertThrows(ExternalSystemException.class,
+                () -> controller.streamTransactionHistory("missing", "20240101", "20241231"));
+
+        assertEquals("E002", e.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("중간 페이지 실패는 받은 항목 뒤에 오류 응답 한 줄을 쓴다")
+    void midStreamError() throws IOException {
+        List<JsonNode> lines = lines(controller.streamTransactionHistory("broken", "20240101", "20241231"));
+
+        assertEquals(101, lines.size());
+        JsonNode last = lines.get(100);
+        assertEquals("E001", last.get("resultCode").asText());
+        assertEquals("E002", last.get("externalErrorCode").asText());
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.mydata.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MydataResponse 테스트")
+class MydataResponseTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("successJson 은 success(data) 를 직렬화한 것과 같은 바이트를 만든다")
+    void successJson_sameAsSerialized() throws Exception {
+        Map<String, Object> data = Map.of("items", List.of(Map.of("accountNo", "110-234-567890")));
+        byte[] serializedData = objectMapper.writeValueAsBytes(data);
+
+        byte[] spliced = MydataResponse.successJson(serializedData);
+
+        assertEquals(new String(objectMapper.writeValueAsBytes(MydataResponse.success(data)), StandardCharsets.UTF_8),
+                new String(spliced, StandardCharsets.UTF_8));
+    }
+}
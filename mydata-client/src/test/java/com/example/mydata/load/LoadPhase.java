@@ -0,0 +1,17 @@
+package com.example.mydata.load;
+
+import java.time.Duration;
+
+/**
+ * 부하 구간 하나. 구간 동안 도착률(req/s)을 fromRate 에서 toRate 로 선형으로 바꾼다.
+ */
+public record LoadPhase(String name, Duration duration, double fromRate, double toRate) {
+
+    /**
+     * 구간 시작 후 elapsedNanos 시점의 도착률
+     */
+    double rateAt(long elapsedNanos) {
+        double progress = Math.min((double) elapsedNanos / duration.toNanos(), 1.0);
+        return fromRate + (toRate - fromRate) * progress;
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.mydata.load;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 램프업 → 정상 상태 → 쿨다운 부하 형태.
+ * 램프업/쿨다운은 목표 도착률의 10% 와 목표 사이를 선형으로 오가며, 길이가 0 이면 생략한다.
+ */
+public record LoadProfile(double targetRate, List<LoadPhase> phases) {
+
+    static final String RAMP_UP = "ramp-up";
+    static final String STEADY = "steady";
+    static final String COOL_DOWN = "cool-down";
+
+    public static LoadProfile of(double targetRate, Duration rampUp, Duration steady, Duration coolDown) {
+        if (targetRate <= 0) {
+            throw new IllegalArgumentException("targetRate 는 0 보다 커야 합니다: " + targetRate);
+        }
+        double floor = targetRate * 0.1;
+        List<LoadPhase> phases = new ArrayList<>();
+        if (!rampUp.isZero()) {
+            phases.add(new LoadPhase(RAMP_UP, rampUp, floor, targetRate));
+        }
+        phases.add(new LoadPhase(STEADY, steady, targetRate, targetRate));
+        if (!coolDown.isZero()) {
+            phases.add(new LoadPhase(COOL_DOWN, coolDown, targetRate, floor));
+        }
+        return new LoadProfile(targetRate, List.copyOf(phases));
+    }
+
+    /**
+     * 정상 상태 구간만 있는 부하
+     */
+    public static LoadProfile constant(double rate, Duration duration) {
+        return of(rate, Duration.ZERO, duration, Duration.ZERO);
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.mydata.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 시나리오 하나의 부하 결과 (JSON 으로 저장). 지연시간 단위는 마이크로초이다.
+ */
+public record LoadReport(String scenario, double targetRate, int maxConcurrency, List<Phase> phases) {
+
+    private static final ObjectMapper JSON = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    public record Phase(String name, long durationMs, double fromRate, double toRate,
+                        long sent, long succeeded, Map<String, Long> errors, double achievedRate,
+                        Latency responseTime, Latency serviceTime) {
+
+        public long failed() {
+            return errors.values().stream().mapToLong(Long::longValue).sum();
+        }
+    }
+
+    public record Latency(long count, double mean, long p50, long p90, long p99, long p999, long max) {
+
+        static Latency of(Histogram histogram) {
+            return new Latency(histogram.getTotalCount(),
+                    Math.round(histogram.getMean() / 100.0) / 10.0,
+                    micros(histogram.getValueAtPercentile(50)),
+                    micros(histogram.getValueAtPercentile(90)),
+                    micros(histogram.getValueAtPercentile(99)),
+                    micros(histogram.getValueAtPercentile(99.9)),
+                    micros(histogram.getMaxValue()));
+        }
+
+        private static long micros(long nanos) {
+            return nanos / 1_000;
+        }
+    }
+
+    public Phase phase(String name) {
+        return phases.stream()
+                .filter(p -> p.name().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("구간 없음: " + name));
+    }
+
+    /**
+     * dir/{scenario}.json 으로 저장하고 경로를 반환한다.
+     */
+    public Path writeTo(Path dir) {
+        try {
+            Files.createDirectories(dir);
+            Path file = dir.resolve(scenario.replaceAll("[^\\w.-]", "_") + ".json");
+            JSON.writeValue(file.toFile(), this);
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 콘솔 요약 (구간별 성공/실패, 달성 도착률, 응답시간/서비스시간 백분위)
+     */
+    public String summary() {
+        StringBuilder out = new StringBuilder();
+        out.append("\n========================================\n");
+        out.append(String.format("  Load Report: %s (target %.0f req/s, concurrency %d)%n", scenario, targetRate, maxConcurrency));
+        out.append("========================================\n");
+        for (Phase phase : phases) {
+            out.append(String.format("  [%s] sent=%d ok=%d failed=%d rate=%.1f req/s %s%n",
+                    phase.name(), phase.sent(), phase.succeeded(), phase.failed(), phase.achievedRate(),
+                    phase.errors().isEmpty() ? "" : phase.errors()));
+            out.append(format("    response", phase.responseTime()));
+            out.append(format("    service ", phase.serviceTime()));
+        }
+        out.append("========================================\n");
+        return out.toString();
+    }
+
+    private static String format(String label, Latency latency) {
+        return String.format("%s p50=%dus p90=%dus p99=%dus p99.9=%dus max=%dus%n",
+                label, latency.p50(), latency.p90(), latency.p99(), latency.p999(), latency.max());
+    }
+}
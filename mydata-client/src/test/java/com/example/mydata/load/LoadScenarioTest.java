@@ -0,0 +1,160 @@
+package com.example.mydata.load;
+
+import com.example.mydata.client.bank.BankMessageClient;
+import com.example.mydata.client.card.CardMessageClient;
+import com.example.mydata.client.giro.GiroMessageClient;
+import com.example.mydata.client.insurance.InsuranceMessageClient;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 기관별 MessageClient 에 고정 도착률 부하를 거는 시나리오. 외부 시스템은 loopback HTTP 서버로 대체한다.
+ * 결과는 target/load-reports/{시나리오}.json 으로 저장된다.
+ * <p>
+ * Run: mvn test -pl mydata-client "-Dtest=LoadScenarioTest" "-Dsurefire.excludedGroups="
+ * <br>
+ * 옵션: -Dload.rate=200 -Dload.ramp-up=2 -Dload.steady=10 -Dload.cool-down=2 (초) -Dload.concurrency=32 -Dload.server-delay-ms=2
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@Tag("load")
+class LoadScenarioTest {
+
+    private static final Path REPORT_DIR = Path.of("target", "load-reports");
+    private static final long SERVER_DELAY_MS = Long.getLong("load.server-delay-ms", 2);
+    private static final HttpServer SERVER = startServer();
+
+    @Autowired
+    private BankMessageClient bankMessageClient;
+
+    @Autowired
+    private CardMessageClient cardMessageClient;
+
+    @Autowired
+    private InsuranceMessageClient insuranceMessageClient;
+
+    @Autowired
+    private GiroMessageClient giroMessageClient;
+
+    @DynamicPropertySource
+    static void externalSystems(DynamicPropertyRegistry registry) {
+        String baseUrl = "http://127.0.0.1:" + SERVER.getAddress().getPort();
+        for (String system : new String[]{"bank", "card", "insurance", "giro"}) {
+            registry.add("external-systems." + system + ".base-url", () -> baseUrl);
+        }
+    }
+
+    @AfterAll
+    static void stopServer() {
+        SERVER.stop(0);
+    }
+
+    private static HttpServer startServer() {
+        // 응답 헤더와 본문을 따로 쓰므로 Nagle 알고리즘이 켜져 있으면 요청마다 지연 ACK(약 40ms)를 기다린다
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+            respond(server, "/api/bank/", """
+                    {"result_code":"0000","result_msg":"성공","data":[
+                      {"transactionId":"TX001","type":"DEPOSIT","amount":3500000,"description":"급여"},
+                      {"transactionId":"TX002","type":"WITHDRAWAL","amount":1200000,"description":"월세"},
+                      {"transactionId":"TX003","type":"WITHDRAWAL","amount":85000,"description":"통신비"}]}
+                    """);
+            respond(server, "/api/card/", """
+                    {"status":"SUCCESS","message":"성공","payload":{"cardNo":"1234-5678-9012-3456","paymentDate":"2024-12-15","totalAmount":1250000}}
+                    """);
+            respond(server, "/api/insurance/", """
+                    {"code":"00","msg":"성공","result":{"paymentId":"PAY001","policyNo":"POL-2024-001","amount":150000,"status":"COMPLETED"}}
+                    """);
+            respond(server, "/api/giro/", """
+                    {"rsp_cd":"000","rsp_msg":"성공","rsp_data":{"pay_no":"GP001","bill_no":"GR-2024-001","pay_amt":125000,"pay_dt":"2024-12-01","pay_st":"PAID"}}
+                    """);
+            server.setExecutor(Executors.newFixedThreadPool(64));
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void respond(HttpServer server, String path, String body) {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        server.createContext(path, exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            if (SERVER_DELAY_MS > 0) {
+                try {
+                    Thread.sleep(SERVER_DELAY_MS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+    }
+
+    private static LoadProfile profile() {
+        return LoadProfile.of(Double.parseDouble(System.getProperty("load.rate", "200")),
+                Duration.ofSeconds(Long.getLong("load.ramp-up", 2)),
+                Duration.ofSeconds(Long.getLong("load.steady", 10)),
+                Duration.ofSeconds(Long.getLong("load.cool-down", 2)));
+    }
+
+    private void run(String scenario, OpenLoadGenerator.Task task) throws InterruptedException {
+        LoadReport report = new OpenLoadGenerator(Integer.getInteger("load.concurrency", 32)).run(scenario, profile(), task);
+        Path file = report.writeTo(REPORT_DIR);
+        System.out.println(report.summary() + "  Report: " + file.toAbsolutePath());
+
+        LoadReport.Phase steady = report.phase(LoadProfile.STEADY);
+        assertTrue(steady.failed() <= steady.sent() / 100, "steady failures: " + steady.errors());
+    }
+
+    @Test
+    @DisplayName("[Bank] 계좌거래내역조회")
+    void bankTransactions() throws InterruptedException {
+        run("bank-account-transactions", index -> bankMessageClient.request("계좌거래내역조회", Map.of(
+                "accountNo", "110-234-" + (567890 + index % 100), "fromDate", "20240101", "toDate", "20241231")));
+    }
+
+    @Test
+    @DisplayName("[Card] 결제예정금액조회")
+    void cardScheduledPayment() throws InterruptedException {
+        run("card-scheduled-payment", index -> cardMessageClient.request("결제예정금액조회", Map.of(
+                "cardNo", "1234-5678-9012-" + (3456 + index % 100))));
+    }
+
+    @Test
+    @DisplayName("[Insurance] 보험료납부")
+    void insurancePremiumPayment() throws InterruptedException {
+        run("insurance-premium-payment", index -> insuranceMessageClient.request("보험료납부", Map.of(
+                "policyNo", "POL-2024-001", "amount", 150_000)));
+    }
+
+    @Test
+    @DisplayName("[Giro] 지로납부")
+    void giroPayment() throws InterruptedException {
+        run("giro-payment", index -> giroMessageClient.request("지로납부", Map.of(
+                "billNo", "GR-2024-001", "amount", 125_000)));
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.mydata.load;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 고정 도착률(open model) 부하 발생기.
+ * <p>
+ * 요청 시작 시각을 응답과 무관하게 도착률로 미리 정하고, 작업 스레드가 모두 바쁘면 요청은 대기열에서 기다린다.
+ * 대상이 느려져도 보내는 속도가 줄지 않으므로, 닫힌 루프(closed model) 측정에서 사라지는 대기 지연이 응답시간에 드러난다.
+ */
+public class OpenLoadGenerator {
+
+    private final int maxConcurrency;
+    private final Duration drainTimeout;
+
+    /**
+     * @param maxConcurrency 동시에 실행할 최대 요청 수 (호출 측 작업 스레드 수)
+     */
+    public OpenLoadGenerator(int maxConcurrency) {
+        this(maxConcurrency, Duration.ofMinutes(1));
+    }
+
+    /**
+     * @param drainTimeout 마지막 요청을 보낸 뒤 남은 요청을 기다리는 시간. 넘으면 남은 요청은 UNFINISHED 실패로 기록한다
+     */
+    public OpenLoadGenerator(int maxConcurrency, Duration drainTimeout) {
+        this.maxConcurrency = maxConcurrency;
+        this.drainTimeout = drainTimeout;
+    }
+
+    /**
+     * 부하 형태대로 요청을 보내고, 모든 요청이 끝난 뒤 구간별 결과를 반환한다.
+     *
+     * @param task 요청 하나. 인자는 0 부터 증가하는 요청 순번이며, 예외를 던지면 실패로 기록한다
+     */
+    public LoadReport run(String scenario, LoadProfile profile, Task task) throws InterruptedException {
+        AtomicInteger threadSequence = new AtomicInteger();
+        ThreadPoolExecutor workers = (ThreadPoolExecutor) Executors.newFixedThreadPool(maxConcurrency, runnable -> {
+            Thread thread = new Thread(runnable, "load-" + scenario + "-" + threadSequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        List<PhaseRecorder> recorders = new ArrayList<>();
+        Set<Request> running = ConcurrentHashMap.newKeySet();
+        long sequence = 0;
+        try {
+            long phaseStart = System.nanoTime();
+            for (LoadPhase phase : profile.phases()) {
+                PhaseRecorder recorder = new PhaseRecorder(phase);
+                recorders.add(recorder);
+                long phaseNanos = phase.duration().toNanos();
+                long offset = 0;
+                while (offset < phaseNanos) {
+                    long intendedStart = phaseStart + offset;
+                    waitUntil(intendedStart);
+                    long index = sequence++;
+                    recorder.sent();
+                    workers.execute(new Request(task, index, intendedStart, recorder, running));
+                    offset += (long) (1e9 / Math.max(phase.rateAt(offset), 0.1));
+                }
+                phaseStart += phaseNanos;
+            }
+        } finally {
+            workers.shutdown();
+        }
+        if (!workers.awaitTermination(drainTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+            // 끝나지 못한 요청을 빼면 과부하 구간의 백분위가 좋아 보이므로 최대 지연의 실패로 남긴다.
+            // 인터럽트로 끝난 요청이 짧은 지연으로 기록되지 않도록 shutdownNow 전에 표시한다
+            List<Runnable> dropped = new ArrayList<>();
+            workers.getQueue().drainTo(dropped);
+            dropped.forEach(request -> ((Request) request).unfinished());
+            running.forEach(Request::unfinished);
+            workers.shutdownNow().forEach(request -> ((Request) request).unfinished());
+        }
+        return new LoadReport(scenario, profile.targetRate(), maxConcurrency,
+                recorders.stream().map(PhaseRecorder::report).toList());
+    }
+
+    private static void waitUntil(long deadline) throws InterruptedException {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+    }
+
+    /**
+     * 대기열의 요청 하나. 완료와 미완료 중 먼저 일어난 것 하나만 기록한다.
+     */
+    private static final class Request implements Runnable {
+
+        private final Task task;
+        private final long index;
+        private final long intendedStart;
+        private final PhaseRecorder recorder;
+        private final Set<Request> running;
+        private final AtomicBoolean done = new AtomicBoolean();
+
+        Request(Task task, long index, long intendedStart, PhaseRecorder recorder, Set<Request> running) {
+            this.task = task;
+            this.index = index;
+            this.intendedStart = intendedStart;
+            this.recorder = recorder;
+            this.running = running;
+        }
+
+        @Override
+        public void run() {
+            running.add(this);
+            long actualStart = System.nanoTime();
+            Throwable failure = null;
+            try {
+                task.run(index);
+            } catch (Throwable e) {
+                failure = e;
+            } finally {
+                running.remove(this);
+            }
+            if (done.compareAndSet(false, true)) {
+                recorder.record(intendedStart, actualStart, System.nanoTime(), failure);
+            }
+        }
+
+        void unfinished() {
+            if (done.compareAndSet(false, true)) {
+                recorder.unfinished();
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface Task {
+
+        void run(long index) throws Exception;
+    }
+}
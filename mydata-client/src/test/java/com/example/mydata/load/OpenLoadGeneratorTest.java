@@ -0,0 +1,94 @@
+package com.example.mydata.load;
+
+import com.example.mydata.client.core.ExternalSystemException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("OpenLoadGenerator 테스트")
+class OpenLoadGeneratorTest {
+
+    @Test
+    @DisplayName("응답 속도와 무관하게 목표 도착률로 요청을 보낸다")
+    void constantArrivalRate() throws Exception {
+        LoadReport report = new OpenLoadGenerator(4).run("constant", LoadProfile.constant(200, Duration.ofSeconds(1)),
+                index -> Thread.sleep(5));
+
+        LoadReport.Phase steady = report.phase(LoadProfile.STEADY);
+        assertEquals(200, steady.sent());
+        assertEquals(200, steady.succeeded());
+        // 5ms 작업 4개 동시 실행이면 닫힌 루프로는 최대 800 req/s, 여기서는 도착률 그대로
+        assertEquals(200, steady.achievedRate(), 20);
+    }
+
+    @Test
+    @DisplayName("작업이 멈춘 동안 쌓인 요청의 대기시간이 응답시간에 반영된다 (coordinated omission 보정)")
+    void coordinatedOmission() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        LoadReport report = new OpenLoadGenerator(1).run("stall", LoadProfile.constant(100, Duration.ofSeconds(1)),
+                index -> {
+                    if (calls.incrementAndGet() == 20) {
+                        Thread.sleep(300);
+                    }
+                });
+
+        LoadReport.Phase steady = report.phase(LoadProfile.STEADY);
+        // 서비스시간은 한 건만 느리지만, 그동안 도착한 약 30건이 줄을 서서 기다렸다
+        assertTrue(steady.serviceTime().p90() < 20_000, "service p90=" + steady.serviceTime().p90());
+        assertTrue(steady.responseTime().p90() > 50_000, "response p90=" + steady.responseTime().p90());
+        assertTrue(steady.responseTime().max() >= 290_000, "response max=" + steady.responseTime().max());
+    }
+
+    @Test
+    @DisplayName("대기 시간 안에 끝나지 못한 요청은 버리지 않고 최대 지연의 UNFINISHED 실패로 기록한다")
+    void unfinishedRequests() throws Exception {
+        CountDownLatch stuck = new CountDownLatch(1);
+        LoadReport report = new OpenLoadGenerator(1, Duration.ofMillis(200))
+                .run("overload", LoadProfile.constant(50, Duration.ofMillis(200)), index -> {
+                    if (index == 0) {
+                        stuck.await();
+                    }
+                });
+        stuck.countDown();
+
+        LoadReport.Phase steady = report.phase(LoadProfile.STEADY);
+        assertEquals(10, steady.sent());
+        assertEquals(0, steady.succeeded());
+        assertEquals(Map.of(PhaseRecorder.UNFINISHED, 10L), steady.errors());
+        assertEquals(10, steady.responseTime().count());
+        assertTrue(steady.responseTime().p50() >= 59_000_000, "response p50=" + steady.responseTime().p50());
+    }
+
+    @Test
+    @DisplayName("램프업/정상/쿨다운 구간별로 집계하고 실패는 에러코드별로 센다")
+    void phasesAndErrors(@TempDir Path dir) throws Exception {
+        LoadProfile profile = LoadProfile.of(100, Duration.ofMillis(500), Duration.ofMillis(500), Duration.ofMillis(500));
+        LoadReport report = new OpenLoadGenerator(4).run("phases", profile, index -> {
+            if (index % 10 == 0) {
+                throw new ExternalSystemException("SERVER_ERROR", "외부 시스템 서버 오류 (500)");
+            }
+        });
+
+        assertEquals(3, report.phases().size());
+        LoadReport.Phase rampUp = report.phase(LoadProfile.RAMP_UP);
+        LoadReport.Phase steady = report.phase(LoadProfile.STEADY);
+        assertTrue(rampUp.sent() < steady.sent(), rampUp.sent() + " < " + steady.sent());
+        assertEquals(50, steady.sent());
+        long failed = report.phases().stream().mapToLong(LoadReport.Phase::failed).sum();
+        long sent = report.phases().stream().mapToLong(LoadReport.Phase::sent).sum();
+        assertEquals((sent + 9) / 10, failed);
+        assertEquals(Map.of("SERVER_ERROR", steady.failed()), steady.errors());
+
+        Path file = report.writeTo(dir);
+        assertTrue(Files.readString(file).contains("\"responseTime\""));
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.mydata.load;
+
+import com.example.mydata.client.core.ExternalSystemException;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 구간 하나의 지연시간/결과 기록기 (여러 작업 스레드에서 동시에 기록).
+ * <p>
+ * 응답시간은 예정 시작 시각부터, 서비스시간은 실제 시작 시각부터 잰다.
+ * 예정 시각 기준으로 재야 대기열에서 기다린 시간이 빠지지 않는다 (coordinated omission 보정).
+ */
+class PhaseRecorder {
+
+    /** 기록 가능한 최대 지연시간. 넘는 값은 최대값으로 기록한다 */
+    private static final long MAX_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    static final String UNFINISHED = "UNFINISHED";
+
+    private final LoadPhase phase;
+    private final Histogram responseTime = new ConcurrentHistogram(MAX_TRACKABLE_NANOS, 3);
+    private final Histogram serviceTime = new ConcurrentHistogram(MAX_TRACKABLE_NANOS, 3);
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder succeeded = new LongAdder();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    PhaseRecorder(LoadPhase phase) {
+        this.phase = phase;
+    }
+
+    void sent() {
+        sent.increment();
+    }
+
+    void record(long intendedStart, long actualStart, long end, Throwable failure) {
+        responseTime.recordValue(Math.min(end - intendedStart, MAX_TRACKABLE_NANOS));
+        serviceTime.recordValue(Math.min(end - actualStart, MAX_TRACKABLE_NANOS));
+        if (failure == null) {
+            succeeded.increment();
+        } else {
+            String code = failure instanceof ExternalSystemException e ? e.getErrorCode() : failure.getClass().getSimpleName();
+            errors.computeIfAbsent(code, c -> new LongAdder()).increment();
+        }
+    }
+
+    /**
+     * 부하 종료 시 끝나지 못한(대기열에 남았거나 실행 중인) 요청. 최대 지연시간의 실패(UNFINISHED)로 기록한다.
+     */
+    void unfinished() {
+        responseTime.recordValue(MAX_TRACKABLE_NANOS);
+        errors.computeIfAbsent(UNFINISHED, c -> new LongAdder()).increment();
+    }
+
+    LoadReport.Phase report() {
+        Map<String, Long> errorCounts = new TreeMap<>();
+        errors.forEach((code, count) -> errorCounts.put(code, count.sum()));
+        double seconds = phase.duration().toNanos() / 1e9;
+        return new LoadReport.Phase(phase.name(), phase.duration().toMillis(), phase.fromRate(), phase.toRate(),
+                sent.sum(), succeeded.sum(), errorCounts, succeeded.sum() / seconds,
+                LoadReport.Latency.of(responseTime), LoadReport.Latency.of(serviceTime));
+    }
+}
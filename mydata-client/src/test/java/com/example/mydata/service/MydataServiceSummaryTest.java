@@ -0,0 +1,146 @@
+package com.example.mydata.service;
+
+import com.example.mydata.client.bank.BankMessageClient;
+import com.example.mydata.client.card.CardMessageClient;
+import com.example.mydata.client.core.GenericHttpClient;
+import com.example.mydata.client.core.MessageSpecProperties;
+import com.example.mydata.client.core.SystemProperties;
+import com.example.mydata.client.giro.GiroMessageClient;
+import com.example.mydata.client.insurance.InsuranceMessageClient;
+import com.example.mydata.dto.InstitutionResult;
+import com.example.mydata.dto.MydataSummary;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MydataService 통합조회 테스트")
+class MydataServiceSummaryTest {
+
+    private HttpServer server;
+    private CloseableHttpAsyncClient asyncClient;
+    private MydataService mydataService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        respond("/api/bank/accounts", 300, 200, """
+                {"result_code": "0000", "result_msg": "성공", "data": [{"accountNo": "110-234-567890"}]}
+                """);
+        respond("/api/card/cards", 300, 200, """
+                {"status": "SUCCESS", "message": "처리완료", "payload": [{"cardNo": "1234-5678-9012-3456"}]}
+                """);
+        respond("/api/insurance/policies", 0, 200, """
+                {"code": "INS001", "msg": "고객을 찾을 수 없습니다"}
+                """);
+        respond("/api/giro/bills", 5_000, 200, """
+                {"rsp_cd": "000", "rsp_msg": "정상처리", "rsp_data": []}
+                """);
+        server.start();
+
+        asyncClient = HttpAsyncClients.createDefault();
+        asyncClient.start();
+        GenericHttpClient httpClient = new GenericHttpClient(RestClient.create(), asyncClient);
+        ObjectMapper objectMapper = new ObjectMapper();
+        String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+
+        SummaryProperties summaryProperties = new SummaryProperties();
+        summaryProperties.setDefaultDeadline(Duration.ofSeconds(2));
+        summaryProperties.setDeadlines(Map.of("giro", Duration.ofMillis(500)));
+
+        mydataService = new MydataService(
+                new BankMessageClient(httpClient, system(baseUrl, "result_code", "0000", "result_msg", "data",
+                        spec("계좌목록조회", "/api/bank/accounts", Map.of())), objectMapper),
+                new CardMessageClient(httpClient, system(baseUrl, "status", "SUCCESS", "message", "payload",
+                        spec("보유카드목록조회", "/api/card/cards", Map.of())), objectMapper),
+                new InsuranceMessageClient(httpClient, system(baseUrl, "code", "00", "msg", "result",
+                        spec("보험가입내역조회", "/api/insurance/policies", Map.of("customerId", "customerId"))), objectMapper),
+                new GiroMessageClient(httpClient, system(baseUrl, "rsp_cd", "000", "rsp_msg", "rsp_data",
+                        spec("지로청구서목록조회", "/api/giro/bills", Map.of("cust_id", "custId"))), objectMapper),
+                summaryProperties);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        asyncClient.close();
+        server.stop(0);
+    }
+
+    private SystemProperties system(String baseUrl, String codeField, String codeValue, String msgField,
+                                    String dataField, MessageSpecProperties spec) {
+        SystemProperties properties = new SystemProperties();
+        properties.setBaseUrl(baseUrl);
+        properties.setSuccessCodeField(codeField);
+        properties.setSuccessCodeValue(codeValue);
+        properties.setErrorMessageField(msgField);
+        properties.setDataField(dataField);
+        properties.setMessages(Map.of(spec.getTransactionCode(), spec));
+        return properties;
+    }
+
+    private MessageSpecProperties spec(String transactionCode, String path, Map<String, String> queryParams) {
+        MessageSpecProperties spec = new MessageSpecProperties();
+        spec.setTransactionCode(transactionCode);
+        spec.setPath(path);
+        spec.setQueryParams(queryParams);
+        return spec;
+    }
+
+    private void respond(String path, long delayMs, int status, String body) {
+        server.createContext(path, exchange -> {
+            try {
+                Thread.sleep(delayMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            try {
+                exchange.sendResponseHeaders(status, bytes.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(bytes);
+                }
+            } catch (IOException ignored) {
+                // 클라이언트가 기한 초과로 연결을 끊은 경우
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("기관별 상태와 함께 부분 결과를 반환하고, 지연시간은 가장 느린 기관에 수렴한다")
+    void summary_partialResults() throws Exception {
+        long start = System.nanoTime();
+        MydataSummary summary = mydataService.getSummary("C001").get(5, TimeUnit.SECONDS);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertEquals(InstitutionResult.Status.SUCCESS, summary.getAccounts().getStatus());
+        assertEquals(InstitutionResult.Status.SUCCESS, summary.getCards().getStatus());
+        assertNotNull(summary.getAccounts().getData());
+
+        assertEquals(InstitutionResult.Status.ERROR, summary.getPolicies().getStatus());
+        assertEquals("INS001", summary.getPolicies().getErrorCode());
+
+        assertEquals(InstitutionResult.Status.TIMEOUT, summary.getBills().getStatus());
+        assertNull(summary.getBills().getData());
+
+        // 순차 호출이면 300 + 300 + 500 이상, 병렬이면 가장 긴 기한(500ms) 근처
+        assertTrue(elapsedMs < 1_000, "elapsed=" + elapsedMs);
+    }
+}